@@ -29,6 +29,21 @@ public interface PartitionListener {
    */
   ActorFuture<Void> onBecomingFollower(int partitionId, long term);
 
+  /**
+   * Same as {@link #onBecomingFollower(int, long)}, but additionally provides the query service of
+   * the follower, which is backed by the replayed state of the partition. By default, the query
+   * service is ignored.
+   *
+   * @param partitionId the corresponding partition id
+   * @param term the current term
+   * @param queryService the corresponding query service
+   * @return future that should be completed by the listener
+   */
+  default ActorFuture<Void> onBecomingFollower(
+      final int partitionId, final long term, final QueryService queryService) {
+    return onBecomingFollower(partitionId, term);
+  }
+
   /**
    * Is called by the {@link io.camunda.zeebe.broker.system.partitions.ZeebePartition} on becoming
    * partition leader after all partition installation/clean up related things are done.
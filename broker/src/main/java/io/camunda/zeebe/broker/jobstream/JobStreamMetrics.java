@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.jobstream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public class JobStreamMetrics implements RemoteStreamMetrics {
   private static final String NAMESPACE = "zeebe";
@@ -35,6 +36,22 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
           .help("Total number of failures when pushing jobs to the streams")
           .register();
 
+  private static final Histogram PUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("broker_jobs_push_batch_size")
+          .help("Number of jobs coalesced into a single batched push to a stream")
+          .buckets(2, 4, 8, 16, 32)
+          .register();
+
+  private static final Histogram PUSH_BATCH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("broker_jobs_push_batch_latency")
+          .help("Time between sending a batch of jobs to a stream and receiving its acknowledgement")
+          .buckets(.001, .005, .01, .025, .05, .1, .25, .5, 1, 5)
+          .register();
+
   @Override
   public void addStream() {
     STREAM_COUNT.inc();
@@ -54,4 +71,14 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
   public void pushFailed() {
     PUSH_FAILED_COUNT.inc();
   }
+
+  @Override
+  public void batchPushed(final int batchSize) {
+    PUSH_BATCH_SIZE.observe(batchSize);
+  }
+
+  @Override
+  public void batchPushLatency(final long latencyNanos) {
+    PUSH_BATCH_LATENCY.observe(latencyNanos / 1_000_000_000D);
+  }
 }
@@ -41,6 +41,8 @@ public final class SystemContext {
       "Node id %s needs to be non negative and smaller then cluster size %s.";
   private static final String SNAPSHOT_PERIOD_ERROR_MSG =
       "Snapshot period %s needs to be larger then or equals to one minute.";
+  private static final String SNAPSHOT_MAX_REPLAY_DURATION_ERROR_MSG =
+      "Snapshot max replay duration %s must not be negative.";
   private static final String MAX_BATCH_SIZE_ERROR_MSG =
       "Expected to have an append batch size maximum which is non negative and smaller then '%d', but was '%s'.";
 
@@ -104,6 +106,12 @@ public final class SystemContext {
       throw new IllegalArgumentException(String.format(SNAPSHOT_PERIOD_ERROR_MSG, snapshotPeriod));
     }
 
+    final var snapshotMaxReplayDuration = dataCfg.getSnapshotMaxReplayDuration();
+    if (snapshotMaxReplayDuration.isNegative()) {
+      throw new IllegalArgumentException(
+          String.format(SNAPSHOT_MAX_REPLAY_DURATION_ERROR_MSG, snapshotMaxReplayDuration));
+    }
+
     if (dataCfg.getDisk().isEnableMonitoring()) {
       try {
         final FreeSpaceCfg freeSpaceCfg = dataCfg.getDisk().getFreeSpace();
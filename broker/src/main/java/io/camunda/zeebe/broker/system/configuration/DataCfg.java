@@ -29,6 +29,9 @@ public final class DataCfg implements ConfigurationEntry {
 
   private Duration snapshotPeriod = Duration.ofMinutes(5);
 
+  // disabled by default, snapshots are then only taken every snapshot period
+  private Duration snapshotMaxReplayDuration = Duration.ZERO;
+
   private int logIndexDensity = 100;
 
   // diskUsageMonitoring and watermark configs are deprecated and replaced by DiskCfg
@@ -124,6 +127,14 @@ public final class DataCfg implements ConfigurationEntry {
     this.snapshotPeriod = snapshotPeriod;
   }
 
+  public Duration getSnapshotMaxReplayDuration() {
+    return snapshotMaxReplayDuration;
+  }
+
+  public void setSnapshotMaxReplayDuration(final Duration snapshotMaxReplayDuration) {
+    this.snapshotMaxReplayDuration = snapshotMaxReplayDuration;
+  }
+
   public int getLogIndexDensity() {
     return logIndexDensity;
   }
@@ -177,6 +188,8 @@ public final class DataCfg implements ConfigurationEntry {
         + logSegmentSize
         + ", snapshotPeriod="
         + snapshotPeriod
+        + ", snapshotMaxReplayDuration="
+        + snapshotMaxReplayDuration
         + ", logIndexDensity="
         + logIndexDensity
         + ", diskUsageMonitoringEnabled="
@@ -12,6 +12,8 @@ public final class ProcessingCfg implements ConfigurationEntry {
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
   private boolean enableAsyncScheduledTasks = true;
+  private int replayReadAheadBatches = 0;
+  private boolean enableRecordMetrics = false;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -19,6 +21,10 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (replayReadAheadBatches < 0) {
+      throw new IllegalArgumentException(
+          "replayReadAheadBatches must be >= 0 but was %s".formatted(replayReadAheadBatches));
+    }
   }
 
   public int getMaxCommandsInBatch() {
@@ -37,6 +43,22 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.enableAsyncScheduledTasks = enableAsyncScheduledTasks;
   }
 
+  public int getReplayReadAheadBatches() {
+    return replayReadAheadBatches;
+  }
+
+  public void setReplayReadAheadBatches(final int replayReadAheadBatches) {
+    this.replayReadAheadBatches = replayReadAheadBatches;
+  }
+
+  public boolean isEnableRecordMetrics() {
+    return enableRecordMetrics;
+  }
+
+  public void setEnableRecordMetrics(final boolean enableRecordMetrics) {
+    this.enableRecordMetrics = enableRecordMetrics;
+  }
+
   @Override
   public String toString() {
     return "ProcessingCfg{"
@@ -44,6 +66,10 @@ public final class ProcessingCfg implements ConfigurationEntry {
         + maxCommandsInBatch
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
+        + ", replayReadAheadBatches="
+        + replayReadAheadBatches
+        + ", enableRecordMetrics="
+        + enableRecordMetrics
         + '}';
   }
 }
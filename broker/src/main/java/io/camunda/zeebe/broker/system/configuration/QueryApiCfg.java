@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 public final class QueryApiCfg {
   private boolean enabled = false;
+  private boolean followerReadsEnabled = false;
 
   public boolean isEnabled() {
     return enabled;
@@ -18,8 +19,21 @@ public final class QueryApiCfg {
     this.enabled = enabled;
   }
 
+  public boolean isFollowerReadsEnabled() {
+    return followerReadsEnabled;
+  }
+
+  public void setFollowerReadsEnabled(final boolean followerReadsEnabled) {
+    this.followerReadsEnabled = followerReadsEnabled;
+  }
+
   @Override
   public String toString() {
-    return "QueryApiCfg{" + "enabled=" + enabled + '}';
+    return "QueryApiCfg{"
+        + "enabled="
+        + enabled
+        + ", followerReadsEnabled="
+        + followerReadsEnabled
+        + '}';
   }
 }
@@ -11,6 +11,7 @@ import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.springframework.util.unit.DataSize;
 
@@ -27,6 +28,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
 
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private int hotRecordCacheSize = RocksDbConfiguration.DEFAULT_HOT_RECORD_CACHE_SIZE;
+  private Set<String> hotRecordCacheColumnFamilies = Set.of();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -120,6 +123,22 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public int getHotRecordCacheSize() {
+    return hotRecordCacheSize;
+  }
+
+  public void setHotRecordCacheSize(final int hotRecordCacheSize) {
+    this.hotRecordCacheSize = hotRecordCacheSize;
+  }
+
+  public Set<String> getHotRecordCacheColumnFamilies() {
+    return hotRecordCacheColumnFamilies;
+  }
+
+  public void setHotRecordCacheColumnFamilies(final Set<String> hotRecordCacheColumnFamilies) {
+    this.hotRecordCacheColumnFamilies = hotRecordCacheColumnFamilies;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
@@ -130,7 +149,9 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setHotRecordCacheSize(hotRecordCacheSize)
+        .setHotRecordCacheColumnFamilies(hotRecordCacheColumnFamilies);
   }
 
   @Override
@@ -154,6 +175,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", hotRecordCacheSize="
+        + hotRecordCacheSize
+        + ", hotRecordCacheColumnFamilies="
+        + hotRecordCacheColumnFamilies
         + '}';
   }
 
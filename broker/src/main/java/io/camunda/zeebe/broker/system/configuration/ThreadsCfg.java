@@ -10,6 +10,17 @@ package io.camunda.zeebe.broker.system.configuration;
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private int cpuThreadAffinityGroupCount = 1;
+  private boolean useVirtualThreadsForBlockingTasks = false;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (cpuThreadAffinityGroupCount < 1) {
+      throw new IllegalArgumentException(
+          "cpuThreadAffinityGroupCount must be >= 1 but was %s"
+              .formatted(cpuThreadAffinityGroupCount));
+    }
+  }
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +38,23 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public int getCpuThreadAffinityGroupCount() {
+    return cpuThreadAffinityGroupCount;
+  }
+
+  public void setCpuThreadAffinityGroupCount(final int cpuThreadAffinityGroupCount) {
+    this.cpuThreadAffinityGroupCount = cpuThreadAffinityGroupCount;
+  }
+
+  public boolean isUseVirtualThreadsForBlockingTasks() {
+    return useVirtualThreadsForBlockingTasks;
+  }
+
+  public void setUseVirtualThreadsForBlockingTasks(
+      final boolean useVirtualThreadsForBlockingTasks) {
+    this.useVirtualThreadsForBlockingTasks = useVirtualThreadsForBlockingTasks;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +62,10 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", cpuThreadAffinityGroupCount="
+        + cpuThreadAffinityGroupCount
+        + ", useVirtualThreadsForBlockingTasks="
+        + useVirtualThreadsForBlockingTasks
         + '}';
   }
 }
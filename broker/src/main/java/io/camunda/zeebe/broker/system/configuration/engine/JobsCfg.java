@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration.engine;
+
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.engine.EngineConfiguration;
+
+public final class JobsCfg implements ConfigurationEntry {
+  private boolean variablesProjectionEnabled =
+      EngineConfiguration.DEFAULT_JOB_VARIABLES_PROJECTION_ENABLED;
+
+  public boolean isVariablesProjectionEnabled() {
+    return variablesProjectionEnabled;
+  }
+
+  public void setVariablesProjectionEnabled(final boolean variablesProjectionEnabled) {
+    this.variablesProjectionEnabled = variablesProjectionEnabled;
+  }
+
+  @Override
+  public String toString() {
+    return "JobsCfg{" + "variablesProjectionEnabled=" + variablesProjectionEnabled + '}';
+  }
+}
@@ -7,7 +7,10 @@
  */
 package io.camunda.zeebe.broker.system.partitions.impl;
 
+import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
+
 import io.atomix.raft.RaftApplicationEntryCommittedPositionListener;
+import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
 import io.camunda.zeebe.broker.system.partitions.NoEntryAtSnapshotPosition;
 import io.camunda.zeebe.broker.system.partitions.StateController;
 import io.camunda.zeebe.logstreams.impl.Loggers;
@@ -35,9 +38,12 @@ import java.util.function.Consumer;
 import org.slf4j.Logger;
 
 public final class AsyncSnapshotDirector extends Actor
-    implements RaftApplicationEntryCommittedPositionListener, HealthMonitorable {
+    implements RaftApplicationEntryCommittedPositionListener,
+        HealthMonitorable,
+        DiskSpaceUsageListener {
 
   public static final Duration MINIMUM_SNAPSHOT_PERIOD = Duration.ofMinutes(1);
+  private static final Duration SNAPSHOT_POLICY_CHECK_INTERVAL = Duration.ofSeconds(15);
 
   private static final Logger LOG = Loggers.SNAPSHOT_LOGGER;
   private static final String LOG_MSG_WAIT_UNTIL_COMMITTED =
@@ -51,6 +57,7 @@ public final class AsyncSnapshotDirector extends Actor
 
   private final StateController stateController;
   private final Duration snapshotRate;
+  private final Duration maxReplayDuration;
   private final String processorName;
   private final StreamProcessor streamProcessor;
   private final String actorName;
@@ -59,6 +66,8 @@ public final class AsyncSnapshotDirector extends Actor
   private final Set<FailureListener> listeners = new HashSet<>();
   private final int partitionId;
   private final TreeMap<Long, ActorFuture<Void>> commitAwaiters = new TreeMap<>();
+  private final SnapshotSchedulingMetrics schedulingMetrics;
+  private SnapshotSchedulingPolicy schedulingPolicy;
   private CompletableActorFuture<PersistedSnapshot> ongoingSnapshotFuture;
 
   @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
@@ -71,16 +80,19 @@ public final class AsyncSnapshotDirector extends Actor
       final StreamProcessor streamProcessor,
       final StateController stateController,
       final Duration snapshotRate,
+      final Duration maxReplayDuration,
       final StreamProcessorMode streamProcessorMode,
       final Callable<CompletableFuture<Void>> flushLog) {
     this.streamProcessor = streamProcessor;
     this.stateController = stateController;
     processorName = streamProcessor.getName();
     this.snapshotRate = snapshotRate;
+    this.maxReplayDuration = maxReplayDuration;
     this.partitionId = partitionId;
     actorName = buildActorName("SnapshotDirector", this.partitionId);
     this.streamProcessorMode = streamProcessorMode;
     this.flushLog = flushLog;
+    schedulingMetrics = new SnapshotSchedulingMetrics(partitionId);
   }
 
   @Override
@@ -97,9 +109,13 @@ public final class AsyncSnapshotDirector extends Actor
 
   @Override
   protected void onActorStarting() {
+    schedulingPolicy =
+        new SnapshotSchedulingPolicy(
+            MINIMUM_SNAPSHOT_PERIOD, snapshotRate, maxReplayDuration, currentTimeMillis());
+
     final var firstSnapshotTime =
         RandomDuration.getRandomDurationMinuteBased(MINIMUM_SNAPSHOT_PERIOD, snapshotRate);
-    actor.schedule(firstSnapshotTime, this::scheduleSnapshotOnRate);
+    actor.schedule(firstSnapshotTime, this::scheduleSnapshotOnPolicy);
   }
 
   @Override
@@ -135,7 +151,9 @@ public final class AsyncSnapshotDirector extends Actor
    * @param partitionId partition id
    * @param streamProcessor stream processor for the partition
    * @param stateController state controller that manages state
-   * @param snapshotRate rate at which the snapshot is taken
+   * @param snapshotRate maximum interval between two snapshots
+   * @param maxReplayDuration take a snapshot earlier if replaying the log since the last snapshot
+   *     is expected to take longer than this, or never if zero
    * @return snapshot director
    */
   public static AsyncSnapshotDirector ofReplayMode(
@@ -144,12 +162,14 @@ public final class AsyncSnapshotDirector extends Actor
       final StreamProcessor streamProcessor,
       final StateController stateController,
       final Duration snapshotRate,
+      final Duration maxReplayDuration,
       final Callable<CompletableFuture<Void>> flushLog) {
     return new AsyncSnapshotDirector(
         partitionId,
         streamProcessor,
         stateController,
         snapshotRate,
+        maxReplayDuration,
         StreamProcessorMode.REPLAY,
         flushLog);
   }
@@ -162,7 +182,9 @@ public final class AsyncSnapshotDirector extends Actor
    * @param partitionId partition id
    * @param streamProcessor stream processor for the partition
    * @param stateController state controller that manages state
-   * @param snapshotRate rate at which the snapshot is taken
+   * @param snapshotRate maximum interval between two snapshots
+   * @param maxReplayDuration take a snapshot earlier if replaying the log since the last snapshot
+   *     is expected to take longer than this, or never if zero
    * @return snapshot director
    */
   public static AsyncSnapshotDirector ofProcessingMode(
@@ -171,21 +193,55 @@ public final class AsyncSnapshotDirector extends Actor
       final StreamProcessor streamProcessor,
       final StateController stateController,
       final Duration snapshotRate,
+      final Duration maxReplayDuration,
       final Callable<CompletableFuture<Void>> flushLog) {
     return new AsyncSnapshotDirector(
         partitionId,
         streamProcessor,
         stateController,
         snapshotRate,
+        maxReplayDuration,
         StreamProcessorMode.PROCESSING,
         flushLog);
   }
 
-  private void scheduleSnapshotOnRate() {
-    actor.runAtFixedRate(snapshotRate, this::trySnapshot);
+  private void scheduleSnapshotOnPolicy() {
+    final var checkInterval =
+        snapshotRate.compareTo(SNAPSHOT_POLICY_CHECK_INTERVAL) < 0
+            ? snapshotRate
+            : SNAPSHOT_POLICY_CHECK_INTERVAL;
+    actor.runAtFixedRate(checkInterval, this::evaluateSnapshotPolicy);
+    // the first snapshot is taken regardless of the policy, the same as before it was scheduled
     trySnapshot();
   }
 
+  private void evaluateSnapshotPolicy() {
+    if (ongoingSnapshotFuture != null) {
+      return;
+    }
+
+    streamProcessor
+        .getLastProcessedPositionAsync()
+        .onComplete(
+            (position, error) -> {
+              if (error != null) {
+                LOG.error(ERROR_MSG_ON_RESOLVE_PROCESSED_POS, error);
+                return;
+              }
+
+              final var decision = schedulingPolicy.evaluate(currentTimeMillis(), position);
+              schedulingMetrics.observeDecision(
+                  decision,
+                  schedulingPolicy.positionsSinceLastSnapshot(position),
+                  schedulingPolicy.estimateReplayDuration(position));
+              LOG.trace("Evaluated snapshot policy at position {}: {}", position, decision);
+
+              if (decision.shouldTakeSnapshot()) {
+                trySnapshot();
+              }
+            });
+  }
+
   /**
    * Directly take a snapshot, independently of the scheduled snapshots.
    *
@@ -249,6 +305,10 @@ public final class AsyncSnapshotDirector extends Actor
           if (snapshotError != null && inProgressSnapshot.pendingSnapshot != null) {
             inProgressSnapshot.pendingSnapshot.abort();
           }
+          if (snapshotError == null && snapshot != null) {
+            schedulingPolicy.onSnapshotTaken(
+                currentTimeMillis(), inProgressSnapshot.lowerBoundSnapshotPosition);
+          }
           // We allow only one ongoing snapshot. Reset the future to indicate there is
           // no ongoing snapshot.
           ongoingSnapshotFuture = null;
@@ -405,6 +465,16 @@ public final class AsyncSnapshotDirector extends Actor
     }
   }
 
+  @Override
+  public void onDiskSpaceNotAvailable() {
+    actor.run(() -> schedulingPolicy.setDiskSpaceAvailable(false));
+  }
+
+  @Override
+  public void onDiskSpaceAvailable() {
+    actor.run(() -> schedulingPolicy.setDiskSpaceAvailable(true));
+  }
+
   @Override
   public void onCommit(final long committedPosition) {
     newPositionCommitted(committedPosition);
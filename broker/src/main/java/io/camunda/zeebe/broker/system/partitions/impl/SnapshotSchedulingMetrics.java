@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl;
+
+import io.camunda.zeebe.broker.system.partitions.impl.SnapshotSchedulingPolicy.Decision;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import java.time.Duration;
+import java.util.Locale;
+
+final class SnapshotSchedulingMetrics {
+
+  private static final Counter DECISIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("snapshot_scheduling_decisions_total")
+          .help("Number of decisions whether to take a snapshot, by decision")
+          .labelNames("partition", "decision")
+          .register();
+
+  private static final Gauge POSITIONS_SINCE_SNAPSHOT =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("snapshot_positions_since_last_snapshot")
+          .help("Number of log positions processed since the last snapshot was taken")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge ESTIMATED_REPLAY_DURATION =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("snapshot_estimated_replay_duration_seconds")
+          .help("Estimated time to replay the log processed since the last snapshot")
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  SnapshotSchedulingMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  void observeDecision(
+      final Decision decision, final long positionsSinceSnapshot, final Duration replayDuration) {
+    DECISIONS.labels(partitionIdLabel, decision.name().toLowerCase(Locale.ROOT)).inc();
+    POSITIONS_SINCE_SNAPSHOT.labels(partitionIdLabel).set(positionsSinceSnapshot);
+    ESTIMATED_REPLAY_DURATION.labels(partitionIdLabel).set(replayDuration.toMillis() / 1000.0);
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl;
+
+import java.time.Duration;
+
+/**
+ * Decides when the {@link AsyncSnapshotDirector} should take a snapshot. Snapshots are taken at
+ * least every max interval, and at most every min interval. In between, a snapshot is taken early
+ * if the disk space is running out, since only a new snapshot allows to compact the log, or if
+ * replaying the log since the last snapshot is expected to take longer than the max replay
+ * duration. A max replay duration of zero disables the latter.
+ *
+ * <p>The replay cost is estimated from the log positions processed since the last snapshot and the
+ * highest processing throughput observed so far, both measured in positions. Positions are not
+ * records, but they grow with the log, which is all the estimate needs. Replay is usually faster
+ * than processing, so this is a conservative estimate.
+ *
+ * <p>No snapshot is taken if nothing was processed since the last snapshot.
+ */
+final class SnapshotSchedulingPolicy {
+
+  private final long minIntervalMillis;
+  private final long maxIntervalMillis;
+  private final long maxReplayDurationMillis;
+
+  private long lastSnapshotTime;
+  private long lastSnapshotPosition = -1;
+  // the log up to this position are assumed to be covered by a snapshot already
+  private long replayStartPosition = -1;
+  private long lastObservedTime;
+  private long lastObservedPosition = -1;
+  private double maxPositionsPerMilli;
+  private boolean diskSpaceAvailable = true;
+
+  SnapshotSchedulingPolicy(
+      final Duration minInterval,
+      final Duration maxInterval,
+      final Duration maxReplayDuration,
+      final long now) {
+    maxIntervalMillis = maxInterval.toMillis();
+    minIntervalMillis = Math.min(minInterval.toMillis(), maxIntervalMillis);
+    maxReplayDurationMillis = maxReplayDuration.toMillis();
+    lastSnapshotTime = now;
+    lastObservedTime = now;
+  }
+
+  Decision evaluate(final long now, final long processedPosition) {
+    observeThroughput(now, processedPosition);
+
+    if (processedPosition <= lastSnapshotPosition) {
+      return Decision.SKIP_IDLE;
+    }
+
+    final long elapsedMillis = now - lastSnapshotTime;
+    if (elapsedMillis >= maxIntervalMillis) {
+      return Decision.TAKE_ON_MAX_INTERVAL;
+    }
+    if (elapsedMillis < minIntervalMillis) {
+      return Decision.SKIP_MIN_INTERVAL;
+    }
+    if (!diskSpaceAvailable) {
+      return Decision.TAKE_ON_DISK_PRESSURE;
+    }
+    if (maxReplayDurationMillis > 0
+        && estimateReplayDuration(processedPosition).toMillis() >= maxReplayDurationMillis) {
+      return Decision.TAKE_ON_REPLAY_COST;
+    }
+
+    return Decision.SKIP_WITHIN_BUDGET;
+  }
+
+  void onSnapshotTaken(final long now, final long snapshotPosition) {
+    lastSnapshotTime = now;
+    lastSnapshotPosition = Math.max(lastSnapshotPosition, snapshotPosition);
+    replayStartPosition = Math.max(replayStartPosition, snapshotPosition);
+  }
+
+  void setDiskSpaceAvailable(final boolean diskSpaceAvailable) {
+    this.diskSpaceAvailable = diskSpaceAvailable;
+  }
+
+  long positionsSinceLastSnapshot(final long processedPosition) {
+    if (replayStartPosition < 0) {
+      return 0;
+    }
+    return Math.max(0, processedPosition - replayStartPosition);
+  }
+
+  Duration estimateReplayDuration(final long processedPosition) {
+    if (maxPositionsPerMilli <= 0) {
+      return Duration.ZERO;
+    }
+
+    return Duration.ofMillis(
+        (long) (positionsSinceLastSnapshot(processedPosition) / maxPositionsPerMilli));
+  }
+
+  private void observeThroughput(final long now, final long processedPosition) {
+    if (replayStartPosition < 0) {
+      // the position of the latest snapshot is not known, so we only count what comes after the
+      // first observation
+      replayStartPosition = processedPosition;
+    }
+
+    final long elapsedMillis = now - lastObservedTime;
+    if (lastObservedPosition >= 0 && elapsedMillis > 0 && processedPosition > lastObservedPosition) {
+      final double positionsPerMilli =
+          (double) (processedPosition - lastObservedPosition) / elapsedMillis;
+      maxPositionsPerMilli = Math.max(maxPositionsPerMilli, positionsPerMilli);
+    }
+
+    lastObservedTime = now;
+    lastObservedPosition = processedPosition;
+  }
+
+  enum Decision {
+    TAKE_ON_MAX_INTERVAL(true),
+    TAKE_ON_REPLAY_COST(true),
+    TAKE_ON_DISK_PRESSURE(true),
+    SKIP_IDLE(false),
+    SKIP_MIN_INTERVAL(false),
+    SKIP_WITHIN_BUDGET(false);
+
+    private final boolean takeSnapshot;
+
+    Decision(final boolean takeSnapshot) {
+      this.takeSnapshot = takeSnapshot;
+    }
+
+    boolean shouldTakeSnapshot() {
+      return takeSnapshot;
+    }
+  }
+}
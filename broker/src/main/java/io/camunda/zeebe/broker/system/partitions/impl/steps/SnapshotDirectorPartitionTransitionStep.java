@@ -30,6 +30,9 @@ public final class SnapshotDirectorPartitionTransitionStep implements PartitionT
       final var director = context.getSnapshotDirector();
       context.getComponentHealthMonitor().removeComponent(director.getName());
       context.getRaftPartition().getServer().removeCommittedEntryListener(director);
+      if (context.getDiskSpaceUsageMonitor() != null) {
+        context.getDiskSpaceUsageMonitor().removeDiskUsageListener(director);
+      }
       final ActorFuture<Void> future = director.closeAsync();
       future.onComplete(
           (ok, error) -> {
@@ -51,7 +54,9 @@ public final class SnapshotDirectorPartitionTransitionStep implements PartitionT
       final var server = context.getRaftPartition().getServer();
       final Callable<CompletableFuture<Void>> flushLog = server::flushLog;
 
-      final Duration snapshotPeriod = context.getBrokerCfg().getData().getSnapshotPeriod();
+      final var dataCfg = context.getBrokerCfg().getData();
+      final Duration snapshotPeriod = dataCfg.getSnapshotPeriod();
+      final Duration snapshotMaxReplayDuration = dataCfg.getSnapshotMaxReplayDuration();
       final AsyncSnapshotDirector director;
       if (targetRole == Role.LEADER) {
         director =
@@ -61,6 +66,7 @@ public final class SnapshotDirectorPartitionTransitionStep implements PartitionT
                 context.getStreamProcessor(),
                 context.getStateController(),
                 snapshotPeriod,
+                snapshotMaxReplayDuration,
                 flushLog);
       } else {
         director =
@@ -70,6 +76,7 @@ public final class SnapshotDirectorPartitionTransitionStep implements PartitionT
                 context.getStreamProcessor(),
                 context.getStateController(),
                 snapshotPeriod,
+                snapshotMaxReplayDuration,
                 flushLog);
       }
 
@@ -83,6 +90,9 @@ public final class SnapshotDirectorPartitionTransitionStep implements PartitionT
               if (targetRole == Role.LEADER) {
                 server.addCommittedEntryListener(director);
               }
+              if (context.getDiskSpaceUsageMonitor() != null) {
+                context.getDiskSpaceUsageMonitor().addDiskUsageListener(director);
+              }
             }
           });
       return future;
@@ -158,6 +158,8 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
+        .replayReadAheadBatches(context.getBrokerCfg().getProcessing().getReplayReadAheadBatches())
+        .setEnableRecordMetrics(context.getBrokerCfg().getProcessing().isEnableRecordMetrics())
         .listener(
             new StreamProcessorListener() {
               @Override
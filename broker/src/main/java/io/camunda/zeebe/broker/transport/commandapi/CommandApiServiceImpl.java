@@ -38,7 +38,9 @@ public final class CommandApiServiceImpl extends Actor
   private final CommandApiRequestHandler commandHandler;
   private final QueryApiRequestHandler queryHandler;
   private final IntHashSet leadPartitions = new IntHashSet();
+  private final IntHashSet followerQueryPartitions = new IntHashSet();
   private final ActorSchedulingService scheduler;
+  private final QueryApiCfg queryApiCfg;
 
   public CommandApiServiceImpl(
       final ServerTransport serverTransport,
@@ -49,6 +51,7 @@ public final class CommandApiServiceImpl extends Actor
     this.serverTransport = serverTransport;
     this.limiter = limiter;
     this.scheduler = scheduler;
+    this.queryApiCfg = queryApiCfg;
     commandHandler = new CommandApiRequestHandler();
     queryHandler = new QueryApiRequestHandler(queryApiCfg);
   }
@@ -70,6 +73,10 @@ public final class CommandApiServiceImpl extends Actor
       removeLeaderHandlers(leadPartition);
     }
     leadPartitions.clear();
+    for (final Integer followerPartition : followerQueryPartitions) {
+      removeFollowerQueryHandler(followerPartition);
+    }
+    followerQueryPartitions.clear();
     actor.runOnCompletion(
         commandHandler.closeAsync(),
         (ok, error) -> {
@@ -91,6 +98,20 @@ public final class CommandApiServiceImpl extends Actor
     return removeLeaderHandlersAsync(partitionId);
   }
 
+  @Override
+  public ActorFuture<Void> onBecomingFollower(
+      final int partitionId, final long term, final QueryService queryService) {
+    return actor.call(
+        () -> {
+          removeLeaderHandlers(partitionId);
+          if (queryApiCfg.isFollowerReadsEnabled() && queryService != null) {
+            followerQueryPartitions.add(partitionId);
+            queryHandler.addFollowerPartition(partitionId, queryService);
+            serverTransport.subscribe(partitionId, RequestType.QUERY, queryHandler);
+          }
+        });
+  }
+
   @Override
   public ActorFuture<Void> onBecomingLeader(
       final int partitionId,
@@ -101,6 +122,7 @@ public final class CommandApiServiceImpl extends Actor
     actor.call(
         () -> {
           leadPartitions.add(partitionId);
+          followerQueryPartitions.remove(partitionId);
           limiter.addPartition(partitionId);
 
           queryHandler.addPartition(partitionId, queryService);
@@ -139,9 +161,15 @@ public final class CommandApiServiceImpl extends Actor
   private void removeLeaderHandlers(final int partitionId) {
     commandHandler.removePartition(partitionId);
     queryHandler.removePartition(partitionId);
+    followerQueryPartitions.remove(partitionId);
     cleanLeadingPartition(partitionId);
   }
 
+  private void removeFollowerQueryHandler(final int partitionId) {
+    queryHandler.removePartition(partitionId);
+    serverTransport.unsubscribe(partitionId, RequestType.QUERY);
+  }
+
   private void cleanLeadingPartition(final int partitionId) {
     leadPartitions.remove(partitionId);
     removeForPartitionId(partitionId);
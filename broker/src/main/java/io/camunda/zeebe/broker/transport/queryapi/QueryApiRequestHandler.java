@@ -25,20 +25,29 @@ import java.util.Optional;
 import java.util.Set;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntHashSet;
 
 /**
  * Request handler for ExecuteQueryRequest SBE messages. When successful, it looks up the
  * bpmnProcessId of a process based on the request details. Make sure to set {@link
  * QueryApiCfg#setEnabled(boolean)} to true to enable this functionality.
+ *
+ * <p>Partitions can be added either as leader or as follower. A follower answers from its replayed
+ * state, which may lag behind the leader. Since the queried bpmnProcessId of a resource never
+ * changes, a stale state can only miss a resource, but never return a wrong result. If a follower
+ * does not find the resource, it therefore rejects the request as if it were not the leader, such
+ * that the gateway retries it on the leader.
  */
 @SuppressWarnings("removal")
 @Deprecated(forRemoval = true, since = "1.2.0")
 public final class QueryApiRequestHandler
     extends AsyncApiRequestHandler<QueryRequestReader, QueryResponseWriter> {
   private static final Set<ValueType> ACCEPTED_VALUE_TYPES =
-      EnumSet.of(ValueType.PROCESS, ValueType.PROCESS_INSTANCE, ValueType.JOB);
+      EnumSet.of(
+          ValueType.PROCESS, ValueType.PROCESS_INSTANCE, ValueType.JOB, ValueType.INCIDENT);
 
   private final Map<Integer, QueryService> queryServicePerPartition = new Int2ObjectHashMap<>();
+  private final IntHashSet followerPartitions = new IntHashSet();
   private final QueryApiCfg config;
   private final String actorName;
 
@@ -56,14 +65,35 @@ public final class QueryApiRequestHandler
   @Override
   protected void onActorClosing() {
     queryServicePerPartition.clear();
+    followerPartitions.clear();
   }
 
   public void addPartition(final int partitionId, final QueryService queryService) {
-    actor.run(() -> queryServicePerPartition.put(partitionId, queryService));
+    actor.run(
+        () -> {
+          queryServicePerPartition.put(partitionId, queryService);
+          followerPartitions.remove(partitionId);
+        });
+  }
+
+  /**
+   * Adds a partition for which this node is a follower. Queries on this partition are only
+   * answered if the resource was found, see the class documentation.
+   */
+  public void addFollowerPartition(final int partitionId, final QueryService queryService) {
+    actor.run(
+        () -> {
+          queryServicePerPartition.put(partitionId, queryService);
+          followerPartitions.add(partitionId);
+        });
   }
 
   public void removePartition(final int partitionId) {
-    actor.run(() -> queryServicePerPartition.remove(partitionId));
+    actor.run(
+        () -> {
+          queryServicePerPartition.remove(partitionId);
+          followerPartitions.remove(partitionId);
+        });
   }
 
   @Override
@@ -99,6 +129,7 @@ public final class QueryApiRequestHandler
 
     try {
       return handleQuery(
+          partitionId,
           queryServicePerPartition.get(partitionId),
           requestReader.getMessageDecoder(),
           responseWriter,
@@ -114,6 +145,7 @@ public final class QueryApiRequestHandler
   }
 
   private Either<ErrorResponseWriter, QueryResponseWriter> handleQuery(
+      final int partitionId,
       final QueryService queryService,
       final ExecuteQueryRequestDecoder messageDecoder,
       final QueryResponseWriter responseWriter,
@@ -131,10 +163,19 @@ public final class QueryApiRequestHandler
       case JOB:
         bpmnProcessId = queryService.getBpmnProcessIdForJob(key);
         break;
+      case INCIDENT:
+        bpmnProcessId = queryService.getBpmnProcessIdForIncident(key);
+        break;
       default:
         return Either.left(failOnInvalidValueType(messageDecoder, errorResponseWriter));
     }
 
+    if (bpmnProcessId.isEmpty() && followerPartitions.contains(partitionId)) {
+      // the follower may not have replayed the resource yet, so let the leader answer
+      errorResponseWriter.partitionLeaderMismatch(partitionId);
+      return Either.left(errorResponseWriter);
+    }
+
     if (bpmnProcessId.isEmpty()) {
       return Either.left(failOnResourceNotFound(key, messageDecoder, errorResponseWriter));
     }
@@ -56,6 +56,18 @@ final class SystemContextTest {
         .hasMessage("Snapshot period PT1S needs to be larger then or equals to one minute.");
   }
 
+  @Test
+  void shouldThrowExceptionIfSnapshotMaxReplayDurationIsNegative() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getData().setSnapshotMaxReplayDuration(Duration.ofSeconds(-1));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Snapshot max replay duration PT-1S must not be negative.");
+  }
+
   @Test
   void shouldThrowExceptionIfBatchSizeIsNegative() {
     // given
@@ -130,4 +130,29 @@ final class ProcessingCfgTest {
     // then
     assertThat(enabled).isTrue();
   }
+
+  @Test
+  void shouldDisableRecordMetricsByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnableRecordMetrics();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldEnableRecordMetricsFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableRecordMetrics();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
 }
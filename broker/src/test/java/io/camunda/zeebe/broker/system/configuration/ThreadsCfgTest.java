@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
@@ -115,4 +116,42 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldChooseDefaultCpuThreadAffinityGroupCount() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final int affinityGroupCount = cfg.getCpuThreadAffinityGroupCount();
+
+    // then
+    assertThat(affinityGroupCount).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSetCpuThreadAffinityGroupCountFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.cpuThreadAffinityGroupCount", "3");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final int affinityGroupCount = cfg.getCpuThreadAffinityGroupCount();
+
+    // then
+    assertThat(affinityGroupCount).isEqualTo(3);
+  }
+
+  @Test
+  void shouldRejectCpuThreadAffinityGroupCountSmallerThanOne() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.cpuThreadAffinityGroupCount", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("threads-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("cpuThreadAffinityGroupCount must be >= 1");
+  }
 }
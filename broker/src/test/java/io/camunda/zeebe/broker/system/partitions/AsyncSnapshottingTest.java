@@ -10,9 +10,12 @@ package io.camunda.zeebe.broker.system.partitions;
 import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,6 +23,7 @@ import io.atomix.raft.storage.log.entry.SerializedApplicationEntry;
 import io.camunda.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
 import io.camunda.zeebe.broker.system.partitions.impl.StateControllerImpl;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.testing.ActorSchedulerRule;
 import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
@@ -27,11 +31,14 @@ import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotStore;
 import io.camunda.zeebe.stream.impl.StreamProcessor;
 import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.prometheus.client.CollectorRegistry;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.Before;
@@ -45,7 +52,8 @@ public final class AsyncSnapshottingTest {
   private final TemporaryFolder tempFolderRule = new TemporaryFolder();
   private final AutoCloseableRule autoCloseableRule = new AutoCloseableRule();
 
-  private final ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule();
+  private final ControlledActorClock clock = new ControlledActorClock();
+  private final ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule(clock);
 
   @Rule
   public final RuleChain chain =
@@ -107,6 +115,7 @@ public final class AsyncSnapshottingTest {
             mockStreamProcessor,
             snapshotController,
             Duration.ofMinutes(1),
+            Duration.ZERO,
             () -> CompletableFuture.completedFuture(null));
     actorSchedulerRule.submitActor(asyncSnapshotDirector).join();
   }
@@ -119,6 +128,7 @@ public final class AsyncSnapshottingTest {
             mockStreamProcessor,
             snapshotController,
             Duration.ofMinutes(1),
+            Duration.ZERO,
             () -> CompletableFuture.completedFuture(null));
     actorSchedulerRule.submitActor(asyncSnapshotDirector).join();
   }
@@ -238,6 +248,7 @@ public final class AsyncSnapshottingTest {
             mockStreamProcessor,
             snapshotController,
             Duration.ofMinutes(1),
+            Duration.ZERO,
             () -> flushFuture);
     actorSchedulerRule.submitActor(asyncSnapshotDirector).join();
     setCommitPosition(100L);
@@ -265,6 +276,7 @@ public final class AsyncSnapshottingTest {
             mockStreamProcessor,
             snapshotController,
             Duration.ofMinutes(1),
+            Duration.ZERO,
             () -> flushFuture);
     actorSchedulerRule.submitActor(asyncSnapshotDirector).join();
 
@@ -278,4 +290,63 @@ public final class AsyncSnapshottingTest {
         .withThrowableOfType(ExecutionException.class)
         .withMessageContaining("Flush failed");
   }
+
+  @Test
+  public void shouldNotShortenSnapshotPeriodUnderSteadyLoad() {
+    // given - a director which is past its first scheduled snapshot, which is skipped since
+    // nothing was processed yet
+    final var processedPosition = new AtomicLong(StreamProcessor.UNSET_POSITION);
+    when(mockStreamProcessor.getLastProcessedPositionAsync())
+        .thenAnswer(invocation -> CompletableActorFuture.completed(processedPosition.get()));
+    when(mockStreamProcessor.getLastWrittenPositionAsync())
+        .thenAnswer(invocation -> CompletableActorFuture.completed(processedPosition.get()));
+    clock.pinCurrentTime();
+
+    final var snapshotPeriod = Duration.ofMinutes(5);
+    asyncSnapshotDirector =
+        AsyncSnapshotDirector.ofProcessingMode(
+            0,
+            1,
+            mockStreamProcessor,
+            snapshotController,
+            snapshotPeriod,
+            Duration.ZERO,
+            () -> CompletableFuture.completedFuture(null));
+    actorSchedulerRule.submitActor(asyncSnapshotDirector).join();
+    setCommitPosition(Long.MAX_VALUE);
+    clock.addTime(snapshotPeriod);
+    verify(mockStreamProcessor, timeout(5000)).getLastProcessedPositionAsync();
+
+    processedPosition.set(1_000);
+    await().until(() -> asyncSnapshotDirector.forceSnapshot().join() != null);
+
+    // when - the policy is evaluated every 15 seconds, while the same load is processed
+    final var checkInterval = Duration.ofSeconds(15);
+    final var checksWithinPeriod = snapshotPeriod.dividedBy(checkInterval) - 1;
+    for (int i = 0; i < checksWithinPeriod; i++) {
+      processedPosition.addAndGet(1_000);
+      final var evaluations = snapshotPolicyEvaluations();
+      clock.addTime(checkInterval);
+      await().until(() -> snapshotPolicyEvaluations() > evaluations);
+    }
+
+    // then - no snapshot is taken before the snapshot period is over
+    verify(snapshotController, times(1)).takeTransientSnapshot(anyLong());
+
+    // when
+    processedPosition.addAndGet(1_000);
+    clock.addTime(checkInterval);
+
+    // then
+    verify(snapshotController, timeout(5000).times(2)).takeTransientSnapshot(anyLong());
+  }
+
+  private static double snapshotPolicyEvaluations() {
+    return Collections.list(CollectorRegistry.defaultRegistry.metricFamilySamples()).stream()
+        .flatMap(family -> family.samples.stream())
+        .filter(sample -> sample.name.equals("zeebe_snapshot_scheduling_decisions_total"))
+        .filter(sample -> sample.labelValues.get(0).equals("1"))
+        .mapToDouble(sample -> sample.value)
+        .sum();
+  }
 }
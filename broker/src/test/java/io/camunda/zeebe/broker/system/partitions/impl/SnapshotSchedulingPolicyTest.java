@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.system.partitions.impl.SnapshotSchedulingPolicy.Decision;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+final class SnapshotSchedulingPolicyTest {
+
+  private static final long MIN_INTERVAL = Duration.ofMinutes(1).toMillis();
+  private static final long MAX_INTERVAL = Duration.ofMinutes(5).toMillis();
+
+  private final SnapshotSchedulingPolicy policy =
+      new SnapshotSchedulingPolicy(
+          Duration.ofMillis(MIN_INTERVAL),
+          Duration.ofMillis(MAX_INTERVAL),
+          Duration.ofSeconds(30),
+          0);
+
+  @Test
+  void shouldTakeSnapshotAfterMaxInterval() {
+    // given
+    policy.evaluate(0, 10);
+
+    // when
+    final var decision = policy.evaluate(MAX_INTERVAL, 20);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.TAKE_ON_MAX_INTERVAL);
+  }
+
+  @Test
+  void shouldNotTakeSnapshotBeforeMinInterval() {
+    // given
+    policy.setDiskSpaceAvailable(false);
+
+    // when
+    final var decision = policy.evaluate(MIN_INTERVAL - 1, 20);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.SKIP_MIN_INTERVAL);
+  }
+
+  @Test
+  void shouldSkipSnapshotIfNothingWasProcessedSinceLastSnapshot() {
+    // given
+    policy.onSnapshotTaken(0, 20);
+
+    // when
+    final var decision = policy.evaluate(MAX_INTERVAL * 2, 20);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.SKIP_IDLE);
+  }
+
+  @Test
+  void shouldTakeSnapshotOnDiskPressure() {
+    // given
+    policy.evaluate(0, 10);
+    policy.setDiskSpaceAvailable(false);
+
+    // when
+    final var decision = policy.evaluate(MIN_INTERVAL, 11);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.TAKE_ON_DISK_PRESSURE);
+  }
+
+  @Test
+  void shouldTakeSnapshotIfReplayTakesTooLong() {
+    // given - 1 position per ms
+    policy.evaluate(0, 0);
+    policy.evaluate(1_000, 1_000);
+
+    // when - 40 seconds worth of positions to replay
+    final var decision = policy.evaluate(MIN_INTERVAL, 40_000);
+
+    // then
+    assertThat(policy.estimateReplayDuration(40_000)).isEqualTo(Duration.ofSeconds(40));
+    assertThat(decision).isEqualTo(Decision.TAKE_ON_REPLAY_COST);
+  }
+
+  @Test
+  void shouldNotTakeSnapshotEarlyIfReplayIsWithinBudget() {
+    // given - 1 position per ms
+    policy.evaluate(0, 0);
+    policy.evaluate(1_000, 1_000);
+
+    // when - 10 seconds worth of positions to replay
+    final var decision = policy.evaluate(MIN_INTERVAL, 10_000);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.SKIP_WITHIN_BUDGET);
+  }
+
+  @Test
+  void shouldNotTakeSnapshotEarlyIfMaxReplayDurationIsDisabled() {
+    // given - 1 position per ms
+    final var disabledPolicy =
+        new SnapshotSchedulingPolicy(
+            Duration.ofMillis(MIN_INTERVAL), Duration.ofMillis(MAX_INTERVAL), Duration.ZERO, 0);
+    disabledPolicy.evaluate(0, 0);
+    disabledPolicy.evaluate(1_000, 1_000);
+
+    // when - 4 minutes worth of positions to replay
+    final var decision = disabledPolicy.evaluate(MAX_INTERVAL - 1, 240_000);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.SKIP_WITHIN_BUDGET);
+  }
+
+  @Test
+  void shouldCountPositionsFromLastSnapshot() {
+    // given
+    policy.evaluate(0, 100);
+    policy.onSnapshotTaken(MIN_INTERVAL, 500);
+
+    // when
+    final var positions = policy.positionsSinceLastSnapshot(800);
+
+    // then
+    assertThat(positions).isEqualTo(300);
+  }
+}
@@ -26,6 +26,8 @@ public final class TestActorSchedulerFactory {
     final var scheduler =
         ActorScheduler.newActorScheduler()
             .setCpuBoundActorThreadCount(threads.getCpuThreadCount())
+            .setCpuBoundAffinityGroupCount(threads.getCpuThreadAffinityGroupCount())
+            .setBlockingTaskVirtualThreadsEnabled(threads.isUseVirtualThreadsForBlockingTasks())
             .setIoBoundActorThreadCount(threads.getIoThreadCount())
             .setMetricsEnabled(features.isEnableActorMetrics())
             .setActorClock(clock)
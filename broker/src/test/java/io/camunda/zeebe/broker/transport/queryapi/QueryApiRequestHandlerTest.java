@@ -296,6 +296,81 @@ final class QueryApiRequestHandlerTest {
         .isEqualTo("OneProcessToFindThem");
   }
 
+  @DisplayName("should respond with bpmnProcessId when incident found")
+  @Test
+  void incidentFound() throws ClosedServiceException {
+    // given
+    final QueryApiRequestHandler sut = createQueryApiRequestHandler(true);
+    final var bpmnProcessId = BufferUtil.wrapString("OneProcessToFindThem");
+    final var queryService = mock(QueryService.class);
+    sut.addPartition(1, queryService);
+    when(queryService.getBpmnProcessIdForIncident(1)).thenReturn(Optional.of(bpmnProcessId));
+
+    // when
+    final Either<ErrorResponse, ExecuteQueryResponse> response =
+        new AsyncExecuteQueryRequestSender(sut)
+            .sendRequest(
+                new ExecuteQueryRequest()
+                    .setPartitionId(1)
+                    .setKey(1)
+                    .setValueType(ValueType.INCIDENT))
+            .join();
+
+    // then
+    EitherAssert.assertThat(response)
+        .isRight()
+        .extracting(Either::get)
+        .extracting(ExecuteQueryResponse::getBpmnProcessId)
+        .isEqualTo("OneProcessToFindThem");
+  }
+
+  @DisplayName("should respond with bpmnProcessId when found on a follower")
+  @Test
+  void foundOnFollower() throws ClosedServiceException {
+    // given
+    final QueryApiRequestHandler sut = createQueryApiRequestHandler(true);
+    final var bpmnProcessId = BufferUtil.wrapString("OneProcessToFindThem");
+    final var queryService = mock(QueryService.class);
+    sut.addFollowerPartition(1, queryService);
+    when(queryService.getBpmnProcessIdForJob(1)).thenReturn(Optional.of(bpmnProcessId));
+
+    // when
+    final Either<ErrorResponse, ExecuteQueryResponse> response =
+        new AsyncExecuteQueryRequestSender(sut)
+            .sendRequest(
+                new ExecuteQueryRequest().setPartitionId(1).setKey(1).setValueType(ValueType.JOB))
+            .join();
+
+    // then
+    EitherAssert.assertThat(response)
+        .isRight()
+        .extracting(Either::get)
+        .extracting(ExecuteQueryResponse::getBpmnProcessId)
+        .isEqualTo("OneProcessToFindThem");
+  }
+
+  @DisplayName("should respond with PARTITION_LEADER_MISMATCH when not found on a follower")
+  @Test
+  void notFoundOnFollower() {
+    // given
+    final QueryApiRequestHandler sut = createQueryApiRequestHandler(true);
+    sut.addFollowerPartition(1, mock(QueryService.class));
+
+    // when
+    final Either<ErrorResponse, ExecuteQueryResponse> response =
+        new AsyncExecuteQueryRequestSender(sut)
+            .sendRequest(
+                new ExecuteQueryRequest().setPartitionId(1).setKey(1).setValueType(ValueType.JOB))
+            .join();
+
+    // then
+    EitherAssert.assertThat(response)
+        .isLeft()
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::getErrorCode)
+        .isEqualTo(ErrorCode.PARTITION_LEADER_MISMATCH);
+  }
+
   @DisplayName("should return MALFORMED_REQUEST on exception thrown while reading the request")
   @Test
   void malformedRequest() {
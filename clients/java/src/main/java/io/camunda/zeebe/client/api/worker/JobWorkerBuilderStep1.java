@@ -20,6 +20,7 @@ import io.camunda.zeebe.client.api.ExperimentalApi;
 import io.camunda.zeebe.client.api.command.CommandWithOneOrMoreTenantsStep;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 public interface JobWorkerBuilderStep1 {
   /**
@@ -241,6 +242,43 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics);
 
+    /**
+     * Sets the executor on which the job handler is run. By default, the handler runs on the
+     * client's job worker executor, which is shared by all workers of the client and has a fixed
+     * number of threads.
+     *
+     * <p>Handlers which mostly wait for IO can use an executor which doesn't bind a platform thread
+     * to each job, e.g. {@code Executors.newVirtualThreadPerTaskExecutor()} on Java 21 or newer.
+     * Combine it with {@link #adaptiveMaxJobsActive(boolean)} to let the worker find out how many
+     * jobs it can handle at the same time.
+     *
+     * <p>The executor is not shut down when the worker or the client are closed.
+     *
+     * @param handlerExecutor the executor to run the job handler on, or null to use the client's
+     *     job worker executor
+     * @return the builder for this worker
+     */
+    @ExperimentalApi("Running job handlers on a custom executor may change in future releases")
+    JobWorkerBuilderStep3 handlerExecutor(final Executor handlerExecutor);
+
+    /**
+     * Enables or disables the adaptive limit of active jobs. If enabled, the number of jobs which
+     * the worker activates at the same time is adapted to the latency and the failures of the job
+     * handler: it grows while the latency is stable, and shrinks when the latency rises or the
+     * handler throws exceptions. The limit starts at {@code 32}, and never exceeds {@link
+     * #maxJobsActive(int)}, which then acts as an upper bound rather than a fixed size.
+     *
+     * <p>The current limit is reported through {@link JobWorkerMetrics#jobsActiveLimit(int)}.
+     *
+     * <p>Defaults to false, i.e. the worker always activates up to {@link #maxJobsActive(int)}
+     * jobs.
+     *
+     * @param isAdaptive true to adapt the limit of active jobs, false to use a fixed limit
+     * @return the builder for this worker
+     */
+    @ExperimentalApi("The adaptive limit of active jobs may change in future releases")
+    JobWorkerBuilderStep3 adaptiveMaxJobsActive(final boolean isAdaptive);
+
     /**
      * Open the worker and start to work on available tasks.
      *
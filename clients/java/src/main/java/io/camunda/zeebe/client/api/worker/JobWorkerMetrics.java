@@ -39,6 +39,17 @@ public interface JobWorkerMetrics {
    */
   default void jobHandled(final int count) {}
 
+  /**
+   * Called with the limit of jobs which the worker has active at the same time when the worker is
+   * opened, and every time the limit changes afterwards. The limit only changes for workers with an
+   * adaptive limit, see {@link
+   * JobWorkerBuilderStep1.JobWorkerBuilderStep3#adaptiveMaxJobsActive(boolean)}; otherwise it is
+   * {@link JobWorkerBuilderStep1.JobWorkerBuilderStep3#maxJobsActive(int)}.
+   *
+   * @param limit the new limit of active jobs
+   */
+  default void jobsActiveLimit(final int limit) {}
+
   /**
    * Returns a new builder for the Micrometer bridge.
    *
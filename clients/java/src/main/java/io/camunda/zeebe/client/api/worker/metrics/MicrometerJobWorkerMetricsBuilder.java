@@ -32,6 +32,7 @@ import io.micrometer.core.instrument.Tag;
  * <ul>
  *   <li>A counter for the jobs activated count
  *   <li>A counter for the jobs handled count
+ *   <li>A gauge for the current limit of active jobs
  * </ul>
  *
  * From these counters you can derive the rate of jobs activated, the rate of jobs handled, and
@@ -78,6 +79,14 @@ public interface MicrometerJobWorkerMetricsBuilder {
       public String asString() {
         return "zeebe.client.worker.job.handled";
       }
+    },
+
+    /** Gauge backing the {@link JobWorkerMetrics#jobsActiveLimit(int)} limit. */
+    JOB_ACTIVE_LIMIT {
+      @Override
+      public String asString() {
+        return "zeebe.client.worker.job.active.limit";
+      }
     }
   }
 }
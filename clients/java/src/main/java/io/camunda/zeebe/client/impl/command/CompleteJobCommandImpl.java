@@ -22,10 +22,12 @@ import io.camunda.zeebe.client.api.command.FinalCommandStep;
 import io.camunda.zeebe.client.api.response.CompleteJobResponse;
 import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
 import io.camunda.zeebe.client.impl.response.CompleteJobResponseImpl;
+import io.camunda.zeebe.client.impl.worker.JobResultStream;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest.Builder;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
 import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -37,6 +39,7 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
   private final GatewayStub asyncStub;
   private final Builder builder;
   private final Predicate<Throwable> retryPredicate;
+  private final JobResultStream resultStream;
   private Duration requestTimeout;
 
   public CompleteJobCommandImpl(
@@ -45,10 +48,24 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
       final long key,
       final Duration requestTimeout,
       final Predicate<Throwable> retryPredicate) {
+    this(asyncStub, jsonMapper, key, requestTimeout, retryPredicate, null);
+  }
+
+  /**
+   * @param resultStream the stream to send the result over, or null to send it as a unary call
+   */
+  public CompleteJobCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final long key,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate,
+      final JobResultStream resultStream) {
     super(jsonMapper);
     this.asyncStub = asyncStub;
     this.requestTimeout = requestTimeout;
     this.retryPredicate = retryPredicate;
+    this.resultStream = resultStream;
     builder = CompleteJobRequest.newBuilder();
     builder.setJobKey(key);
   }
@@ -77,6 +94,21 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
   private void send(
       final CompleteJobRequest request,
       final StreamObserver<GatewayOuterClass.CompleteJobResponse> streamObserver) {
+    if (resultStream != null) {
+      resultStream.send(
+          JobResultRequest.newBuilder().setComplete(request).build(),
+          GatewayOuterClass.CompleteJobResponse.getDefaultInstance(),
+          streamObserver,
+          requestTimeout,
+          () -> sendUnary(request, streamObserver));
+    } else {
+      sendUnary(request, streamObserver);
+    }
+  }
+
+  private void sendUnary(
+      final CompleteJobRequest request,
+      final StreamObserver<GatewayOuterClass.CompleteJobResponse> streamObserver) {
     asyncStub
         .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
         .completeJob(request, streamObserver);
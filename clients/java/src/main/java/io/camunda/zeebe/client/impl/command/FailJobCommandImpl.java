@@ -23,10 +23,12 @@ import io.camunda.zeebe.client.api.command.FinalCommandStep;
 import io.camunda.zeebe.client.api.response.FailJobResponse;
 import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
 import io.camunda.zeebe.client.impl.response.FailJobResponseImpl;
+import io.camunda.zeebe.client.impl.worker.JobResultStream;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest.Builder;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
 import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -38,6 +40,7 @@ public final class FailJobCommandImpl extends CommandWithVariables<FailJobComman
   private final GatewayStub asyncStub;
   private final Builder builder;
   private final Predicate<Throwable> retryPredicate;
+  private final JobResultStream resultStream;
   private Duration requestTimeout;
 
   public FailJobCommandImpl(
@@ -46,10 +49,24 @@ public final class FailJobCommandImpl extends CommandWithVariables<FailJobComman
       final long key,
       final Duration requestTimeout,
       final Predicate<Throwable> retryPredicate) {
+    this(asyncStub, jsonMapper, key, requestTimeout, retryPredicate, null);
+  }
+
+  /**
+   * @param resultStream the stream to send the result over, or null to send it as a unary call
+   */
+  public FailJobCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final long key,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate,
+      final JobResultStream resultStream) {
     super(jsonMapper);
     this.asyncStub = asyncStub;
     this.requestTimeout = requestTimeout;
     this.retryPredicate = retryPredicate;
+    this.resultStream = resultStream;
     builder = FailJobRequest.newBuilder();
     builder.setJobKey(key);
   }
@@ -101,6 +118,21 @@ public final class FailJobCommandImpl extends CommandWithVariables<FailJobComman
   private void send(
       final FailJobRequest request,
       final StreamObserver<GatewayOuterClass.FailJobResponse> streamObserver) {
+    if (resultStream != null) {
+      resultStream.send(
+          JobResultRequest.newBuilder().setFail(request).build(),
+          GatewayOuterClass.FailJobResponse.getDefaultInstance(),
+          streamObserver,
+          requestTimeout,
+          () -> sendUnary(request, streamObserver));
+    } else {
+      sendUnary(request, streamObserver);
+    }
+  }
+
+  private void sendUnary(
+      final FailJobRequest request,
+      final StreamObserver<GatewayOuterClass.FailJobResponse> streamObserver) {
     asyncStub
         .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
         .failJob(request, streamObserver);
@@ -21,7 +21,9 @@ import io.camunda.zeebe.client.api.command.FinalCommandStep;
 import io.camunda.zeebe.client.api.command.ThrowErrorCommandStep1;
 import io.camunda.zeebe.client.api.command.ThrowErrorCommandStep1.ThrowErrorCommandStep2;
 import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
+import io.camunda.zeebe.client.impl.worker.JobResultStream;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest.Builder;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
@@ -36,6 +38,7 @@ public final class ThrowErrorCommandImpl extends CommandWithVariables<ThrowError
   private final GatewayStub asyncStub;
   private final Builder builder;
   private final Predicate<Throwable> retryPredicate;
+  private final JobResultStream resultStream;
   private Duration requestTimeout;
 
   public ThrowErrorCommandImpl(
@@ -44,10 +47,24 @@ public final class ThrowErrorCommandImpl extends CommandWithVariables<ThrowError
       final long key,
       final Duration requestTimeout,
       final Predicate<Throwable> retryPredicate) {
+    this(asyncStub, jsonMapper, key, requestTimeout, retryPredicate, null);
+  }
+
+  /**
+   * @param resultStream the stream to send the result over, or null to send it as a unary call
+   */
+  public ThrowErrorCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final long key,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate,
+      final JobResultStream resultStream) {
     super(jsonMapper);
     this.asyncStub = asyncStub;
     this.requestTimeout = requestTimeout;
     this.retryPredicate = retryPredicate;
+    this.resultStream = resultStream;
     builder = ThrowErrorRequest.newBuilder();
     builder.setJobKey(key);
   }
@@ -90,6 +107,20 @@ public final class ThrowErrorCommandImpl extends CommandWithVariables<ThrowError
 
   private void send(
       final ThrowErrorRequest request, final StreamObserver<ThrowErrorResponse> streamObserver) {
+    if (resultStream != null) {
+      resultStream.send(
+          JobResultRequest.newBuilder().setThrowError(request).build(),
+          ThrowErrorResponse.getDefaultInstance(),
+          streamObserver,
+          requestTimeout,
+          () -> sendUnary(request, streamObserver));
+    } else {
+      sendUnary(request, streamObserver);
+    }
+  }
+
+  private void sendUnary(
+      final ThrowErrorRequest request, final StreamObserver<ThrowErrorResponse> streamObserver) {
     asyncStub
         .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
         .throwError(request, streamObserver);
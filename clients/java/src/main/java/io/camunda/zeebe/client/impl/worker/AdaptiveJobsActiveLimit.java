@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Limits how many jobs a worker has active at the same time, adapting the limit to the latency and
+ * the failures of its job handler, similar to a gradient based concurrency limit.
+ *
+ * <p>The limit compares the recent handler latency with the long-term latency. As long as the
+ * recent latency stays close to the long-term one, the limit grows proportionally to its square
+ * root. When the recent latency rises, e.g. because a service called by the handler becomes
+ * saturated, the limit shrinks proportionally. Every failed job shrinks the limit as well. The
+ * limit never exceeds the worker's {@code maxJobsActive}, and never drops below one.
+ *
+ * <p>The limit only grows while the handler is using at least half of it, so that an idle worker
+ * doesn't inflate its limit.
+ */
+@ThreadSafe
+final class AdaptiveJobsActiveLimit implements IntSupplier {
+
+  static final int INITIAL_LIMIT = 32;
+  static final int MIN_LIMIT = 1;
+
+  // the allowed ratio between the recent and the long-term latency before the limit shrinks
+  private static final double LATENCY_TOLERANCE = 1.5;
+  private static final double MIN_GRADIENT = 0.5;
+  private static final double LIMIT_SMOOTHING = 0.2;
+  private static final double FAILURE_BACKOFF_RATIO = 0.9;
+  private static final double SHORT_LATENCY_SMOOTHING = 0.2;
+  private static final double LONG_LATENCY_SMOOTHING = 0.01;
+
+  private final int maxLimit;
+  private final IntConsumer limitListener;
+  private final LongSupplier nanoClock;
+
+  @GuardedBy("this")
+  private double estimatedLimit;
+
+  @GuardedBy("this")
+  private double shortLatency;
+
+  @GuardedBy("this")
+  private double longLatency;
+
+  @GuardedBy("this")
+  private int inFlight;
+
+  private volatile int limit;
+
+  AdaptiveJobsActiveLimit(final int maxLimit, final IntConsumer limitListener) {
+    this(maxLimit, limitListener, System::nanoTime);
+  }
+
+  AdaptiveJobsActiveLimit(
+      final int maxLimit, final IntConsumer limitListener, final LongSupplier nanoClock) {
+    this.maxLimit = maxLimit;
+    this.limitListener = limitListener;
+    this.nanoClock = nanoClock;
+
+    limit = Math.min(maxLimit, INITIAL_LIMIT);
+    estimatedLimit = limit;
+    limitListener.accept(limit);
+  }
+
+  @Override
+  public int getAsInt() {
+    return limit;
+  }
+
+  /**
+   * Returns a handler which delegates to the given handler, and feeds its latency and outcome into
+   * this limit.
+   */
+  JobHandler observe(final JobHandler handler) {
+    return (client, job) -> handle(handler, client, job);
+  }
+
+  private void handle(final JobHandler handler, final JobClient client, final ActivatedJob job)
+      throws Exception {
+    final long startTime = nanoClock.getAsLong();
+    final int currentInFlight;
+    synchronized (this) {
+      currentInFlight = ++inFlight;
+    }
+
+    boolean isFailed = true;
+    try {
+      handler.handle(client, job);
+      isFailed = false;
+    } finally {
+      synchronized (this) {
+        inFlight--;
+      }
+      onSample(nanoClock.getAsLong() - startTime, currentInFlight, isFailed);
+    }
+  }
+
+  /**
+   * Adapts the limit to the outcome of a single job.
+   *
+   * @param latencyNanos the time it took to handle the job
+   * @param sampleInFlight how many jobs were handled at the same time, including this one
+   * @param isFailed whether the handler failed to handle the job
+   */
+  synchronized void onSample(
+      final long latencyNanos, final int sampleInFlight, final boolean isFailed) {
+    if (isFailed) {
+      updateLimit(estimatedLimit * FAILURE_BACKOFF_RATIO);
+      return;
+    }
+
+    final double latency = Math.max(1, latencyNanos);
+    if (longLatency == 0) {
+      shortLatency = latency;
+      longLatency = latency;
+    } else {
+      shortLatency += (latency - shortLatency) * SHORT_LATENCY_SMOOTHING;
+      longLatency += (latency - longLatency) * LONG_LATENCY_SMOOTHING;
+
+      // follow a drop of the latency faster, so that the limit doesn't stay low afterwards
+      if (longLatency > 2 * shortLatency) {
+        longLatency *= 0.95;
+      }
+    }
+
+    // don't grow the limit if the handler doesn't use it anyway
+    if (sampleInFlight * 2 < estimatedLimit) {
+      return;
+    }
+
+    final double gradient =
+        Math.max(MIN_GRADIENT, Math.min(1.0, LATENCY_TOLERANCE * longLatency / shortLatency));
+    final double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+    updateLimit(estimatedLimit * (1 - LIMIT_SMOOTHING) + newLimit * LIMIT_SMOOTHING);
+  }
+
+  @GuardedBy("this")
+  private void updateLimit(final double newLimit) {
+    estimatedLimit = Math.max(MIN_LIMIT, Math.min(maxLimit, newLimit));
+
+    final int roundedLimit = (int) estimatedLimit;
+    if (roundedLimit != limit) {
+      limit = roundedLimit;
+      limitListener.accept(roundedLimit);
+    }
+  }
+}
@@ -30,6 +30,7 @@ import io.camunda.zeebe.client.impl.command.FailJobCommandImpl;
 import io.camunda.zeebe.client.impl.command.StreamJobsCommandImpl;
 import io.camunda.zeebe.client.impl.command.ThrowErrorCommandImpl;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Predicate;
 
 public final class JobClientImpl implements JobClient {
@@ -38,22 +39,57 @@ public final class JobClientImpl implements JobClient {
   private final ZeebeClientConfiguration config;
   private final JsonMapper jsonMapper;
   private final Predicate<Throwable> retryPredicate;
+  private final JobResultStream resultStream;
 
   public JobClientImpl(
       final GatewayStub asyncStub,
       final ZeebeClientConfiguration config,
       final JsonMapper jsonMapper,
       final Predicate<Throwable> retryPredicate) {
+    this(asyncStub, config, jsonMapper, retryPredicate, null);
+  }
+
+  private JobClientImpl(
+      final GatewayStub asyncStub,
+      final ZeebeClientConfiguration config,
+      final JsonMapper jsonMapper,
+      final Predicate<Throwable> retryPredicate,
+      final JobResultStream resultStream) {
     this.asyncStub = asyncStub;
     this.config = config;
     this.jsonMapper = jsonMapper;
     this.retryPredicate = retryPredicate;
+    this.resultStream = resultStream;
+  }
+
+  /**
+   * Returns a job client which sends job completions, failures and thrown errors over the given
+   * stream, falling back to unary calls if the gateway doesn't support it.
+   *
+   * @param resultStream the stream to send job results over
+   * @return a job client using the given stream
+   */
+  public JobClientImpl withResultStream(final JobResultStream resultStream) {
+    return new JobClientImpl(asyncStub, config, jsonMapper, retryPredicate, resultStream);
+  }
+
+  /**
+   * @param executor the executor used to time out results which aren't acknowledged in time
+   * @return a new job result stream for this client's gateway
+   */
+  public JobResultStream newResultStream(final ScheduledExecutorService executor) {
+    return new JobResultStream(asyncStub, executor);
   }
 
   @Override
   public CompleteJobCommandStep1 newCompleteCommand(final long jobKey) {
     return new CompleteJobCommandImpl(
-        asyncStub, jsonMapper, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
+        asyncStub,
+        jsonMapper,
+        jobKey,
+        config.getDefaultRequestTimeout(),
+        retryPredicate,
+        resultStream);
   }
 
   @Override
@@ -64,7 +100,12 @@ public final class JobClientImpl implements JobClient {
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return new FailJobCommandImpl(
-        asyncStub, jsonMapper, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
+        asyncStub,
+        jsonMapper,
+        jobKey,
+        config.getDefaultRequestTimeout(),
+        retryPredicate,
+        resultStream);
   }
 
   @Override
@@ -75,7 +116,12 @@ public final class JobClientImpl implements JobClient {
   @Override
   public ThrowErrorCommandStep1 newThrowErrorCommand(final long jobKey) {
     return new ThrowErrorCommandImpl(
-        asyncStub, jsonMapper, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
+        asyncStub,
+        jsonMapper,
+        jobKey,
+        config.getDefaultRequestTimeout(),
+        retryPredicate,
+        resultStream);
   }
 
   @Override
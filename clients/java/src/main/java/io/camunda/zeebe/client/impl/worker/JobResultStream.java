@@ -0,0 +1,334 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import io.camunda.zeebe.client.impl.Loggers;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultResponse;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+
+/**
+ * Sends job results (completions, failures and thrown errors) over a single, long-lived {@code
+ * JobResults} stream instead of one unary call per result. The stream is opened lazily with the
+ * first result, and re-opened with the next result after it was closed.
+ *
+ * <p>The gateway acknowledges the results in the order in which they were sent, which is how
+ * acknowledgements are matched to results. If an acknowledgement is for a different job than the
+ * result it is matched to, the stream is cancelled and all of its pending results are failed, as
+ * it's unknown which of them were applied. If the gateway doesn't support the stream, the stream
+ * is disabled and all results, including the ones which were pending, are sent as unary calls
+ * instead. The same happens for results sent after the stream was closed.
+ */
+@ThreadSafe
+public final class JobResultStream implements Closeable {
+  private static final Logger LOGGER = Loggers.JOB_WORKER_LOGGER;
+
+  private final GatewayStub asyncStub;
+  private final ScheduledExecutorService executor;
+  private final Lock streamLock = new ReentrantLock();
+
+  @GuardedBy("streamLock")
+  private final Queue<PendingResult<?>> pendingResults = new ArrayDeque<>();
+
+  @GuardedBy("streamLock")
+  private StreamObserver<JobResultRequest> requestObserver;
+
+  @GuardedBy("streamLock")
+  private boolean isDisabled;
+
+  public JobResultStream(final GatewayStub asyncStub, final ScheduledExecutorService executor) {
+    this.asyncStub = asyncStub;
+    this.executor = executor;
+  }
+
+  /**
+   * Sends the given result over the stream. Once the gateway acknowledged the result, the given
+   * observer is completed with the given response, or failed with the status of the rejection.
+   * If the stream can't be used, the given fallback is run instead, which is expected to send the
+   * result as a unary call.
+   *
+   * @param request the job result to send
+   * @param response the response to complete the observer with if the result is accepted
+   * @param observer the observer to notify about the outcome
+   * @param requestTimeout the time after which the observer is failed if no acknowledgement was
+   *     received yet
+   * @param fallback sends the result without the stream
+   * @param <T> the type of the response
+   */
+  public <T> void send(
+      final JobResultRequest request,
+      final T response,
+      final StreamObserver<T> observer,
+      final Duration requestTimeout,
+      final Runnable fallback) {
+    final PendingResult<T> pendingResult =
+        new PendingResult<>(jobKeyOf(request), response, observer, fallback);
+    final boolean isSent;
+
+    streamLock.lock();
+    try {
+      if (!isDisabled && requestObserver == null) {
+        openStream();
+      }
+
+      isSent = !isDisabled && requestObserver != null;
+      if (isSent) {
+        pendingResults.add(pendingResult);
+        requestObserver.onNext(request);
+      }
+    } finally {
+      streamLock.unlock();
+    }
+
+    if (!isSent) {
+      pendingResult.fallback();
+      return;
+    }
+
+    pendingResult.timeout =
+        executor.schedule(
+            () ->
+                pendingResult.fail(
+                    Status.DEADLINE_EXCEEDED
+                        .withDescription(
+                            "Expected the job result to be acknowledged within "
+                                + requestTimeout
+                                + ", but it was not")
+                        .asRuntimeException()),
+            requestTimeout.toMillis(),
+            TimeUnit.MILLISECONDS);
+  }
+
+  private static long jobKeyOf(final JobResultRequest request) {
+    switch (request.getResultCase()) {
+      case COMPLETE:
+        return request.getComplete().getJobKey();
+      case FAIL:
+        return request.getFail().getJobKey();
+      case THROWERROR:
+        return request.getThrowError().getJobKey();
+      default:
+        return -1;
+    }
+  }
+
+  @GuardedBy("streamLock")
+  private void openStream() {
+    final AcknowledgementObserver acknowledgementObserver = new AcknowledgementObserver();
+    final StreamObserver<JobResultRequest> stream = asyncStub.jobResults(acknowledgementObserver);
+
+    // the stream may already have failed while it was opened, e.g. with a direct executor
+    if (!acknowledgementObserver.isClosed) {
+      requestObserver = stream;
+    }
+  }
+
+  @Override
+  public void close() {
+    streamLock.lock();
+    try {
+      isDisabled = true;
+      if (requestObserver != null) {
+        // half-close only, so that the pending results are still acknowledged
+        requestObserver.onCompleted();
+        requestObserver = null;
+      }
+    } finally {
+      streamLock.unlock();
+    }
+  }
+
+  private final class AcknowledgementObserver implements StreamObserver<JobResultResponse> {
+
+    @GuardedBy("streamLock")
+    private boolean isClosed;
+
+    @Override
+    public void onNext(final JobResultResponse value) {
+      final PendingResult<?> pendingResult;
+      streamLock.lock();
+      try {
+        pendingResult = pendingResults.poll();
+      } finally {
+        streamLock.unlock();
+      }
+
+      if (pendingResult == null) {
+        LOGGER.warn(
+            "Received acknowledgement for job {}, but no job result is pending", value.getJobKey());
+        return;
+      }
+
+      if (pendingResult.jobKey != value.getJobKey()) {
+        failStream(pendingResult, value.getJobKey());
+        return;
+      }
+
+      if (value.getCode() == Code.OK.value()) {
+        pendingResult.complete();
+      } else {
+        pendingResult.fail(
+            Status.fromCodeValue(value.getCode())
+                .withDescription(value.getMessage())
+                .asRuntimeException());
+      }
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      final boolean isUnimplemented = Status.fromThrowable(t).getCode() == Code.UNIMPLEMENTED;
+      final List<PendingResult<?>> failedResults = closeStream(isUnimplemented);
+
+      if (isUnimplemented) {
+        LOGGER.debug(
+            "The gateway doesn't support streaming job results, sending them as unary calls");
+        failedResults.forEach(PendingResult::fallback);
+      } else {
+        LOGGER.debug("Job result stream was closed with an error", t);
+        failedResults.forEach(result -> result.fail(t));
+      }
+    }
+
+    @Override
+    public void onCompleted() {
+      closeStream(false)
+          .forEach(
+              result ->
+                  result.fail(
+                      Status.UNAVAILABLE
+                          .withDescription(
+                              "Job result stream was closed before the result was acknowledged")
+                          .asRuntimeException()));
+    }
+
+    private void failStream(final PendingResult<?> pendingResult, final long acknowledgedJobKey) {
+      final StatusRuntimeException error =
+          Status.INTERNAL
+              .withDescription(
+                  String.format(
+                      "Expected acknowledgement for job %d, but received one for job %d",
+                      pendingResult.jobKey, acknowledgedJobKey))
+              .asRuntimeException();
+      final StreamObserver<JobResultRequest> stream;
+      final List<PendingResult<?>> failedResults = new ArrayList<>();
+      failedResults.add(pendingResult);
+
+      streamLock.lock();
+      try {
+        stream = isClosed ? null : requestObserver;
+        failedResults.addAll(closeStream(false));
+      } finally {
+        streamLock.unlock();
+      }
+
+      LOGGER.warn("Cancelling job result stream", error);
+      if (stream != null) {
+        stream.onError(error);
+      }
+      failedResults.forEach(result -> result.fail(error));
+    }
+
+    private List<PendingResult<?>> closeStream(final boolean disable) {
+      streamLock.lock();
+      try {
+        isDisabled |= disable;
+        if (isClosed) {
+          // e.g. cancelled after a mismatched acknowledgement; a newer stream may already be open
+          return new ArrayList<>();
+        }
+
+        isClosed = true;
+        requestObserver = null;
+
+        final List<PendingResult<?>> closedResults = new ArrayList<>(pendingResults);
+        pendingResults.clear();
+        return closedResults;
+      } finally {
+        streamLock.unlock();
+      }
+    }
+  }
+
+  private static final class PendingResult<T> {
+    private final AtomicBoolean isDone = new AtomicBoolean();
+    private final long jobKey;
+    private final T response;
+    private final StreamObserver<T> observer;
+    private final Runnable fallback;
+    private volatile ScheduledFuture<?> timeout;
+
+    private PendingResult(
+        final long jobKey,
+        final T response,
+        final StreamObserver<T> observer,
+        final Runnable fallback) {
+      this.jobKey = jobKey;
+      this.response = response;
+      this.observer = observer;
+      this.fallback = fallback;
+    }
+
+    private void complete() {
+      if (markDone()) {
+        observer.onNext(response);
+        observer.onCompleted();
+      }
+    }
+
+    private void fail(final Throwable error) {
+      if (markDone()) {
+        observer.onError(error);
+      }
+    }
+
+    private void fallback() {
+      if (markDone()) {
+        fallback.run();
+      }
+    }
+
+    private boolean markDone() {
+      if (!isDone.compareAndSet(false, true)) {
+        return false;
+      }
+
+      final ScheduledFuture<?> scheduledTimeout = timeout;
+      if (scheduledTimeout != null) {
+        scheduledTimeout.cancel(false);
+      }
+      return true;
+    }
+  }
+}
@@ -34,7 +34,9 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.IntSupplier;
 
 public final class JobWorkerBuilderImpl
     implements JobWorkerBuilderStep1, JobWorkerBuilderStep2, JobWorkerBuilderStep3 {
@@ -59,6 +61,8 @@ public final class JobWorkerBuilderImpl
   private boolean enableStreaming;
   private Duration streamingTimeout;
   private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
+  private Executor handlerExecutor;
+  private boolean isAdaptiveMaxJobsActive;
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
@@ -163,6 +167,18 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 handlerExecutor(final Executor handlerExecutor) {
+    this.handlerExecutor = handlerExecutor;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 adaptiveMaxJobsActive(final boolean isAdaptive) {
+    isAdaptiveMaxJobsActive = isAdaptive;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -172,7 +188,22 @@ public final class JobWorkerBuilderImpl
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
 
     final JobStreamer jobStreamer;
-    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactoryImpl(jobClient, handler);
+    final IntSupplier jobsActiveLimit;
+    final JobHandler observedHandler;
+    if (isAdaptiveMaxJobsActive) {
+      final AdaptiveJobsActiveLimit adaptiveLimit =
+          new AdaptiveJobsActiveLimit(maxJobsActive, metrics::jobsActiveLimit);
+      jobsActiveLimit = adaptiveLimit;
+      observedHandler = adaptiveLimit.observe(handler);
+    } else {
+      final int fixedLimit = maxJobsActive;
+      jobsActiveLimit = () -> fixedLimit;
+      observedHandler = handler;
+      metrics.jobsActiveLimit(fixedLimit);
+    }
+
+    final JobRunnableFactory jobRunnableFactory =
+        new JobRunnableFactoryImpl(createHandlerJobClient(), observedHandler);
     final JobPoller jobPoller =
         new JobPollerImpl(
             jobClient,
@@ -207,8 +238,10 @@ public final class JobWorkerBuilderImpl
     final JobWorkerImpl jobWorker =
         new JobWorkerImpl(
             maxJobsActive,
+            jobsActiveLimit,
             timeout,
             executorService,
+            handlerExecutor == null ? executorService : handlerExecutor,
             pollInterval,
             jobRunnableFactory,
             jobPoller,
@@ -219,6 +252,22 @@ public final class JobWorkerBuilderImpl
     return jobWorker;
   }
 
+  /**
+   * Returns the job client which is passed to the job handler. If possible, it sends the job
+   * results over a stream which is shared by all jobs of this worker, instead of a unary call per
+   * result.
+   */
+  private JobClient createHandlerJobClient() {
+    if (!(jobClient instanceof JobClientImpl)) {
+      return jobClient;
+    }
+
+    final JobClientImpl jobClientImpl = (JobClientImpl) jobClient;
+    final JobResultStream resultStream = jobClientImpl.newResultStream(executorService);
+    closeables.add(resultStream);
+    return jobClientImpl.withResultStream(resultStream);
+  }
+
   @Override
   public JobWorkerBuilderStep3 tenantId(final String tenantId) {
     customTenantIds.add(tenantId);
@@ -23,12 +23,14 @@ import io.camunda.zeebe.client.impl.Loggers;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
 import org.slf4j.Logger;
 
 /**
@@ -44,6 +46,10 @@ import org.slf4j.Logger;
  * will poll for new jobs. To determine what is considered enough jobs it compares its number of
  * {@code remainingJobs} with the {@code activationThreshold}.
  *
+ * <p>The number of jobs the worker polls for is bounded by the {@code jobsActiveLimit}, which is
+ * either fixed to {@code maxJobsActive}, or adapts to the observed job handling (see {@link
+ * AdaptiveJobsActiveLimit}). The {@code activationThreshold} is derived from the current limit.
+ *
  * <p>If a poll fails with an error response, a retry is scheduled with a delay using the {@code
  * retryDelaySupplier} to ask for a new {@code pollInterval}. By default, this retry delay supplier
  * is the {@link ExponentialBackoff}. This default is also used as a fallback for the user provided
@@ -61,8 +67,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   private static final String SUPPLY_RETRY_DELAY_FAILURE_MESSAGE =
       "Expected to supply retry delay, but an exception was thrown. Falling back to default backoff supplier";
   // job queue state
-  private final int maxJobsActive;
-  private final int activationThreshold;
+  private final IntSupplier jobsActiveLimit;
   private final AtomicInteger remainingJobs;
 
   // job execution facilities
@@ -91,11 +96,36 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       final JobStreamer jobStreamer,
       final BackoffSupplier backoffSupplier,
       final JobWorkerMetrics metrics) {
-    this.maxJobsActive = maxJobsActive;
-    activationThreshold = Math.round(maxJobsActive * 0.3f);
+    this(
+        maxJobsActive,
+        () -> maxJobsActive,
+        jobActivationTimeout,
+        executor,
+        executor,
+        pollInterval,
+        jobHandlerFactory,
+        jobPoller,
+        jobStreamer,
+        backoffSupplier,
+        metrics);
+  }
+
+  public JobWorkerImpl(
+      final int maxJobsActive,
+      final IntSupplier jobsActiveLimit,
+      final Duration jobActivationTimeout,
+      final ScheduledExecutorService executor,
+      final Executor handlerExecutor,
+      final Duration pollInterval,
+      final JobRunnableFactory jobHandlerFactory,
+      final JobPoller jobPoller,
+      final JobStreamer jobStreamer,
+      final BackoffSupplier backoffSupplier,
+      final JobWorkerMetrics metrics) {
+    this.jobsActiveLimit = jobsActiveLimit;
     remainingJobs = new AtomicInteger(0);
 
-    this.executor = new BlockingExecutor(executor, maxJobsActive, jobActivationTimeout);
+    this.executor = new BlockingExecutor(handlerExecutor, maxJobsActive, jobActivationTimeout);
     scheduledExecutorService = executor;
     this.jobHandlerFactory = jobHandlerFactory;
     this.jobStreamer = jobStreamer;
@@ -150,7 +180,11 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   }
 
   private boolean shouldPoll(final int remainingJobs) {
-    return acquiringJobs.get() && remainingJobs <= activationThreshold;
+    return acquiringJobs.get() && remainingJobs <= activationThreshold();
+  }
+
+  private int activationThreshold() {
+    return Math.round(jobsActiveLimit.getAsInt() * 0.3f);
   }
 
   private void tryPoll() {
@@ -188,7 +222,9 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       schedulePoll();
       return;
     }
-    final int maxJobsToActivate = maxJobsActive - actualRemainingJobs;
+    // an adaptive limit may have shrunk since it was checked, but the gateway rejects requests for
+    // less than one job
+    final int maxJobsToActivate = Math.max(1, jobsActiveLimit.getAsInt() - actualRemainingJobs);
     jobPoller.poll(
         maxJobsToActivate,
         this::handleJob,
@@ -18,18 +18,29 @@ package io.camunda.zeebe.client.impl.worker.metrics;
 import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
 import io.micrometer.core.instrument.Counter;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
 
   private final Counter jobActivatedCounter;
   private final Counter jobHandledCounter;
+  private final AtomicInteger jobsActiveLimit;
 
   public MicrometerJobWorkerMetrics(
       final Counter jobActivatedCounter, final Counter jobHandledCounter) {
+    this(jobActivatedCounter, jobHandledCounter, new AtomicInteger());
+  }
+
+  public MicrometerJobWorkerMetrics(
+      final Counter jobActivatedCounter,
+      final Counter jobHandledCounter,
+      final AtomicInteger jobsActiveLimit) {
     this.jobActivatedCounter =
         Objects.requireNonNull(jobActivatedCounter, "must specify a job activated counter");
     this.jobHandledCounter =
         Objects.requireNonNull(jobHandledCounter, "must specify a job handled counter");
+    this.jobsActiveLimit =
+        Objects.requireNonNull(jobsActiveLimit, "must specify a jobs active limit gauge value");
   }
 
   @Override
@@ -41,4 +52,9 @@ public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
   public void jobHandled(final int count) {
     jobHandledCounter.increment(count);
   }
+
+  @Override
+  public void jobsActiveLimit(final int limit) {
+    jobsActiveLimit.set(limit);
+  }
 }
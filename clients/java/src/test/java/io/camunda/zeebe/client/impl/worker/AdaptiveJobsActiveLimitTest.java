@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveJobsActiveLimitTest {
+  private static final long LATENCY = Duration.ofMillis(10).toNanos();
+
+  private final List<Integer> reportedLimits = new ArrayList<>();
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  void shouldStartWithInitialLimit() {
+    // when
+    final AdaptiveJobsActiveLimit limit = new AdaptiveJobsActiveLimit(100, reportedLimits::add);
+
+    // then
+    assertThat(limit.getAsInt()).isEqualTo(AdaptiveJobsActiveLimit.INITIAL_LIMIT);
+    assertThat(reportedLimits).containsExactly(AdaptiveJobsActiveLimit.INITIAL_LIMIT);
+  }
+
+  @Test
+  void shouldNotStartAboveMaxJobsActive() {
+    // when
+    final AdaptiveJobsActiveLimit limit = new AdaptiveJobsActiveLimit(5, reportedLimits::add);
+
+    // then
+    assertThat(limit.getAsInt()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldGrowLimitWhileLatencyIsStable() {
+    // given
+    final AdaptiveJobsActiveLimit limit = new AdaptiveJobsActiveLimit(100, reportedLimits::add);
+
+    // when
+    sample(limit, 50, LATENCY);
+
+    // then
+    assertThat(limit.getAsInt()).isGreaterThan(AdaptiveJobsActiveLimit.INITIAL_LIMIT);
+    assertThat(reportedLimits).isSorted().last().isEqualTo(limit.getAsInt());
+  }
+
+  @Test
+  void shouldNotGrowLimitAboveMaxJobsActive() {
+    // given
+    final AdaptiveJobsActiveLimit limit = new AdaptiveJobsActiveLimit(40, reportedLimits::add);
+
+    // when
+    sample(limit, 500, LATENCY);
+
+    // then
+    assertThat(limit.getAsInt()).isEqualTo(40);
+  }
+
+  @Test
+  void shouldNotGrowLimitIfItIsNotUsed() {
+    // given
+    final AdaptiveJobsActiveLimit limit = new AdaptiveJobsActiveLimit(100, reportedLimits::add);
+
+    // when
+    for (int i = 0; i < 50; i++) {
+      limit.onSample(LATENCY, 1, false);
+    }
+
+    // then
+    assertThat(limit.getAsInt()).isEqualTo(AdaptiveJobsActiveLimit.INITIAL_LIMIT);
+  }
+
+  @Test
+  void shouldShrinkLimitIfLatencyRises() {
+    // given
+    final AdaptiveJobsActiveLimit limit = new AdaptiveJobsActiveLimit(100, reportedLimits::add);
+    sample(limit, 100, LATENCY);
+    final int stableLimit = limit.getAsInt();
+
+    // when
+    sample(limit, 20, LATENCY * 10);
+
+    // then
+    assertThat(limit.getAsInt()).isLessThan(stableLimit);
+  }
+
+  @Test
+  void shouldShrinkLimitOnFailure() {
+    // given
+    final AdaptiveJobsActiveLimit limit = new AdaptiveJobsActiveLimit(100, reportedLimits::add);
+
+    // when
+    limit.onSample(LATENCY, 1, true);
+
+    // then
+    assertThat(limit.getAsInt()).isLessThan(AdaptiveJobsActiveLimit.INITIAL_LIMIT);
+  }
+
+  @Test
+  void shouldNotShrinkLimitBelowMinimum() {
+    // given
+    final AdaptiveJobsActiveLimit limit = new AdaptiveJobsActiveLimit(100, reportedLimits::add);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(LATENCY, 1, true);
+    }
+
+    // then
+    assertThat(limit.getAsInt()).isEqualTo(AdaptiveJobsActiveLimit.MIN_LIMIT);
+  }
+
+  @Test
+  void shouldObserveFailingHandler() {
+    // given
+    final AdaptiveJobsActiveLimit limit =
+        new AdaptiveJobsActiveLimit(100, reportedLimits::add, clock::get);
+    final JobHandler handler =
+        limit.observe(
+            (client, job) -> {
+              clock.addAndGet(LATENCY);
+              throw new IllegalStateException("expected");
+            });
+
+    // when
+    assertThatThrownBy(() -> handler.handle(null, null)).hasMessage("expected");
+
+    // then
+    assertThat(limit.getAsInt()).isLessThan(AdaptiveJobsActiveLimit.INITIAL_LIMIT);
+  }
+
+  private void sample(final AdaptiveJobsActiveLimit limit, final int count, final long latency) {
+    for (int i = 0; i < count; i++) {
+      // the handler uses the whole limit
+      limit.onSample(latency, limit.getAsInt(), false);
+    }
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayImplBase;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultResponse;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.jmock.lib.concurrent.DeterministicScheduler;
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.migrationsupport.rules.ExternalResourceSupport;
+
+@ExtendWith(ExternalResourceSupport.class)
+final class JobResultStreamTest {
+  @Rule
+  public final GrpcCleanupRule grpcRule =
+      new GrpcCleanupRule().setTimeout(1, TimeUnit.MILLISECONDS);
+
+  private final Service service = new Service();
+  private final DeterministicScheduler scheduler = new DeterministicScheduler();
+  private final AtomicBoolean isFallbackUsed = new AtomicBoolean();
+  private final RecordingObserver observer = new RecordingObserver();
+  private JobResultStream resultStream;
+
+  @BeforeEach
+  void beforeEach() throws IOException {
+    final String name = InProcessServerBuilder.generateName();
+    final ManagedChannel clientChannel =
+        grpcRule.register(InProcessChannelBuilder.forName(name).directExecutor().build());
+    final GatewayStub asyncStub = GatewayGrpc.newStub(clientChannel);
+
+    grpcRule.register(
+        InProcessServerBuilder.forName(name).directExecutor().addService(service).build().start());
+    resultStream = new JobResultStream(asyncStub, scheduler);
+  }
+
+  @AfterEach
+  void afterEach() {
+    resultStream.close();
+  }
+
+  @Test
+  void shouldCompleteResultOnAcknowledgement() {
+    // given
+    send(1);
+    send(2);
+
+    // when
+    service.acknowledge(JobResultResponse.newBuilder().setJobKey(1).build());
+
+    // then
+    assertThat(service.requests)
+        .extracting(request -> request.getComplete().getJobKey())
+        .containsExactly(1L, 2L);
+    assertThat(observer.responses).containsExactly("ok");
+    assertThat(observer.isCompleted).isTrue();
+    assertThat(isFallbackUsed).isFalse();
+  }
+
+  @Test
+  void shouldFailResultOnRejection() {
+    // given
+    send(1);
+
+    // when
+    service.acknowledge(
+        JobResultResponse.newBuilder()
+            .setJobKey(1)
+            .setCode(Code.NOT_FOUND.value())
+            .setMessage("no such job")
+            .build());
+
+    // then
+    assertThat(observer.responses).isEmpty();
+    assertThat(Status.fromThrowable(observer.error).getCode()).isEqualTo(Code.NOT_FOUND);
+    assertThat(Status.fromThrowable(observer.error).getDescription()).isEqualTo("no such job");
+  }
+
+  @Test
+  void shouldFailStreamOnMismatchedAcknowledgement() {
+    // given
+    send(1);
+    send(2);
+
+    // when
+    service.acknowledge(JobResultResponse.newBuilder().setJobKey(2).build());
+
+    // then
+    assertThat(observer.responses).isEmpty();
+    assertThat(Status.fromThrowable(observer.error).getCode()).isEqualTo(Code.INTERNAL);
+    assertThat(service.isCancelled).isTrue();
+    assertThat(isFallbackUsed).isFalse();
+  }
+
+  @Test
+  void shouldReopenStreamAfterMismatchedAcknowledgement() {
+    // given
+    send(1);
+    service.acknowledge(JobResultResponse.newBuilder().setJobKey(2).build());
+
+    // when
+    send(3);
+    service.acknowledge(JobResultResponse.newBuilder().setJobKey(3).build());
+
+    // then
+    assertThat(service.requests)
+        .extracting(request -> request.getComplete().getJobKey())
+        .containsExactly(1L, 3L);
+    assertThat(observer.responses).containsExactly("ok");
+  }
+
+  @Test
+  void shouldFailResultIfNotAcknowledgedInTime() {
+    // given
+    send(1);
+
+    // when
+    scheduler.tick(10, TimeUnit.SECONDS);
+
+    // then
+    assertThat(Status.fromThrowable(observer.error).getCode()).isEqualTo(Code.DEADLINE_EXCEEDED);
+  }
+
+  @Test
+  void shouldFallBackIfStreamIsUnimplemented() {
+    // given
+    service.isUnimplemented = true;
+
+    // when
+    send(1);
+
+    // then
+    assertThat(isFallbackUsed).isTrue();
+    assertThat(observer.error).isNull();
+  }
+
+  @Test
+  void shouldFallBackAfterClose() {
+    // given
+    resultStream.close();
+
+    // when
+    send(1);
+
+    // then
+    assertThat(service.requests).isEmpty();
+    assertThat(isFallbackUsed).isTrue();
+  }
+
+  private void send(final long jobKey) {
+    resultStream.send(
+        JobResultRequest.newBuilder()
+            .setComplete(CompleteJobRequest.newBuilder().setJobKey(jobKey))
+            .build(),
+        "ok",
+        observer,
+        Duration.ofSeconds(10),
+        () -> isFallbackUsed.set(true));
+  }
+
+  private static final class RecordingObserver implements StreamObserver<String> {
+    private final List<String> responses = new ArrayList<>();
+    private Throwable error;
+    private boolean isCompleted;
+
+    @Override
+    public void onNext(final String value) {
+      responses.add(value);
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      error = t;
+    }
+
+    @Override
+    public void onCompleted() {
+      isCompleted = true;
+    }
+  }
+
+  private static final class Service extends GatewayImplBase {
+    private final List<JobResultRequest> requests = new ArrayList<>();
+    private StreamObserver<JobResultResponse> responseObserver;
+    private boolean isUnimplemented;
+    private boolean isCancelled;
+
+    @Override
+    public StreamObserver<JobResultRequest> jobResults(
+        final StreamObserver<JobResultResponse> responseObserver) {
+      if (isUnimplemented) {
+        return super.jobResults(responseObserver);
+      }
+
+      this.responseObserver = responseObserver;
+      return new StreamObserver<JobResultRequest>() {
+        @Override
+        public void onNext(final JobResultRequest value) {
+          requests.add(value);
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+          isCancelled = true;
+        }
+
+        @Override
+        public void onCompleted() {
+          responseObserver.onCompleted();
+        }
+      };
+    }
+
+    private void acknowledge(final JobResultResponse response) {
+      responseObserver.onNext(response);
+    }
+  }
+}
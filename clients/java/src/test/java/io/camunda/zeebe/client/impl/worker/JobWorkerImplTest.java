@@ -23,6 +23,7 @@ import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.client.api.worker.JobHandler;
 import io.camunda.zeebe.client.api.worker.JobWorker;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
+import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
 import io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl;
 import io.camunda.zeebe.client.impl.ZeebeClientImpl;
 import io.camunda.zeebe.client.impl.util.Environment;
@@ -51,6 +52,7 @@ import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.awaitility.Awaitility;
 import org.hamcrest.Matchers;
 import org.junit.Before;
@@ -175,6 +177,31 @@ public final class JobWorkerImplTest {
     }
   }
 
+  @Test
+  public void shouldReportFixedJobsActiveLimit() {
+    // given
+    final AtomicInteger jobsActiveLimit = new AtomicInteger();
+    final JobWorkerBuilderStep3 builder =
+        client
+            .newWorker()
+            .jobType("test")
+            .handler(NOOP_JOB_HANDLER)
+            .maxJobsActive(7)
+            .metrics(
+                new JobWorkerMetrics() {
+                  @Override
+                  public void jobsActiveLimit(final int limit) {
+                    jobsActiveLimit.set(limit);
+                  }
+                });
+
+    // when
+    try (final JobWorker ignored = builder.open()) {
+      // then
+      assertThat(jobsActiveLimit).hasValue(7);
+    }
+  }
+
   @Test
   public void workerBuilderShouldOverrideEnvVariables() {
     // given
@@ -18,6 +18,7 @@ package io.camunda.zeebe.client.impl.worker.metrics;
 import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
 import io.camunda.zeebe.client.api.worker.metrics.MicrometerJobWorkerMetricsBuilder.Names;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -58,6 +59,17 @@ final class MicrometerJobWorkerMetricsTest {
         .has(hasCount(3));
   }
 
+  @Test
+  void shouldReportJobsActiveLimit() {
+    // when
+    metrics.jobsActiveLimit(12);
+
+    // then
+    final Gauge gauge = meterRegistry.find(Names.JOB_ACTIVE_LIMIT.asString()).tags(tags).gauge();
+    Assertions.assertThat(gauge).isNotNull();
+    Assertions.assertThat(gauge.value()).isEqualTo(12);
+  }
+
   private Condition<MeterRegistry> hasCounter(final Names name, final Iterable<Tag> tags) {
     return VerboseCondition.verboseCondition(
         registry -> registry.find(name.asString()).tags(tags).counter() != null,
@@ -40,6 +40,8 @@ public final class ActorSchedulerConfiguration {
         ActorScheduler.newActorScheduler()
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
+            .setCpuBoundAffinityGroupCount(cfg.getCpuThreadAffinityGroupCount())
+            .setBlockingTaskVirtualThreadsEnabled(cfg.isUseVirtualThreadsForBlockingTasks())
             .setIoBoundActorThreadCount(ioThreads)
             .setMetricsEnabled(metricsEnabled)
             .setSchedulerName(String.format("Broker-%d", brokerCfg.getCluster().getNodeId()))
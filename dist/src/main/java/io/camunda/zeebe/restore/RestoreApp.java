@@ -21,24 +21,31 @@ import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication(
     scanBasePackages = {"io.camunda.zeebe.restore", "io.camunda.zeebe.broker.shared"})
 @ConfigurationPropertiesScan(basePackages = {"io.camunda.zeebe.broker.shared"})
+@EnableConfigurationProperties(RestoreConfiguration.class)
 public class RestoreApp implements ApplicationRunner {
 
   private static final Logger LOG = LoggerFactory.getLogger(RestoreApp.class);
   private final BrokerCfg configuration;
   private final BackupStore backupStore;
+  private final RestoreConfiguration restoreConfiguration;
 
   @Value("${backupId}")
   // Parsed from commandline Eg:-`--backupId=100`
   private long backupId;
 
   @Autowired
-  public RestoreApp(final BrokerConfiguration configuration, final BackupStore backupStore) {
+  public RestoreApp(
+      final BrokerConfiguration configuration,
+      final BackupStore backupStore,
+      final RestoreConfiguration restoreConfiguration) {
     this.configuration = configuration.config();
     this.backupStore = backupStore;
+    this.restoreConfiguration = restoreConfiguration;
   }
 
   public static void main(final String[] args) {
@@ -57,7 +64,10 @@ public class RestoreApp implements ApplicationRunner {
   @Override
   public void run(final ApplicationArguments args) {
     LOG.info("Starting to restore from backup {}", backupId);
-    new RestoreManager(configuration, backupStore).restore(backupId).join();
+    new RestoreManager(
+            configuration, backupStore, restoreConfiguration.maxConcurrentPartitionRestores())
+        .restore(backupId)
+        .join();
     LOG.info("Successfully restored broker from backup {}", backupId);
   }
 }
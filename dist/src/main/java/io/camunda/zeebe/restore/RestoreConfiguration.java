@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.restore;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.lang.Nullable;
+
+/**
+ * Configuration of the restore application, e.g. {@code
+ * zeebe.restore.maxConcurrentPartitionRestores=2}.
+ *
+ * @param maxConcurrentPartitionRestores the maximum number of partitions which are downloaded and
+ *     restored at the same time; defaults to the number of available processors
+ */
+@ConfigurationProperties(prefix = "zeebe.restore")
+public record RestoreConfiguration(@Nullable Integer maxConcurrentPartitionRestores) {
+  @Override
+  public Integer maxConcurrentPartitionRestores() {
+    return maxConcurrentPartitionRestores == null
+        ? RestoreManager.DEFAULT_MAX_CONCURRENT_PARTITION_RESTORES
+        : maxConcurrentPartitionRestores;
+  }
+}
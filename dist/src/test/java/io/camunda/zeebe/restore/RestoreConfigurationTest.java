@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.restore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class RestoreConfigurationTest {
+  @Test
+  void shouldConfigureMaxConcurrentPartitionRestores() {
+    // given
+    final var config = new RestoreConfiguration(2);
+
+    // when
+    final var maxConcurrentPartitionRestores = config.maxConcurrentPartitionRestores();
+
+    // then
+    assertThat(maxConcurrentPartitionRestores).isEqualTo(2);
+  }
+
+  @Test
+  void shouldDefaultToAvailableProcessors() {
+    // given
+    final var config = new RestoreConfiguration(null);
+
+    // when
+    final var maxConcurrentPartitionRestores = config.maxConcurrentPartitionRestores();
+
+    // then
+    assertThat(maxConcurrentPartitionRestores)
+        .isEqualTo(RestoreManager.DEFAULT_MAX_CONCURRENT_PARTITION_RESTORES)
+        .isEqualTo(Runtime.getRuntime().availableProcessors());
+  }
+}
@@ -136,7 +136,6 @@ public class Engine implements RecordProcessor {
       final TypedRecord record,
       final ProcessingResultBuilder processingResultBuilder) {
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
-
       final var typedCommand = (TypedRecord<?>) record;
       TypedRecordProcessor<?> processor = null;
       try {
@@ -162,6 +161,13 @@ public class Engine implements RecordProcessor {
     return processingResultBuilder.build();
   }
 
+  @Override
+  public void onRollback() {
+    // the rolled back modifications may have been cached in memory, outside of the transaction
+    processingState.getVariableState().invalidateVariableVersions();
+    processingState.getJobState().invalidateTypesWithoutActivatableJobs();
+  }
+
   private void handleUnexpectedError(
       final Throwable processingException, final TypedRecord record) {
     final String errorMessage =
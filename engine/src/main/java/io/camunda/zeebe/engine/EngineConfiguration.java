@@ -22,9 +22,12 @@ public final class EngineConfiguration {
 
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
 
+  public static final boolean DEFAULT_JOB_VARIABLES_PROJECTION_ENABLED = false;
+
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
+  private boolean jobVariablesProjectionEnabled = DEFAULT_JOB_VARIABLES_PROJECTION_ENABLED;
 
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
@@ -54,4 +57,14 @@ public final class EngineConfiguration {
     this.drgCacheCapacity = drgCacheCapacity;
     return this;
   }
+
+  public boolean isJobVariablesProjectionEnabled() {
+    return jobVariablesProjectionEnabled;
+  }
+
+  public EngineConfiguration setJobVariablesProjectionEnabled(
+      final boolean jobVariablesProjectionEnabled) {
+    this.jobVariablesProjectionEnabled = jobVariablesProjectionEnabled;
+    return this;
+  }
 }
@@ -7,7 +7,9 @@
  */
 package io.camunda.zeebe.engine.metrics;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public class BufferedMessagesMetrics {
 
@@ -19,6 +21,32 @@ public class BufferedMessagesMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Counter EXPIRED_MESSAGES_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("expired_messages_total")
+          .help("Number of buffered messages which expired because their time to live elapsed.")
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram TTL_CHECKER_BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("message_ttl_checker_batch_size")
+          .help("Number of expired messages found by a single run of the message TTL checker.")
+          .labelNames("partition")
+          .buckets(1, 10, 100, 1_000, 10_000)
+          .register();
+
+  private static final Histogram TTL_CHECKER_DURATION =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("message_ttl_checker_duration_seconds")
+          .help("Time spent by a single run of the message TTL checker to find expired messages.")
+          .labelNames("partition")
+          .buckets(.001, .005, .01, .05, .1, .5, 1, 5)
+          .register();
+
   private final String partitionIdLabel;
 
   public BufferedMessagesMetrics(final int partitionId) {
@@ -28,4 +56,13 @@ public class BufferedMessagesMetrics {
   public void setBufferedMessagesCounter(final long counter) {
     BUFFERED_MESSAGES_COUNT.labels(partitionIdLabel).set((int) counter);
   }
+
+  public void countExpiredMessages(final int expiredMessages) {
+    EXPIRED_MESSAGES_COUNT.labels(partitionIdLabel).inc(expiredMessages);
+  }
+
+  public void observeTtlCheckerRun(final int expiredMessages, final long durationNanos) {
+    TTL_CHECKER_BATCH_SIZE.labels(partitionIdLabel).observe(expiredMessages);
+    TTL_CHECKER_DURATION.labels(partitionIdLabel).observe(durationNanos / 1_000_000_000D);
+  }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+/**
+ * Metrics about the message load that is routed to a partition by its correlation keys. Together
+ * with the share of the hottest correlation key, these show whether a partition is overloaded
+ * because of a skewed correlation key distribution.
+ */
+public final class MessageRoutingMetrics {
+
+  private static final Counter CORRELATION_KEY_EVENTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("message_correlation_key_events_total")
+          .help(
+              "Number of published messages and opened message subscriptions routed to the partition by their correlation key")
+          .labelNames("action", "partition")
+          .register();
+
+  private static final Gauge HOT_CORRELATION_KEY_SHARE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("message_hot_correlation_key_share")
+          .help(
+              "Share of the most frequent correlation key among the recently published messages and opened subscriptions of the partition")
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public MessageRoutingMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void messagePublished() {
+    CORRELATION_KEY_EVENTS.labels("published", partitionIdLabel).inc();
+  }
+
+  public void subscriptionOpened() {
+    CORRELATION_KEY_EVENTS.labels("subscribed", partitionIdLabel).inc();
+  }
+
+  public void setHotCorrelationKeyShare(final double share) {
+    HOT_CORRELATION_KEY_SHARE.labels(partitionIdLabel).set(share);
+  }
+
+  /** Clears the metrics. You probably only want to use this during testing. */
+  static void clear() {
+    CORRELATION_KEY_EVENTS.clear();
+    HOT_CORRELATION_KEY_SHARE.clear();
+  }
+}
@@ -28,6 +28,7 @@ import io.camunda.zeebe.engine.processing.distribution.CommandRedistributor;
 import io.camunda.zeebe.engine.processing.dmn.DecisionEvaluationEvaluteProcessor;
 import io.camunda.zeebe.engine.processing.incident.IncidentEventProcessors;
 import io.camunda.zeebe.engine.processing.job.JobEventProcessors;
+import io.camunda.zeebe.engine.processing.job.JobVariablesCollector;
 import io.camunda.zeebe.engine.processing.message.MessageEventProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.resource.ResourceDeletionDeleteProcessor;
@@ -86,6 +87,10 @@ public final class EngineProcessors {
 
     subscriptionCommandSender.setWriters(writers);
 
+    final var jobVariablesCollector =
+        new JobVariablesCollector(
+            processingState.getVariableState(), config.isJobVariablesProjectionEnabled());
+
     final var decisionBehavior =
         new DecisionBehavior(
             DecisionEngineFactory.createDecisionEngine(), processingState, processEngineMetrics);
@@ -98,7 +103,8 @@ public final class EngineProcessors {
             timerChecker,
             jobStreamer,
             jobMetrics,
-            decisionBehavior);
+            decisionBehavior,
+            jobVariablesCollector);
 
     final var commandDistributionBehavior =
         new CommandDistributionBehavior(
@@ -148,7 +154,8 @@ public final class EngineProcessors {
         scheduledTaskStateFactory,
         bpmnBehaviors,
         writers,
-        jobMetrics);
+        jobMetrics,
+        jobVariablesCollector);
 
     addIncidentProcessors(
         processingState,
@@ -186,7 +193,8 @@ public final class EngineProcessors {
       final DueDateTimerChecker timerChecker,
       final JobStreamer jobStreamer,
       final JobMetrics jobMetrics,
-      final DecisionBehavior decisionBehavior) {
+      final DecisionBehavior decisionBehavior,
+      final JobVariablesCollector jobVariablesCollector) {
     return new BpmnBehaviorsImpl(
         processingState,
         writers,
@@ -195,7 +203,8 @@ public final class EngineProcessors {
         subscriptionCommandSender,
         partitionsCount,
         timerChecker,
-        jobStreamer);
+        jobStreamer,
+        jobVariablesCollector);
   }
 
   private static TypedRecordProcessor<ProcessInstanceRecord> addProcessProcessors(
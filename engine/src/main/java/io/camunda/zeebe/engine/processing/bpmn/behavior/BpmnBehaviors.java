@@ -42,6 +42,8 @@ public interface BpmnBehaviors {
 
   MultiInstanceOutputCollectionBehavior outputCollectionBehavior();
 
+  MultiInstanceInputCollectionBehavior inputCollectionBehavior();
+
   CatchEventBehavior catchEventBehavior();
 
   EventTriggerBehavior eventTriggerBehavior();
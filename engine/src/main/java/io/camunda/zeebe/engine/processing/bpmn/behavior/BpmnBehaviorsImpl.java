@@ -16,6 +16,7 @@ import io.camunda.zeebe.engine.processing.common.DecisionBehavior;
 import io.camunda.zeebe.engine.processing.common.ElementActivationBehavior;
 import io.camunda.zeebe.engine.processing.common.EventTriggerBehavior;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.job.JobVariablesCollector;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
@@ -40,6 +41,7 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
   private final BpmnJobBehavior jobBehavior;
 
   private final MultiInstanceOutputCollectionBehavior multiInstanceOutputCollectionBehavior;
+  private final MultiInstanceInputCollectionBehavior multiInstanceInputCollectionBehavior;
   private final CatchEventBehavior catchEventBehavior;
   private final EventTriggerBehavior eventTriggerBehavior;
   private final VariableBehavior variableBehavior;
@@ -55,7 +57,8 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
       final SubscriptionCommandSender subscriptionCommandSender,
       final int partitionsCount,
       final DueDateTimerChecker timerChecker,
-      final JobStreamer jobStreamer) {
+      final JobStreamer jobStreamer,
+      final JobVariablesCollector jobVariablesCollector) {
     expressionBehavior =
         new ExpressionProcessor(
             ExpressionLanguageFactory.createExpressionLanguage(
@@ -127,7 +130,7 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
     jobActivationBehavior =
         new BpmnJobActivationBehavior(
             jobStreamer,
-            processingState.getVariableState(),
+            jobVariablesCollector,
             writers,
             processingState.getKeyGenerator(),
             jobMetrics);
@@ -146,6 +149,9 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
 
     multiInstanceOutputCollectionBehavior =
         new MultiInstanceOutputCollectionBehavior(stateBehavior, expressionBehavior());
+    multiInstanceInputCollectionBehavior =
+        new MultiInstanceInputCollectionBehavior(
+            expressionBehavior, processingState.getVariableState());
 
     elementActivationBehavior =
         new ElementActivationBehavior(
@@ -227,6 +233,11 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
     return multiInstanceOutputCollectionBehavior;
   }
 
+  @Override
+  public MultiInstanceInputCollectionBehavior inputCollectionBehavior() {
+    return multiInstanceInputCollectionBehavior;
+  }
+
   @Override
   public CatchEventBehavior catchEventBehavior() {
     return catchEventBehavior;
@@ -14,7 +14,6 @@ import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer.JobStream;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.SideEffectWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
-import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
@@ -46,14 +45,14 @@ public class BpmnJobActivationBehavior {
 
   public BpmnJobActivationBehavior(
       final JobStreamer jobStreamer,
-      final VariableState variableState,
+      final JobVariablesCollector jobVariablesCollector,
       final Writers writers,
       final KeyGenerator keyGenerator,
       final JobMetrics jobMetrics) {
     this.jobStreamer = jobStreamer;
     this.keyGenerator = keyGenerator;
     this.jobMetrics = jobMetrics;
-    jobVariablesCollector = new JobVariablesCollector(variableState);
+    this.jobVariablesCollector = jobVariablesCollector;
     stateWriter = writers.state();
     sideEffectWriter = writers.sideEffect();
   }
@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.bpmn.behavior;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.common.Failure;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+
+/**
+ * Reads the input collection of a multi-instance body. The input collection is read whenever a
+ * child instance is activated, and for sequential loops also whenever a child instance is
+ * completed, which makes evaluating the input collection expression over and over again the
+ * dominant cost of large loops.
+ *
+ * <p>If the input collection expression refers to a single variable (or a property of it), the
+ * evaluated collection is cached per multi-instance body, together with the {@link
+ * VariableState#getVariableVersion(DirectBuffer) version} of the variable it was evaluated from.
+ * The cached collection is only used as long as no variable with that name was set or removed
+ * since, so modifying the input collection while iterating over it behaves exactly as if the
+ * expression was evaluated again, without reading the variable for every child instance. The
+ * input collection is always read either in the scope of the multi-instance body or in the scope
+ * of a child instance that is being activated, which has no local variables yet, so both resolve
+ * the variable in the same scope. The cache is not part of the state, it only avoids repeated
+ * work.
+ */
+public final class MultiInstanceInputCollectionBehavior {
+
+  // the number of multi-instance bodies whose input collection is cached at the same time
+  private static final int MAX_CACHED_INPUT_COLLECTIONS = 32;
+
+  private final Map<Long, CachedInputCollection> cachedInputCollections =
+      new LinkedHashMap<>(MAX_CACHED_INPUT_COLLECTIONS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(
+            final Map.Entry<Long, CachedInputCollection> eldest) {
+          return size() > MAX_CACHED_INPUT_COLLECTIONS;
+        }
+      };
+
+  private final ExpressionProcessor expressionProcessor;
+  private final VariableState variableState;
+
+  MultiInstanceInputCollectionBehavior(
+      final ExpressionProcessor expressionProcessor, final VariableState variableState) {
+    this.expressionProcessor = expressionProcessor;
+    this.variableState = variableState;
+  }
+
+  /**
+   * Evaluates the input collection of the given multi-instance body, or returns the collection
+   * that was evaluated previously if the variable it refers to wasn't modified since.
+   *
+   * @param element the multi-instance body
+   * @param multiInstanceBodyKey the key of the multi-instance body instance
+   * @param scopeKey the key of the scope to evaluate the input collection expression in
+   * @return either the input collection, or a failure if the expression can't be evaluated
+   */
+  public Either<Failure, List<DirectBuffer>> getInputCollection(
+      final ExecutableMultiInstanceBody element,
+      final long multiInstanceBodyKey,
+      final long scopeKey) {
+    final Expression inputCollection = element.getLoopCharacteristics().getInputCollection();
+    final var variableName = inputCollection.getVariableName();
+    if (variableName.isEmpty()) {
+      return expressionProcessor.evaluateArrayExpression(inputCollection, scopeKey);
+    }
+
+    final long variableVersion =
+        variableState.getVariableVersion(BufferUtil.wrapString(variableName.get()));
+    final var cached = cachedInputCollections.get(multiInstanceBodyKey);
+    if (cached != null && cached.variableVersion() == variableVersion) {
+      return Either.right(cached.collection());
+    }
+
+    final var evaluated = expressionProcessor.evaluateArrayExpression(inputCollection, scopeKey);
+    if (evaluated.isRight()) {
+      cachedInputCollections.put(
+          multiInstanceBodyKey, new CachedInputCollection(variableVersion, evaluated.get()));
+    } else {
+      cachedInputCollections.remove(multiInstanceBodyKey);
+    }
+    return evaluated;
+  }
+
+  /**
+   * Removes the cached input collection of the given multi-instance body. Should be called when
+   * the multi-instance body is completed or terminated.
+   *
+   * @param multiInstanceBodyKey the key of the multi-instance body instance
+   */
+  public void removeInputCollection(final long multiInstanceBodyKey) {
+    cachedInputCollections.remove(multiInstanceBodyKey);
+  }
+
+  private record CachedInputCollection(long variableVersion, List<DirectBuffer> collection) {}
+}
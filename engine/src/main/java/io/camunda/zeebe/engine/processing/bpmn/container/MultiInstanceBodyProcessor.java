@@ -15,6 +15,7 @@ import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnEventSubscriptionBeh
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnIncidentBehavior;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnStateBehavior;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnStateTransitionBehavior;
+import io.camunda.zeebe.engine.processing.bpmn.behavior.MultiInstanceInputCollectionBehavior;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.MultiInstanceOutputCollectionBehavior;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
@@ -62,6 +63,7 @@ public final class MultiInstanceBodyProcessor
   private final BpmnStateBehavior stateBehavior;
   private final BpmnIncidentBehavior incidentBehavior;
   private final MultiInstanceOutputCollectionBehavior multiInstanceOutputCollectionBehavior;
+  private final MultiInstanceInputCollectionBehavior multiInstanceInputCollectionBehavior;
 
   public MultiInstanceBodyProcessor(
       final BpmnBehaviors bpmnBehaviors,
@@ -72,6 +74,7 @@ public final class MultiInstanceBodyProcessor
     expressionBehavior = bpmnBehaviors.expressionBehavior();
     incidentBehavior = bpmnBehaviors.incidentBehavior();
     multiInstanceOutputCollectionBehavior = bpmnBehaviors.outputCollectionBehavior();
+    multiInstanceInputCollectionBehavior = bpmnBehaviors.inputCollectionBehavior();
   }
 
   @Override
@@ -83,7 +86,7 @@ public final class MultiInstanceBodyProcessor
   public void onActivate(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
     // verify that the input collection variable is present and valid
-    readInputCollectionVariable(element, context)
+    readInputCollectionVariable(element, context.getElementInstanceKey(), context)
         .flatMap(
             inputCollection ->
                 eventSubscriptionBehavior
@@ -99,6 +102,7 @@ public final class MultiInstanceBodyProcessor
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
 
     eventSubscriptionBehavior.unsubscribeFromEvents(context);
+    multiInstanceInputCollectionBehavior.removeInputCollection(context.getElementInstanceKey());
 
     element
         .getLoopCharacteristics()
@@ -117,6 +121,7 @@ public final class MultiInstanceBodyProcessor
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
 
     eventSubscriptionBehavior.unsubscribeFromEvents(context);
+    multiInstanceInputCollectionBehavior.removeInputCollection(context.getElementInstanceKey());
 
     final var noActiveChildInstances = stateTransitionBehavior.terminateChildInstances(context);
     if (noActiveChildInstances) {
@@ -134,7 +139,8 @@ public final class MultiInstanceBodyProcessor
     final int loopCounter =
         stateBehavior.getElementInstance(childContext).getMultiInstanceLoopCounter();
 
-    return readInputCollectionVariable(multiInstanceBody, childContext)
+    return readInputCollectionVariable(
+            multiInstanceBody, flowScopeContext.getElementInstanceKey(), childContext)
         .flatMap(
             collection -> {
               // the loop counter starts at 1
@@ -182,7 +188,8 @@ public final class MultiInstanceBodyProcessor
     }
 
     // test that input collection variable can be evaluated correctly
-    return readInputCollectionVariable(element, flowScopeContext)
+    return readInputCollectionVariable(
+            element, flowScopeContext.getElementInstanceKey(), flowScopeContext)
         .map(ok -> satisfiesCompletionConditionOrFailure.get());
   }
 
@@ -211,7 +218,9 @@ public final class MultiInstanceBodyProcessor
 
     if (loopCharacteristics.isSequential()) {
 
-      final var inputCollectionOrFailure = readInputCollectionVariable(element, flowScopeContext);
+      final var inputCollectionOrFailure =
+          readInputCollectionVariable(
+              element, flowScopeContext.getElementInstanceKey(), flowScopeContext);
       if (inputCollectionOrFailure.isLeft()) {
         // this incident is un-resolvable
         incidentBehavior.createIncident(inputCollectionOrFailure.getLeft(), childContext);
@@ -352,10 +361,11 @@ public final class MultiInstanceBodyProcessor
   }
 
   private Either<Failure, List<DirectBuffer>> readInputCollectionVariable(
-      final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
-    final Expression inputCollection = element.getLoopCharacteristics().getInputCollection();
-    return expressionBehavior.evaluateArrayExpression(
-        inputCollection, context.getElementInstanceKey());
+      final ExecutableMultiInstanceBody element,
+      final long multiInstanceBodyKey,
+      final BpmnElementContext context) {
+    return multiInstanceInputCollectionBehavior.getInputCollection(
+        element, multiInstanceBodyKey, context.getElementInstanceKey());
   }
 
   private void createInnerInstance(
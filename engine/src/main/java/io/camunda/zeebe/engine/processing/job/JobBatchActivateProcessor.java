@@ -43,14 +43,15 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
       final Writers writers,
       final ProcessingState state,
       final KeyGenerator keyGenerator,
-      final JobMetrics jobMetrics) {
+      final JobMetrics jobMetrics,
+      final JobVariablesCollector jobVariablesCollector) {
 
     stateWriter = writers.state();
     rejectionWriter = writers.rejection();
     responseWriter = writers.response();
     jobBatchCollector =
         new JobBatchCollector(
-            state.getJobState(), state.getVariableState(), stateWriter::canWriteEventOfLength);
+            state.getJobState(), jobVariablesCollector, stateWriter::canWriteEventOfLength);
 
     this.keyGenerator = keyGenerator;
     this.jobMetrics = jobMetrics;
@@ -41,7 +41,7 @@ final class JobBatchCollector {
 
   /**
    * @param jobState the state from which jobs are collected
-   * @param variableState the state from which variables are resolved and collected
+   * @param jobVariablesCollector resolves and sets the variables of the collected jobs
    * @param canWriteEventOfLength a predicate which should return whether the resulting {@link
    *     TypedRecord} containing the {@link JobBatchRecord} will be writable or not. The predicate
    *     takes in the size of the record, and should return true if it can write such a record, and
@@ -49,11 +49,11 @@ final class JobBatchCollector {
    */
   JobBatchCollector(
       final JobState jobState,
-      final VariableState variableState,
+      final JobVariablesCollector jobVariablesCollector,
       final Predicate<Integer> canWriteEventOfLength) {
     this.jobState = jobState;
+    this.jobVariablesCollector = jobVariablesCollector;
     this.canWriteEventOfLength = canWriteEventOfLength;
-    jobVariablesCollector = new JobVariablesCollector(variableState);
   }
 
   /**
@@ -83,6 +83,7 @@ final class JobBatchCollector {
     jobState.forEachActivatableJobs(
         value.getTypeBuffer(),
         tenantIds,
+        maxActivatedCount,
         (key, jobRecord) -> {
           // fill in the job record properties first in order to accurately estimate its size before
           // adding it to the batch
@@ -27,7 +27,8 @@ public final class JobEventProcessors {
       final Supplier<ScheduledTaskState> scheduledTaskStateFactory,
       final BpmnBehaviors bpmnBehaviors,
       final Writers writers,
-      final JobMetrics jobMetrics) {
+      final JobMetrics jobMetrics,
+      final JobVariablesCollector jobVariablesCollector) {
 
     final var jobState = processingState.getJobState();
     final var keyGenerator = processingState.getKeyGenerator();
@@ -91,7 +92,11 @@ public final class JobEventProcessors {
             ValueType.JOB_BATCH,
             JobBatchIntent.ACTIVATE,
             new JobBatchActivateProcessor(
-                writers, processingState, processingState.getKeyGenerator(), jobMetrics))
+                writers,
+                processingState,
+                processingState.getKeyGenerator(),
+                jobMetrics,
+                jobVariablesCollector))
         .withListener(new JobTimeoutTrigger(scheduledTaskStateFactory.get().getJobState()))
         .withListener(jobBackoffChecker);
   }
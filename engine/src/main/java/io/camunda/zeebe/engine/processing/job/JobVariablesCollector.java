@@ -10,28 +10,89 @@ package io.camunda.zeebe.engine.processing.job;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.Collection;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.collections.ObjectHashSet;
 
+/**
+ * Resolves the variables of jobs which are activated, either through a job batch or by pushing
+ * them to a job stream.
+ *
+ * <p>If the variables projection is enabled, the collector remembers which variables were
+ * explicitly requested for a job type, and fetches only these variables for jobs of that type if a
+ * worker doesn't request any specific variables. This avoids serializing the whole variable scope
+ * chain for every activated job. Job types for which no variables were ever requested explicitly,
+ * or for which too many different variables were requested, still receive all variables.
+ *
+ * <p>The projection is kept in memory only, and is therefore rebuilt after every restart or leader
+ * change. Since the variables are part of the activated job batch event, this does not affect
+ * replay.
+ */
 public class JobVariablesCollector {
 
+  static final int MAX_PROJECTED_JOB_TYPES = 1000;
+  static final int MAX_PROJECTED_VARIABLES = 100;
+
+  private final Object2ObjectHashMap<DirectBuffer, Projection> projections =
+      new Object2ObjectHashMap<>();
   private final VariableState variableState;
+  private final boolean isProjectionEnabled;
 
-  public JobVariablesCollector(final VariableState variableState) {
+  public JobVariablesCollector(
+      final VariableState variableState, final boolean isProjectionEnabled) {
     this.variableState = variableState;
+    this.isProjectionEnabled = isProjectionEnabled;
   }
 
   public void setJobVariables(
       final Collection<DirectBuffer> requestedVariables, final JobRecord jobRecord) {
     final long elementInstanceKey = jobRecord.getElementInstanceKey();
     if (elementInstanceKey >= 0) {
-      final DirectBuffer variables = collectVariables(requestedVariables, elementInstanceKey);
+      final Collection<DirectBuffer> variableNames =
+          projectVariableNames(requestedVariables, jobRecord.getTypeBuffer());
+      final DirectBuffer variables = collectVariables(variableNames, elementInstanceKey);
       jobRecord.setVariables(variables);
     } else {
       jobRecord.setVariables(DocumentValue.EMPTY_DOCUMENT);
     }
   }
 
+  private Collection<DirectBuffer> projectVariableNames(
+      final Collection<DirectBuffer> requestedVariables, final DirectBuffer jobType) {
+    if (!isProjectionEnabled) {
+      return requestedVariables;
+    }
+
+    if (!requestedVariables.isEmpty()) {
+      learnProjection(jobType, requestedVariables);
+      return requestedVariables;
+    }
+
+    final Projection projection = projections.get(jobType);
+    if (projection == null || projection.isOverflowed) {
+      return requestedVariables;
+    }
+
+    return projection.variableNames;
+  }
+
+  private void learnProjection(
+      final DirectBuffer jobType, final Collection<DirectBuffer> requestedVariables) {
+    Projection projection = projections.get(jobType);
+    if (projection == null) {
+      if (projections.size() >= MAX_PROJECTED_JOB_TYPES) {
+        return;
+      }
+
+      projection = new Projection();
+      projections.put(BufferUtil.cloneBuffer(jobType), projection);
+    }
+
+    projection.learn(requestedVariables);
+  }
+
   private DirectBuffer collectVariables(
       final Collection<DirectBuffer> variableNames, final long elementInstanceKey) {
     final DirectBuffer variables;
@@ -44,4 +105,29 @@ public class JobVariablesCollector {
 
     return variables;
   }
+
+  private static final class Projection {
+    private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
+    private boolean isOverflowed;
+
+    private void learn(final Collection<DirectBuffer> requestedVariables) {
+      if (isOverflowed) {
+        return;
+      }
+
+      for (final DirectBuffer variableName : requestedVariables) {
+        if (!variableNames.contains(variableName)) {
+          if (variableNames.size() >= MAX_PROJECTED_VARIABLES) {
+            // too many different variables are used by the workers of this job type; fetch all of
+            // them instead of building an ever-growing projection
+            isOverflowed = true;
+            variableNames.clear();
+            return;
+          }
+
+          variableNames.add(BufferUtil.cloneBuffer(variableName));
+        }
+      }
+    }
+  }
 }
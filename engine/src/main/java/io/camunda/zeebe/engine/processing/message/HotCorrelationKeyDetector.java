@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import io.camunda.zeebe.engine.metrics.MessageRoutingMetrics;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import java.time.Duration;
+import org.agrona.DirectBuffer;
+
+/**
+ * Detects correlation keys which receive a disproportionate share of the message load of a
+ * partition.
+ *
+ * <p>Observations are grouped in windows, which end after a fixed number of observations or after
+ * a fixed duration, whichever comes first. Within a window, the most frequent correlation keys are
+ * tracked with the space-saving algorithm, which uses a fixed number of counters and never
+ * allocates. At the end of each window, the share of the most frequent key is published via {@link
+ * MessageRoutingMetrics}. The keys are tracked by their hash only, which is the same hash that is
+ * used to route them to a partition, so no correlation key is retained.
+ */
+public final class HotCorrelationKeyDetector implements StreamProcessorLifecycleAware {
+
+  static final int DEFAULT_WINDOW_SIZE = 10_000;
+  static final Duration DEFAULT_WINDOW_DURATION = Duration.ofMinutes(1);
+  static final int DEFAULT_TRACKED_KEYS = 16;
+
+  private final MessageRoutingMetrics metrics;
+  private final int windowSize;
+  private final Duration windowDuration;
+  private final int[] trackedHashes;
+  private final int[] trackedCounts;
+  // the count a slot inherited from the key it replaced, which the tracked key may not have seen
+  private final int[] trackedErrors;
+
+  private int observations;
+  private int trackedKeys;
+  private boolean windowCompletedSinceLastTick;
+  private double hotKeyShare;
+
+  public HotCorrelationKeyDetector(final MessageRoutingMetrics metrics) {
+    this(metrics, DEFAULT_WINDOW_SIZE, DEFAULT_WINDOW_DURATION, DEFAULT_TRACKED_KEYS);
+  }
+
+  HotCorrelationKeyDetector(
+      final MessageRoutingMetrics metrics,
+      final int windowSize,
+      final Duration windowDuration,
+      final int maxTrackedKeys) {
+    this.metrics = metrics;
+    this.windowSize = windowSize;
+    this.windowDuration = windowDuration;
+    trackedHashes = new int[maxTrackedKeys];
+    trackedCounts = new int[maxTrackedKeys];
+    trackedErrors = new int[maxTrackedKeys];
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    context.getScheduleService().runAtFixedRate(windowDuration, this::onWindowDurationElapsed);
+  }
+
+  public void onMessagePublished(final DirectBuffer correlationKey) {
+    metrics.messagePublished();
+    observe(correlationKey);
+  }
+
+  public void onSubscriptionOpened(final DirectBuffer correlationKey) {
+    metrics.subscriptionOpened();
+    observe(correlationKey);
+  }
+
+  /**
+   * @return the share of the most frequent correlation key within the last completed window, or 0
+   *     if no window was completed yet
+   */
+  double getHotKeyShare() {
+    return hotKeyShare;
+  }
+
+  void onWindowDurationElapsed() {
+    // a window which was completed by its size in the meantime is recent enough, otherwise the
+    // current window is cut short so that the share does not linger once the load has moved on
+    if (!windowCompletedSinceLastTick) {
+      completeWindow();
+    }
+    windowCompletedSinceLastTick = false;
+  }
+
+  private void observe(final DirectBuffer correlationKey) {
+    track(SubscriptionUtil.getSubscriptionHashCode(correlationKey));
+
+    observations++;
+    if (observations >= windowSize) {
+      completeWindow();
+      windowCompletedSinceLastTick = true;
+    }
+  }
+
+  private void track(final int hash) {
+    int minIndex = 0;
+    for (int i = 0; i < trackedKeys; i++) {
+      if (trackedHashes[i] == hash) {
+        trackedCounts[i]++;
+        return;
+      }
+
+      if (trackedCounts[i] < trackedCounts[minIndex]) {
+        minIndex = i;
+      }
+    }
+
+    if (trackedKeys < trackedHashes.length) {
+      trackedHashes[trackedKeys] = hash;
+      trackedCounts[trackedKeys] = 1;
+      trackedErrors[trackedKeys] = 0;
+      trackedKeys++;
+    } else {
+      // space-saving: replace the least frequent key, its count becomes the error of the new key
+      trackedHashes[minIndex] = hash;
+      trackedErrors[minIndex] = trackedCounts[minIndex];
+      trackedCounts[minIndex]++;
+    }
+  }
+
+  private void completeWindow() {
+    // only the count without the inherited error is guaranteed to belong to the key, so a burst of
+    // distinct keys cannot make one of them look hot
+    int maxCount = 0;
+    for (int i = 0; i < trackedKeys; i++) {
+      maxCount = Math.max(maxCount, trackedCounts[i] - trackedErrors[i]);
+    }
+
+    hotKeyShare = observations > 0 ? (double) maxCount / observations : 0;
+    metrics.setHotCorrelationKeyShare(hotKeyShare);
+
+    observations = 0;
+    trackedKeys = 0;
+  }
+}
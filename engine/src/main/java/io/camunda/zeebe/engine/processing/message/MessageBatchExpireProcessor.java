@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.processing.message;
 
 import static io.camunda.zeebe.protocol.record.intent.MessageIntent.*;
 
+import io.camunda.zeebe.engine.metrics.BufferedMessagesMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
@@ -22,12 +23,15 @@ public final class MessageBatchExpireProcessor implements TypedRecordProcessor<M
 
   private static final Logger LOG = LoggerFactory.getLogger(MessageBatchExpireProcessor.class);
   private final StateWriter stateWriter;
+  private final BufferedMessagesMetrics bufferedMessagesMetrics;
 
   private final MessageRecord emptyDeleteMessageCommand =
       new MessageRecord().setName("").setCorrelationKey("").setTimeToLive(-1L);
 
-  public MessageBatchExpireProcessor(final StateWriter stateWriter) {
+  public MessageBatchExpireProcessor(
+      final StateWriter stateWriter, final BufferedMessagesMetrics bufferedMessagesMetrics) {
     this.stateWriter = stateWriter;
+    this.bufferedMessagesMetrics = bufferedMessagesMetrics;
   }
 
   @Override
@@ -48,5 +52,6 @@ public final class MessageBatchExpireProcessor implements TypedRecordProcessor<M
         break;
       }
     }
+    bufferedMessagesMetrics.countExpiredMessages(expiredMessagesCount);
   }
 }
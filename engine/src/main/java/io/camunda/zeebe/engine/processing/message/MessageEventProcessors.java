@@ -8,6 +8,8 @@
 package io.camunda.zeebe.engine.processing.message;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.BufferedMessagesMetrics;
+import io.camunda.zeebe.engine.metrics.MessageRoutingMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
@@ -47,6 +49,11 @@ public final class MessageEventProcessors {
         processingState.getEventScopeInstanceState();
     final KeyGenerator keyGenerator = processingState.getKeyGenerator();
     final var processState = processingState.getProcessState();
+    final var bufferedMessagesMetrics =
+        new BufferedMessagesMetrics(processingState.getPartitionId());
+    final var hotCorrelationKeyDetector =
+        new HotCorrelationKeyDetector(
+            new MessageRoutingMetrics(processingState.getPartitionId()));
 
     typedRecordProcessors
         .onCommand(
@@ -62,11 +69,12 @@ public final class MessageEventProcessors {
                 writers,
                 processState,
                 bpmnBehaviors.eventTriggerBehavior(),
-                bpmnBehaviors.stateBehavior()))
+                bpmnBehaviors.stateBehavior(),
+                hotCorrelationKeyDetector))
         .onCommand(
             ValueType.MESSAGE_BATCH,
             MessageBatchIntent.EXPIRE,
-            new MessageBatchExpireProcessor(writers.state()))
+            new MessageBatchExpireProcessor(writers.state(), bufferedMessagesMetrics))
         .onCommand(
             ValueType.MESSAGE, MessageIntent.EXPIRE, new MessageExpireProcessor(writers.state()))
         .onCommand(
@@ -78,7 +86,8 @@ public final class MessageEventProcessors {
                 subscriptionState,
                 subscriptionCommandSender,
                 writers,
-                keyGenerator))
+                keyGenerator,
+                hotCorrelationKeyDetector))
         .onCommand(
             ValueType.MESSAGE_SUBSCRIPTION,
             MessageSubscriptionIntent.CORRELATE,
@@ -101,10 +110,12 @@ public final class MessageEventProcessors {
         .withListener(
             new MessageObserver(
                 scheduledTaskStateFactory,
+                bufferedMessagesMetrics,
                 scheduledTaskStateFactory.get().getPendingMessageSubscriptionState(),
                 subscriptionCommandSender,
                 config.getMessagesTtlCheckerInterval(),
                 config.getMessagesTtlCheckerBatchLimit(),
-                featureFlags.enableMessageTTLCheckerAsync()));
+                featureFlags.enableMessageTTLCheckerAsync()))
+        .withListener(hotCorrelationKeyDetector);
   }
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.metrics.BufferedMessagesMetrics;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.state.immutable.PendingMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.immutable.ScheduledTaskState;
@@ -22,6 +23,7 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
 
   private final SubscriptionCommandSender subscriptionCommandSender;
   private final Supplier<ScheduledTaskState> scheduledTaskStateFactory;
+  private final BufferedMessagesMetrics bufferedMessagesMetrics;
   private final PendingMessageSubscriptionState pendingState;
   private final int messagesTtlCheckerBatchLimit;
   private final Duration messagesTtlCheckerInterval;
@@ -29,6 +31,7 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
 
   public MessageObserver(
       final Supplier<ScheduledTaskState> scheduledTaskStateFactory,
+      final BufferedMessagesMetrics bufferedMessagesMetrics,
       final PendingMessageSubscriptionState pendingState,
       final SubscriptionCommandSender subscriptionCommandSender,
       final Duration messagesTtlCheckerInterval,
@@ -36,6 +39,7 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
       final boolean enableMessageTtlCheckerAsync) {
     this.subscriptionCommandSender = subscriptionCommandSender;
     this.scheduledTaskStateFactory = scheduledTaskStateFactory;
+    this.bufferedMessagesMetrics = bufferedMessagesMetrics;
     this.pendingState = pendingState;
     this.messagesTtlCheckerInterval = messagesTtlCheckerInterval;
     this.messagesTtlCheckerBatchLimit = messagesTtlCheckerBatchLimit;
@@ -57,7 +61,8 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
             messagesTtlCheckerBatchLimit,
             enableMessageTtlCheckerAsync,
             scheduleService,
-            messageState);
+            messageState,
+            bufferedMessagesMetrics);
     if (enableMessageTtlCheckerAsync) {
       scheduleService.runDelayedAsync(messagesTtlCheckerInterval, timeToLiveChecker);
     } else {
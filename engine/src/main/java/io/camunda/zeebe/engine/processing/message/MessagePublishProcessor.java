@@ -41,6 +41,7 @@ public final class MessagePublishProcessor implements TypedRecordProcessor<Messa
   private final SubscriptionCommandSender commandSender;
   private final KeyGenerator keyGenerator;
   private final StateWriter stateWriter;
+  private final HotCorrelationKeyDetector hotCorrelationKeyDetector;
 
   private final EventHandle eventHandle;
   private final Subscriptions correlatingSubscriptions = new Subscriptions();
@@ -60,12 +61,14 @@ public final class MessagePublishProcessor implements TypedRecordProcessor<Messa
       final Writers writers,
       final ProcessState processState,
       final EventTriggerBehavior eventTriggerBehavior,
-      final BpmnStateBehavior stateBehavior) {
+      final BpmnStateBehavior stateBehavior,
+      final HotCorrelationKeyDetector hotCorrelationKeyDetector) {
     this.messageState = messageState;
     this.subscriptionState = subscriptionState;
     this.startEventSubscriptionState = startEventSubscriptionState;
     this.commandSender = commandSender;
     this.keyGenerator = keyGenerator;
+    this.hotCorrelationKeyDetector = hotCorrelationKeyDetector;
     stateWriter = writers.state();
     responseWriter = writers.response();
     rejectionWriter = writers.rejection();
@@ -105,6 +108,7 @@ public final class MessagePublishProcessor implements TypedRecordProcessor<Messa
 
   private void handleNewMessage(final TypedRecord<MessageRecord> command) {
     messageKey = keyGenerator.nextKey();
+    hotCorrelationKeyDetector.onMessagePublished(messageRecord.getCorrelationKeyBuffer());
 
     // calculate the deadline based on the command's timestamp
     messageRecord.setDeadline(command.getTimestamp() + messageRecord.getTimeToLive());
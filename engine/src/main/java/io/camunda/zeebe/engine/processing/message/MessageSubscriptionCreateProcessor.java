@@ -34,6 +34,7 @@ public final class MessageSubscriptionCreateProcessor
   private final SubscriptionCommandSender commandSender;
   private final StateWriter stateWriter;
   private final KeyGenerator keyGenerator;
+  private final HotCorrelationKeyDetector hotCorrelationKeyDetector;
 
   private MessageSubscriptionRecord subscriptionRecord;
   private final TypedRejectionWriter rejectionWriter;
@@ -46,13 +47,15 @@ public final class MessageSubscriptionCreateProcessor
       final MessageSubscriptionState subscriptionState,
       final SubscriptionCommandSender commandSender,
       final Writers writers,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final HotCorrelationKeyDetector hotCorrelationKeyDetector) {
     this.subscriptionState = subscriptionState;
     this.commandSender = commandSender;
     stateWriter = writers.state();
     rejectionWriter = writers.rejection();
     sideEffectWriter = writers.sideEffect();
     this.keyGenerator = keyGenerator;
+    this.hotCorrelationKeyDetector = hotCorrelationKeyDetector;
     messageCorrelator =
         new MessageCorrelator(
             partitionId, messageState, commandSender, stateWriter, sideEffectWriter);
@@ -83,6 +86,7 @@ public final class MessageSubscriptionCreateProcessor
   private void handleNewSubscription(final SideEffectWriter sideEffectWriter) {
 
     final var subscriptionKey = keyGenerator.nextKey();
+    hotCorrelationKeyDetector.onSubscriptionOpened(subscriptionRecord.getCorrelationKeyBuffer());
     stateWriter.appendFollowUpEvent(
         subscriptionKey, MessageSubscriptionIntent.CREATED, subscriptionRecord);
 
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.metrics.BufferedMessagesMetrics;
 import io.camunda.zeebe.engine.state.immutable.MessageState;
 import io.camunda.zeebe.engine.state.immutable.MessageState.Index;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
@@ -44,6 +45,7 @@ public final class MessageTimeToLiveChecker implements Task {
 
   private final ProcessingScheduleService scheduleService;
   private final MessageState messageState;
+  private final BufferedMessagesMetrics bufferedMessagesMetrics;
 
   /** Keeps track of the timestamp to compare the message deadlines against. */
   private long currentTimestamp = -1;
@@ -56,12 +58,14 @@ public final class MessageTimeToLiveChecker implements Task {
       final int batchLimit,
       final boolean enableMessageTtlCheckerAsync,
       final ProcessingScheduleService scheduleService,
-      final MessageState messageState) {
+      final MessageState messageState,
+      final BufferedMessagesMetrics bufferedMessagesMetrics) {
     this.executionInterval = executionInterval;
     this.batchLimit = batchLimit;
     this.enableMessageTtlCheckerAsync = enableMessageTtlCheckerAsync;
     this.messageState = messageState;
     this.scheduleService = scheduleService;
+    this.bufferedMessagesMetrics = bufferedMessagesMetrics;
     lastIndex = null;
   }
 
@@ -71,6 +75,7 @@ public final class MessageTimeToLiveChecker implements Task {
       currentTimestamp = ActorClock.currentTimeMillis();
     }
 
+    final long startNanos = System.nanoTime();
     final var counter = new MutableInteger(0);
     final MessageBatchRecord messageBatchRecord = new MessageBatchRecord();
     final boolean shouldContinueWhereLeftOff =
@@ -91,6 +96,8 @@ public final class MessageTimeToLiveChecker implements Task {
               return counter.incrementAndGet() < batchLimit;
             });
 
+    bufferedMessagesMetrics.observeTtlCheckerRun(counter.get(), System.nanoTime() - startNanos);
+
     if (!messageBatchRecord.isEmpty()) {
       taskResultBuilder.appendCommandRecord(MessageBatchIntent.EXPIRE, messageBatchRecord);
     }
@@ -48,5 +48,14 @@ public interface QueryService extends AutoCloseable {
    */
   Optional<DirectBuffer> getBpmnProcessIdForJob(long jobKey);
 
+  /**
+   * Queries the state for the bpmn process id of the process that a specific incident belongs to.
+   *
+   * @param incidentKey The key of the incident
+   * @return Optionally the bpmn process id if found, otherwise an empty optional
+   * @throws ClosedServiceException if the service is already closed
+   */
+  Optional<DirectBuffer> getBpmnProcessIdForIncident(long incidentKey);
+
   final class ClosedServiceException extends RuntimeException {}
 }
@@ -24,11 +24,23 @@ public interface JobState {
 
   boolean isInState(long key, State state);
 
+  /**
+   * Visits the activatable jobs of the given type and tenants, until either the callback returns
+   * false or the given number of jobs were visited.
+   */
   void forEachActivatableJobs(
       DirectBuffer type,
       final List<String> tenantIds,
+      int maxJobs,
       BiFunction<Long, JobRecord, Boolean> callback);
 
+  /**
+   * Forgets which job types were found to have no activatable jobs by {@link
+   * #forEachActivatableJobs(DirectBuffer, List, int, BiFunction)}. Must be called when modifications
+   * were rolled back, as this is not part of the state.
+   */
+  void invalidateTypesWithoutActivatableJobs();
+
   JobRecord getJob(long key);
 
   JobRecord getJob(final long key, final Map<String, Object> authorizations);
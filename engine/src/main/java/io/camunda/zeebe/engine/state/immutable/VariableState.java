@@ -32,6 +32,23 @@ public interface VariableState {
 
   VariableInstance getVariableInstanceLocal(long scopeKey, DirectBuffer name);
 
+  /**
+   * Returns a version for variables with the given name, which changes whenever a variable with
+   * this name is set or removed in any scope. The version is not part of the state and may also
+   * change when other variables are modified, so it can only be used to cheaply detect that a
+   * variable was not modified, e.g. to reuse a value that was computed from it.
+   *
+   * @param name the name of the variable
+   * @return the current version for variables with the given name
+   */
+  long getVariableVersion(DirectBuffer name);
+
+  /**
+   * Changes the versions of all variables, see {@link #getVariableVersion(DirectBuffer)}. Must be
+   * called when modifications were rolled back, as the versions are not part of the state.
+   */
+  void invalidateVariableVersions();
+
   /**
    * @return returns the parent scope key of the given {@code childScopeKey}, or {@link
    *     VariableState#NO_PARENT}
@@ -24,17 +24,28 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableInteger;
+import org.agrona.collections.ObjectHashSet;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
 
+  // number of activatable jobs which are looked up together with a single multi get
+  private static final int ACTIVATABLE_JOBS_BATCH_SIZE = 32;
+
+  // upper bound of job types which are remembered as having no activatable jobs
+  private static final int MAX_TYPES_WITHOUT_ACTIVATABLE_JOBS = 10_000;
+
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
   // see https://github.com/zeebe-io/zeebe/issues/1914
@@ -71,6 +82,17 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  private final List<Long> activatableJobKeys = new ArrayList<>(ACTIVATABLE_JOBS_BATCH_SIZE);
+  private final MutableBoolean continueVisitingJobs = new MutableBoolean();
+  private final MutableInteger remainingJobsToVisit = new MutableInteger();
+  private final MutableBoolean hasActivatableJobs = new MutableBoolean();
+
+  // job types for which a previous lookup found no activatable jobs at all, in any tenant; as long
+  // as no job of such a type becomes activatable again, looking up its activatable jobs can be
+  // skipped without scanning the column family. This is kept in memory only, so after a restart
+  // every type is scanned at least once again.
+  private final ObjectHashSet<DirectBuffer> typesWithoutActivatableJobs = new ObjectHashSet<>();
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
 
@@ -349,21 +371,51 @@ public final class DbJobState implements JobState, MutableJobState {
   public void forEachActivatableJobs(
       final DirectBuffer type,
       final List<String> tenantIds,
+      final int maxJobs,
       final BiFunction<Long, JobRecord, Boolean> callback) {
+    if (maxJobs <= 0 || typesWithoutActivatableJobs.contains(type)) {
+      return;
+    }
+
     jobTypeKey.wrapBuffer(type);
+    activatableJobKeys.clear();
+    continueVisitingJobs.set(true);
+    hasActivatableJobs.set(false);
+    remainingJobsToVisit.set(maxJobs);
 
+    // the jobs are not looked up one by one, but in batches, to reduce the number of reads
     activatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
         ((tenantAwareCompositeKey, zbNil) -> {
           final DbLong jobKey = tenantAwareCompositeKey.wrappedKey().second().inner();
           final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
+          hasActivatableJobs.set(true);
 
           if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+            activatableJobKeys.add(jobKey.getValue());
+            // don't read more jobs than can still be visited
+            if (activatableJobKeys.size()
+                >= Math.min(ACTIVATABLE_JOBS_BATCH_SIZE, remainingJobsToVisit.get())) {
+              return visitJobs(activatableJobKeys, callback::apply);
+            }
           }
           // we want to continue with the iteration
           return true;
         }));
+
+    if (continueVisitingJobs.get() && !activatableJobKeys.isEmpty()) {
+      visitJobs(activatableJobKeys, callback::apply);
+    }
+
+    if (!hasActivatableJobs.get()
+        && typesWithoutActivatableJobs.size() < MAX_TYPES_WITHOUT_ACTIVATABLE_JOBS) {
+      typesWithoutActivatableJobs.add(BufferUtil.cloneBuffer(type));
+    }
+  }
+
+  @Override
+  public void invalidateTypesWithoutActivatableJobs() {
+    typesWithoutActivatableJobs.clear();
   }
 
   @Override
@@ -418,6 +470,38 @@ public final class DbJobState implements JobState, MutableJobState {
     return callback.test(jobKey, job);
   }
 
+  /**
+   * Visits the jobs with the given keys in order, until the callback returns false. The keys are
+   * cleared afterwards.
+   *
+   * @return true if all jobs were visited, false if the callback stopped the visiting
+   */
+  private boolean visitJobs(final List<Long> jobKeys, final BiPredicate<Long, JobRecord> callback) {
+    try {
+      jobsColumnFamily.multiGet(
+          jobKeys,
+          key -> {
+            jobKey.wrapLong(key);
+            return jobKey;
+          },
+          (key, job) -> {
+            if (!continueVisitingJobs.get()) {
+              return;
+            }
+            if (job == null) {
+              LOG.error("Expected to find job with key {}, but no job found", key);
+              return; // we want to continue with the iteration
+            }
+            remainingJobsToVisit.decrement();
+            continueVisitingJobs.set(
+                callback.test(key, job.getRecord()) && remainingJobsToVisit.get() > 0);
+          });
+    } finally {
+      jobKeys.clear();
+    }
+    return continueVisitingJobs.get();
+  }
+
   private void createJobRecord(final long key, final JobRecord record) {
     jobKey.wrapLong(key);
     // do not persist variables in job state
@@ -453,6 +537,7 @@ public final class DbJobState implements JobState, MutableJobState {
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
+    typesWithoutActivatableJobs.remove(type);
   }
 
   private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
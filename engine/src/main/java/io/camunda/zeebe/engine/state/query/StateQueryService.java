@@ -17,6 +17,7 @@ import io.camunda.zeebe.engine.state.instance.ElementInstance;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
@@ -66,6 +67,14 @@ public final class StateQueryService implements QueryService {
         .map(JobRecord::getBpmnProcessIdBuffer);
   }
 
+  @Override
+  public Optional<DirectBuffer> getBpmnProcessIdForIncident(final long key) {
+    ensureServiceIsOpened();
+
+    return Optional.ofNullable(state.getIncidentState().getIncidentRecord(key))
+        .map(IncidentRecord::getBpmnProcessIdBuffer);
+  }
+
   private void ensureServiceIsOpened() {
     if (isClosed) {
       throw new ClosedServiceException();
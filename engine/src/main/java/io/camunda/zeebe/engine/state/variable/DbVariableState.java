@@ -30,6 +30,8 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  private static final int VARIABLE_VERSION_SLOTS = 1024;
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -46,6 +48,10 @@ public class DbVariableState implements MutableVariableState {
   private final DbLong scopeKey;
   private final DbString variableName;
 
+  // transient, not part of the state: versions of the variable names, hashed into a fixed number
+  // of slots; a slot is incremented whenever a variable whose name hashes to it is set or removed
+  private final long[] variableVersions = new long[VARIABLE_VERSION_SLOTS];
+
   private final VariableInstance newVariable = new VariableInstance();
   private final DirectBuffer variableNameView = new UnsafeBuffer(0, 0);
 
@@ -106,6 +112,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    variableVersions[versionSlot(name, nameOffset, nameLength)]++;
   }
 
   @Override
@@ -132,7 +139,11 @@ public class DbVariableState implements MutableVariableState {
     visitVariablesLocal(
         scopeKey,
         dbString -> true,
-        (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
+        (dbString, variable1) -> {
+          variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey);
+          final DirectBuffer name = dbString.getBuffer();
+          variableVersions[versionSlot(name, 0, name.capacity())]++;
+        },
         () -> false);
   }
 
@@ -279,6 +290,18 @@ public class DbVariableState implements MutableVariableState {
     return getVariableLocal(scopeKey, name, 0, name.capacity());
   }
 
+  @Override
+  public long getVariableVersion(final DirectBuffer name) {
+    return variableVersions[versionSlot(name, 0, name.capacity())];
+  }
+
+  @Override
+  public void invalidateVariableVersions() {
+    for (int i = 0; i < variableVersions.length; i++) {
+      variableVersions[i]++;
+    }
+  }
+
   @Override
   public long getParentScopeKey(final long childScopeKey) {
     childKey.wrapLong(childScopeKey);
@@ -296,6 +319,14 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  private static int versionSlot(final DirectBuffer name, final int offset, final int length) {
+    int hash = 0;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + name.getByte(offset + i);
+    }
+    return hash & (VARIABLE_VERSION_SLOTS - 1);
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
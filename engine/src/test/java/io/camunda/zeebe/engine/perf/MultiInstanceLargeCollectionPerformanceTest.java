@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to complete a multi-instance body over a large input collection. The
+ * inner activity is a manual task, so the measured time is dominated by the multi-instance body
+ * itself.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class MultiInstanceLargeCollectionPerformanceTest {
+
+  private static final String PROCESS_ID = "process";
+  private static final long MAX_WAIT_TIME = Duration.ofMinutes(10).toMillis();
+
+  @Param({"10000", "100000"})
+  private int collectionSize;
+
+  @Param({"false", "true"})
+  private boolean sequential;
+
+  private List<Integer> inputCollection;
+  private ProcessInstanceClient processInstanceClient;
+  private TestEngine.TestContext testContext;
+  private TestEngine singlePartitionEngine;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = createTestContext();
+    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext);
+
+    singlePartitionEngine.createDeploymentClient().withXmlResource(createProcess()).deploy();
+    processInstanceClient = singlePartitionEngine.createProcessInstanceClient();
+    inputCollection = IntStream.range(0, collectionSize).boxed().toList();
+
+    singlePartitionEngine.reset();
+  }
+
+  private BpmnModelInstance createProcess() {
+    return Bpmn.createExecutableProcess(PROCESS_ID)
+        .startEvent()
+        .manualTask("task")
+        .multiInstance(
+            m -> {
+              m.zeebeInputCollectionExpression("items").zeebeInputElement("item");
+              if (sequential) {
+                m.sequential();
+              } else {
+                m.parallel();
+              }
+            })
+        .endEvent()
+        .done();
+  }
+
+  private TestEngine.TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    // scheduler
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock());
+
+    final var actorScheduler = builder.build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
+  @TearDown
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public Record<ProcessInstanceRecordValue> measureMultiInstanceCompletionTime() {
+    RecordingExporter.setMaximumWaitTime(MAX_WAIT_TIME);
+
+    final long piKey =
+        processInstanceClient
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("items", inputCollection)
+            .create();
+
+    final var completed =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withProcessInstanceKey(piKey)
+            .withElementType(BpmnElementType.PROCESS)
+            .getFirst();
+
+    singlePartitionEngine.reset();
+    return completed;
+  }
+}
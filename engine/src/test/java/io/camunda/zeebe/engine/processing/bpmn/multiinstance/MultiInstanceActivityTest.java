@@ -11,6 +11,7 @@ import static io.camunda.zeebe.protocol.record.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.Assume.assumeTrue;
 
 import io.camunda.zeebe.engine.util.EngineRule;
 import io.camunda.zeebe.model.bpmn.Bpmn;
@@ -522,6 +523,47 @@ public final class MultiInstanceActivityTest {
         .containsExactlyElementsOf(jsonInputCollection);
   }
 
+  @Test
+  public void shouldSetInputElementVariableOfModifiedInputCollection() {
+    // Only run test if test-case is sequential, parallel children are activated at once
+    assumeTrue(loopCharacteristics.equals("sequential"));
+
+    // given
+    ENGINE.deployment().withXmlResource(process(miBuilder)).deploy();
+
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION_EXPRESSION, INPUT_COLLECTION)
+            .create();
+
+    completeJobs(processInstanceKey, 1);
+    final var secondJob =
+        RecordingExporter.jobRecords(JobIntent.CREATED)
+            .withProcessInstanceKey(processInstanceKey)
+            .skip(1)
+            .getFirst();
+
+    // when
+    ENGINE
+        .variables()
+        .ofScope(processInstanceKey)
+        .withDocument(Map.of(INPUT_COLLECTION_EXPRESSION, List.of(10, 40, 50)))
+        .update();
+
+    ENGINE.job().withKey(secondJob.getKey()).complete();
+
+    // then
+    assertThat(
+            RecordingExporter.variableRecords(VariableIntent.CREATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withName(INPUT_ELEMENT_VARIABLE)
+                .limit(3))
+        .extracting(r -> r.getValue().getValue())
+        .containsExactly("10", "20", "50");
+  }
+
   @Test
   public void shouldNotPropagateInputElementVariable() {
     ENGINE.deployment().withXmlResource(process(miBuilder)).deploy();
@@ -57,7 +57,10 @@ final class JobBatchCollectorTest {
   @BeforeEach
   void beforeEach() {
     collector =
-        new JobBatchCollector(state.getJobState(), state.getVariableState(), lengthEvaluator);
+        new JobBatchCollector(
+            state.getJobState(),
+            new JobVariablesCollector(state.getVariableState(), false),
+            lengthEvaluator);
   }
 
   @Test
@@ -243,6 +246,57 @@ final class JobBatchCollectorTest {
             });
   }
 
+  @Test
+  void shouldFetchProjectedVariablesIfNoneAreRequested() {
+    // given
+    final var projectingCollector =
+        new JobBatchCollector(
+            state.getJobState(),
+            new JobVariablesCollector(state.getVariableState(), true),
+            lengthEvaluator);
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    createJobWithVariables(scopeKey, Map.of("foo", "bar", "baz", "buz"));
+
+    final TypedRecord<JobBatchRecord> requestingRecord = createRecord();
+    requestingRecord.getValue().variables().add().wrap(BufferUtil.wrapString("foo"));
+    projectingCollector.collectJobs(requestingRecord);
+    final TypedRecord<JobBatchRecord> record = createRecord();
+
+    // when
+    projectingCollector.collectJobs(record);
+
+    // then
+    JobBatchRecordValueAssert.assertThat(record.getValue())
+        .satisfies(
+            batch ->
+                RecordValueWithVariablesAssert.assertThat(batch.getJobs().get(0))
+                    .hasVariables(Map.of("foo", "bar")));
+  }
+
+  @Test
+  void shouldFetchAllVariablesIfNoProjectionIsKnown() {
+    // given
+    final var projectingCollector =
+        new JobBatchCollector(
+            state.getJobState(),
+            new JobVariablesCollector(state.getVariableState(), true),
+            lengthEvaluator);
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    final Map<String, String> variables = Map.of("foo", "bar", "baz", "buz");
+    createJobWithVariables(scopeKey, variables);
+
+    // when
+    projectingCollector.collectJobs(record);
+
+    // then
+    JobBatchRecordValueAssert.assertThat(record.getValue())
+        .satisfies(
+            batch ->
+                RecordValueWithVariablesAssert.assertThat(batch.getJobs().get(0))
+                    .hasVariables(variables));
+  }
+
   /**
    * This is specifically a regression test for #5525. It's possible for this test to become
    * outdated if we ever change how records are serialized, variables packed, etc. But it's a
@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.engine.metrics.MessageRoutingMetrics;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+final class HotCorrelationKeyDetectorTest {
+
+  private static final Duration WINDOW_DURATION = Duration.ofMinutes(1);
+
+  private final HotCorrelationKeyDetector detector =
+      new HotCorrelationKeyDetector(new MessageRoutingMetrics(1), 100, WINDOW_DURATION, 4);
+
+  @Test
+  void shouldNotReportShareBeforeWindowIsCompleted() {
+    // when
+    for (int i = 0; i < 99; i++) {
+      detector.onMessagePublished(wrapString("hot"));
+    }
+
+    // then
+    assertThat(detector.getHotKeyShare()).isZero();
+  }
+
+  @Test
+  void shouldReportShareOfHottestKey() {
+    // when
+    for (int i = 0; i < 50; i++) {
+      detector.onMessagePublished(wrapString("hot"));
+      detector.onSubscriptionOpened(wrapString("key-" + i));
+    }
+
+    // then
+    assertThat(detector.getHotKeyShare()).isGreaterThanOrEqualTo(0.5);
+  }
+
+  @Test
+  void shouldReportLowShareForUniformKeys() {
+    // when
+    for (int i = 0; i < 100; i++) {
+      detector.onMessagePublished(wrapString("key-" + (i % 10)));
+    }
+
+    // then
+    assertThat(detector.getHotKeyShare()).isLessThan(0.5);
+  }
+
+  @Test
+  void shouldNotReportInheritedCountsForDistinctKeys() {
+    // given
+    final var defaultDetector = new HotCorrelationKeyDetector(new MessageRoutingMetrics(1));
+
+    // when
+    for (int i = 0; i < HotCorrelationKeyDetector.DEFAULT_WINDOW_SIZE; i++) {
+      defaultDetector.onMessagePublished(wrapString("key-" + i));
+    }
+
+    // then - every key was seen once, no matter how much count its slot inherited
+    assertThat(defaultDetector.getHotKeyShare())
+        .isEqualTo(1.0 / HotCorrelationKeyDetector.DEFAULT_WINDOW_SIZE);
+  }
+
+  @Test
+  void shouldReportHotKeyAmongThousandsOfDistinctKeys() {
+    // given
+    final var defaultDetector = new HotCorrelationKeyDetector(new MessageRoutingMetrics(1));
+
+    // when
+    for (int i = 0; i < HotCorrelationKeyDetector.DEFAULT_WINDOW_SIZE / 2; i++) {
+      defaultDetector.onMessagePublished(wrapString("hot"));
+      defaultDetector.onSubscriptionOpened(wrapString("key-" + i));
+    }
+
+    // then
+    assertThat(defaultDetector.getHotKeyShare()).isCloseTo(0.5, within(0.001));
+  }
+
+  @Test
+  void shouldStartNewWindowAfterCompletion() {
+    // given
+    for (int i = 0; i < 100; i++) {
+      detector.onMessagePublished(wrapString("hot"));
+    }
+    assertThat(detector.getHotKeyShare()).isEqualTo(1.0);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      detector.onMessagePublished(wrapString("key-" + (i % 2)));
+    }
+
+    // then
+    assertThat(detector.getHotKeyShare()).isEqualTo(0.5);
+  }
+
+  @Test
+  void shouldCompleteWindowWhenDurationElapsed() {
+    // given
+    final var windowTimer = recover();
+    for (int i = 0; i < 10; i++) {
+      detector.onMessagePublished(wrapString("key-" + (i % 2)));
+    }
+
+    // when
+    windowTimer.run();
+
+    // then
+    assertThat(detector.getHotKeyShare()).isEqualTo(0.5);
+  }
+
+  @Test
+  void shouldResetShareWhenNoMessagesInWindow() {
+    // given
+    final var windowTimer = recover();
+    for (int i = 0; i < 10; i++) {
+      detector.onMessagePublished(wrapString("hot"));
+    }
+    windowTimer.run();
+    assertThat(detector.getHotKeyShare()).isEqualTo(1.0);
+
+    // when
+    windowTimer.run();
+
+    // then
+    assertThat(detector.getHotKeyShare()).isZero();
+  }
+
+  @Test
+  void shouldKeepShareOfWindowCompletedSinceLastTick() {
+    // given
+    final var windowTimer = recover();
+    for (int i = 0; i < 100; i++) {
+      detector.onMessagePublished(wrapString("hot"));
+    }
+    detector.onMessagePublished(wrapString("key"));
+
+    // when
+    windowTimer.run();
+
+    // then
+    assertThat(detector.getHotKeyShare()).isEqualTo(1.0);
+  }
+
+  private Runnable recover() {
+    final var context = mock(ReadonlyStreamProcessorContext.class);
+    final var scheduleService = mock(ProcessingScheduleService.class);
+    when(context.getScheduleService()).thenReturn(scheduleService);
+
+    detector.onRecovered(context);
+
+    final var windowTimer = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduleService).runAtFixedRate(eq(WINDOW_DURATION), windowTimer.capture());
+    return windowTimer.getValue();
+  }
+}
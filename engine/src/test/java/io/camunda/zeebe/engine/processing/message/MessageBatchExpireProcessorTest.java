@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -17,12 +18,15 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import io.camunda.zeebe.engine.metrics.BufferedMessagesMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
 import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
 import io.camunda.zeebe.stream.impl.records.RecordBatchEntry;
 import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
+import io.prometheus.client.CollectorRegistry;
+import java.util.Optional;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -30,7 +34,7 @@ public final class MessageBatchExpireProcessorTest {
 
   private final StateWriter stateWriter = Mockito.mock(StateWriter.class);
   final MessageBatchExpireProcessor messageBatchExpireProcessor =
-      new MessageBatchExpireProcessor(stateWriter);
+      new MessageBatchExpireProcessor(stateWriter, new BufferedMessagesMetrics(1));
 
   @Test
   public void shouldStopProcessingWhenExceedingBatchLimit() {
@@ -59,4 +63,29 @@ public final class MessageBatchExpireProcessorTest {
     // then
     verify(stateWriter, times(3)).appendFollowUpEvent(anyLong(), any(), any());
   }
+
+  @Test
+  public void shouldCountOnlyExpiredMessages() {
+    // given
+    final var messageBatchRecord =
+        new MessageBatchRecord().addMessageKey(1).addMessageKey(2).addMessageKey(3);
+    doThrow(new ExceededBatchRecordSizeException(mock(RecordBatchEntry.class), 10, 1, 1))
+        .when(stateWriter)
+        .appendFollowUpEvent(eq(3L), any(), any());
+    final var expiredMessagesBefore = expiredMessages();
+
+    // when
+    messageBatchExpireProcessor.processRecord(
+        new UnwrittenRecord(-1, 1, messageBatchRecord, new RecordMetadata()));
+
+    // then
+    assertThat(expiredMessages() - expiredMessagesBefore).isEqualTo(2);
+  }
+
+  private static double expiredMessages() {
+    return Optional.ofNullable(
+            CollectorRegistry.defaultRegistry.getSampleValue(
+                "zeebe_expired_messages_total", new String[] {"partition"}, new String[] {"1"}))
+        .orElse(0.0);
+  }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.engine.metrics.BufferedMessagesMetrics;
+import io.camunda.zeebe.engine.state.immutable.MessageState;
+import io.camunda.zeebe.engine.state.immutable.MessageState.ExpiredMessageVisitor;
+import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import io.prometheus.client.CollectorRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+final class MessageTimeToLiveCheckerTest {
+
+  private static final String[] LABEL_NAMES = {"partition"};
+  private static final String[] LABEL_VALUES = {"1"};
+
+  private final MessageState messageState = mock(MessageState.class);
+  private final MessageTimeToLiveChecker checker =
+      new MessageTimeToLiveChecker(
+          Duration.ofMinutes(1),
+          10,
+          false,
+          mock(ProcessingScheduleService.class),
+          messageState,
+          new BufferedMessagesMetrics(1));
+
+  @Test
+  void shouldObserveExpiredMessagesOfRun() {
+    // given
+    when(messageState.visitMessagesWithDeadlineBeforeTimestamp(anyLong(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final ExpiredMessageVisitor visitor = invocation.getArgument(2);
+              visitor.visit(1L, 1L);
+              visitor.visit(1L, 2L);
+              visitor.visit(1L, 3L);
+              return false;
+            });
+    final var runsBefore = sample("zeebe_message_ttl_checker_batch_size_count");
+    final var expiredBefore = sample("zeebe_message_ttl_checker_batch_size_sum");
+    final var durationsBefore = sample("zeebe_message_ttl_checker_duration_seconds_count");
+
+    // when
+    checker.execute(mock(TaskResultBuilder.class));
+
+    // then
+    assertThat(sample("zeebe_message_ttl_checker_batch_size_count") - runsBefore).isEqualTo(1);
+    assertThat(sample("zeebe_message_ttl_checker_batch_size_sum") - expiredBefore).isEqualTo(3);
+    assertThat(sample("zeebe_message_ttl_checker_duration_seconds_count") - durationsBefore)
+        .isEqualTo(1);
+  }
+
+  private static double sample(final String name) {
+    return Optional.ofNullable(
+            CollectorRegistry.defaultRegistry.getSampleValue(name, LABEL_NAMES, LABEL_VALUES))
+        .orElse(0.0);
+  }
+}
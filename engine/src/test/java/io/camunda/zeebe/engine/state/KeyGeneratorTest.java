@@ -75,4 +75,49 @@ public final class KeyGeneratorTest {
 
     newDb.close();
   }
+
+  @Test
+  public void shouldPersistGeneratedKeysOnlyOnPersist() throws Exception {
+    // given
+    final ZeebeDb<ZbColumnFamilies> newDb = stateRule.createNewDb();
+    final var context = newDb.createContext();
+    final DbKeyGenerator generator =
+        new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, newDb, context);
+    final long initialKey =
+        new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, newDb, context).getCurrentKey();
+
+    // when
+    generator.nextKey();
+    final long lastKey = generator.nextKey();
+
+    // then
+    assertThat(new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, newDb, context).getCurrentKey())
+        .isEqualTo(initialKey);
+
+    generator.persistKey();
+    assertThat(new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, newDb, context).getCurrentKey())
+        .isEqualTo(lastKey);
+
+    newDb.close();
+  }
+
+  @Test
+  public void shouldDiscardUnpersistedKeysOnReset() throws Exception {
+    // given
+    final ZeebeDb<ZbColumnFamilies> newDb = stateRule.createNewDb();
+    final DbKeyGenerator generator =
+        new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, newDb, newDb.createContext());
+    final long persistedKey = generator.nextKey();
+    generator.persistKey();
+    generator.nextKey();
+
+    // when
+    generator.resetToPersistedKey();
+
+    // then
+    assertThat(generator.getCurrentKey()).isEqualTo(persistedKey);
+    assertThat(generator.nextKey()).isEqualTo(persistedKey + 1);
+
+    newDb.close();
+  }
 }
@@ -633,6 +633,61 @@ public final class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldListManyActivatableJobsInOrder() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    for (long key = 1; key <= 100; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+    }
+
+    // when
+    final List<Long> jobKeys = getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    // then
+    assertThat(jobKeys).hasSize(100).isSorted();
+  }
+
+  @Test
+  public void shouldStopListingActivatableJobsIfCallbackReturnsFalse() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    for (long key = 1; key <= 100; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+    }
+    final List<Long> jobKeys = new ArrayList<>();
+
+    // when
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        Integer.MAX_VALUE,
+        (key, job) -> {
+          jobKeys.add(key);
+          return jobKeys.size() < 40;
+        });
+
+    // then
+    assertThat(jobKeys).hasSize(40).startsWith(1L, 2L, 3L).endsWith(40L);
+  }
+
+  @Test
+  public void shouldStopListingActivatableJobsAfterMaxJobs() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    for (long key = 1; key <= 100; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+    }
+    final List<Long> jobKeys = new ArrayList<>();
+
+    // when
+    jobState.forEachActivatableJobs(
+        type, List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER), 5, (key, job) -> jobKeys.add(key));
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 2L, 3L, 4L, 5L);
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
@@ -648,6 +703,63 @@ public final class JobStateTest {
     assertThat(jobKeys).isEmpty();
   }
 
+  @Test
+  public void shouldListActivatableJobsOfTypeWhichHadNoActivatableJobs() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final String tenantId = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+    assertThat(getActivatableKeys(type, tenantId)).isEmpty();
+
+    // when
+    jobState.create(1L, newJobRecord().setType(type));
+
+    // then
+    assertThat(getActivatableKeys(type, tenantId)).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsOfTypeAfterJobBecameActivatableAgain() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final String tenantId = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+    final JobRecord jobRecord = newJobRecord().setType(type);
+    createAndActivateJobRecord(1L, jobRecord);
+    assertThat(getActivatableKeys(type, tenantId)).isEmpty();
+
+    // when
+    jobState.timeout(1L, jobRecord);
+
+    // then
+    assertThat(getActivatableKeys(type, tenantId)).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsOfTypeAfterRollback() throws Exception {
+    // given
+    final var zeebeDb = stateRule.createNewDb();
+    final var transactionContext = zeebeDb.createContext();
+    final var jobState = new DbJobState(zeebeDb, transactionContext);
+    final DirectBuffer type = wrapString("test");
+    final String tenantId = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+    final JobRecord jobRecord = newJobRecord().setType(type);
+    jobState.create(1L, jobRecord);
+
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          jobState.activate(1L, jobRecord);
+          assertThat(getActivatableKeys(jobState, type, tenantId)).isEmpty();
+        });
+    transaction.rollback();
+
+    // when
+    jobState.invalidateTypesWithoutActivatableJobs();
+
+    // then
+    assertThat(getActivatableKeys(jobState, type, tenantId)).containsExactly(1L);
+    zeebeDb.close();
+  }
+
   @Test
   public void shouldReturnNullIfJobDoesNotExist() {
     // given
@@ -833,9 +945,15 @@ public final class JobStateTest {
   }
 
   private List<Long> getActivatableKeys(final DirectBuffer type, final String... tenantIds) {
+    return getActivatableKeys(jobState, type, tenantIds);
+  }
+
+  private static List<Long> getActivatableKeys(
+      final JobState jobState, final DirectBuffer type, final String... tenantIds) {
     final List<Long> activatableKeys = new ArrayList<>();
 
-    jobState.forEachActivatableJobs(type, List.of(tenantIds), (k, e) -> activatableKeys.add(k));
+    jobState.forEachActivatableJobs(
+        type, List.of(tenantIds), Integer.MAX_VALUE, (k, e) -> activatableKeys.add(k));
     return activatableKeys;
   }
 
@@ -912,6 +912,7 @@ public class MultiTenancyMigrationTest {
       jobState.forEachActivatableJobs(
           wrapString(jobType),
           List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+          Integer.MAX_VALUE,
           (key, job) -> {
             assertThat(key).isEqualTo(jobKey);
             Assertions.assertThat(job)
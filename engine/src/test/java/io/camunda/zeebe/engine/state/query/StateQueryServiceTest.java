@@ -18,6 +18,7 @@ import io.camunda.zeebe.engine.util.ProcessingStateExtension;
 import io.camunda.zeebe.engine.util.Records;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.function.Consumer;
@@ -57,7 +58,8 @@ final class StateQueryServiceTest {
     return Stream.of(
         svc -> svc.getBpmnProcessIdForJob(1),
         svc -> svc.getBpmnProcessIdForProcess(1),
-        svc -> svc.getBpmnProcessIdForProcessInstance(1));
+        svc -> svc.getBpmnProcessIdForProcessInstance(1),
+        svc -> svc.getBpmnProcessIdForIncident(1));
   }
 
   @Nested
@@ -157,4 +159,43 @@ final class StateQueryServiceTest {
       assertThat(result).contains(BufferUtil.wrapString(processId));
     }
   }
+
+  @Nested
+  @DisplayName("getBpmnProcessIdForIncident(incidentKey)")
+  class GetBpmnProcessIdForIncident {
+
+    @Test
+    @DisplayName("should return an empty optional when incident is not found")
+    void shouldReturnEmptyWhenNotFound() {
+      // when
+      final var key = Protocol.encodePartitionId(1, 1L);
+      final var result = sut.getBpmnProcessIdForIncident(key);
+
+      // then
+      assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should return a bpmn process id when incident is found")
+    void shouldReturnMatchWhenPresent() {
+      // given
+      final var processId = "processId";
+      final var jobKey = Protocol.encodePartitionId(1, 1L);
+      final var incidentKey = Protocol.encodePartitionId(1, 2L);
+      state.getJobState().create(jobKey, Records.job(jobKey, processId));
+      state
+          .getIncidentState()
+          .createIncident(
+              incidentKey,
+              new IncidentRecord()
+                  .setBpmnProcessId(BufferUtil.wrapString(processId))
+                  .setJobKey(jobKey));
+
+      // when
+      final var result = sut.getBpmnProcessIdForIncident(incidentKey);
+
+      // then
+      assertThat(result).contains(BufferUtil.wrapString(processId));
+    }
+  }
 }
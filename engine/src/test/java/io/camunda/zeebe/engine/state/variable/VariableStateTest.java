@@ -412,6 +412,47 @@ public final class VariableStateTest {
     assertThat(variable).isNull();
   }
 
+  @Test
+  public void shouldChangeVariableVersionWhenVariableIsSet() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    final long version = variableState.getVariableVersion(wrapString("a"));
+
+    // when
+    setVariableLocal(child, wrapString("a"), asMsgPack("2"));
+
+    // then
+    assertThat(variableState.getVariableVersion(wrapString("a"))).isNotEqualTo(version);
+  }
+
+  @Test
+  public void shouldChangeVariableVersionWhenVariableIsRemoved() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    final long version = variableState.getVariableVersion(wrapString("a"));
+
+    // when
+    variableState.removeAllVariables(parent);
+
+    // then
+    assertThat(variableState.getVariableVersion(wrapString("a"))).isNotEqualTo(version);
+  }
+
+  @Test
+  public void shouldChangeVariableVersionWhenInvalidated() {
+    // given
+    final long version = variableState.getVariableVersion(wrapString("a"));
+
+    // when
+    variableState.invalidateVariableVersions();
+
+    // then
+    assertThat(variableState.getVariableVersion(wrapString("a"))).isNotEqualTo(version);
+  }
+
   private void declareScope(final long key) {
     declareScope(-1, key);
   }
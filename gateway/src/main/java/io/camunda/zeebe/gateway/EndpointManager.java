@@ -16,10 +16,12 @@ import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.camunda.zeebe.gateway.impl.broker.cluster.GatewayTopologyMetrics;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobResultsStreamObserver;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
 import io.camunda.zeebe.gateway.interceptors.impl.IdentityInterceptor;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
@@ -47,6 +49,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceRequest;
@@ -73,6 +77,7 @@ import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.util.VersionUtil;
 import io.grpc.Context;
 import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -87,6 +92,11 @@ public final class EndpointManager {
   private final RequestRetryHandler requestRetryHandler;
   private final StreamJobsHandler streamJobsHandler;
   private final MultiTenancyCfg multiTenancy;
+  private final GatewayTopologyMetrics topologyMetrics = new GatewayTopologyMetrics();
+
+  // the topology is replaced, never modified, when it changes, so the response built from it can
+  // be reused until the topology manager returns a different instance
+  private volatile CachedTopologyResponse cachedTopologyResponse;
 
   public EndpointManager(
       final BrokerClient brokerClient,
@@ -292,6 +302,18 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public StreamObserver<JobResultRequest> jobResults(
+      final ServerCallStreamObserver<JobResultResponse> responseObserver) {
+    return new JobResultsStreamObserver(
+        brokerClient,
+        request -> {
+          final var brokerRequest = RequestMapper.toJobResultRequest(request);
+          setAuthorization(brokerRequest);
+          return brokerRequest;
+        },
+        responseObserver);
+  }
+
   public void publishMessage(
       final PublishMessageRequest request,
       final ServerStreamObserver<PublishMessageResponse> responseObserver) {
@@ -324,8 +346,25 @@ public final class EndpointManager {
   }
 
   public void topology(final ServerStreamObserver<TopologyResponse> responseObserver) {
-    final TopologyResponse.Builder topologyResponseBuilder = TopologyResponse.newBuilder();
     final BrokerClusterState topology = topologyManager.getTopology();
+    final CachedTopologyResponse cached = cachedTopologyResponse;
+    final TopologyResponse response;
+
+    if (cached != null && cached.topology() == topology) {
+      topologyMetrics.topologyResponseCacheHit();
+      response = cached.response();
+    } else {
+      topologyMetrics.topologyResponseCacheMiss();
+      response = toTopologyResponse(topology);
+      cachedTopologyResponse = new CachedTopologyResponse(topology, response);
+    }
+
+    responseObserver.onNext(response);
+    responseObserver.onCompleted();
+  }
+
+  private TopologyResponse toTopologyResponse(final BrokerClusterState topology) {
+    final TopologyResponse.Builder topologyResponseBuilder = TopologyResponse.newBuilder();
 
     final String gatewayVersion = VersionUtil.getVersion();
     if (gatewayVersion != null && !gatewayVersion.isBlank()) {
@@ -353,9 +392,7 @@ public final class EndpointManager {
     }
 
     topologyResponseBuilder.addAllBrokers(brokers);
-    final TopologyResponse response = topologyResponseBuilder.build();
-    responseObserver.onNext(response);
-    responseObserver.onCompleted();
+    return topologyResponseBuilder.build();
   }
 
   public void updateJobRetries(
@@ -486,7 +523,11 @@ public final class EndpointManager {
       throws Exception {
 
     final BrokerRequest<BrokerResponseT> brokerRequest = requestMapper.apply(grpcRequest);
+    setAuthorization(brokerRequest);
+    return brokerRequest;
+  }
 
+  private void setAuthorization(final BrokerRequest<?> brokerRequest) throws Exception {
     final List<String> authorizedTenants =
         multiTenancy.isEnabled()
             ? Context.current().call(IdentityInterceptor.AUTHORIZED_TENANTS_KEY::get)
@@ -499,8 +540,6 @@ public final class EndpointManager {
             .withClaim(Authorization.AUTHORIZED_TENANTS, authorizedTenants)
             .encode();
     brokerRequest.setAuthorization(authorizationToken);
-
-    return brokerRequest;
   }
 
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
@@ -512,4 +551,6 @@ public final class EndpointManager {
     streamObserver.onNext(grpcResponse);
     streamObserver.onCompleted();
   }
+
+  private record CachedTopologyResponse(BrokerClusterState topology, TopologyResponse response) {}
 }
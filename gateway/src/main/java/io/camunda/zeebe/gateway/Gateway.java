@@ -20,6 +20,7 @@ import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
+import io.camunda.zeebe.gateway.impl.transport.GrpcTransport;
 import io.camunda.zeebe.gateway.interceptors.impl.ContextInjectingInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.DecoratedInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.IdentityInterceptor;
@@ -70,6 +71,7 @@ public final class Gateway implements CloseableSilently {
 
   private Server server;
   private ExecutorService grpcExecutor;
+  private GrpcTransport grpcTransport;
   private final BrokerClient brokerClient;
 
   public Gateway(
@@ -148,6 +150,7 @@ public final class Gateway implements CloseableSilently {
     final MultiTenancyCfg multiTenancy = gatewayCfg.getMultiTenancy();
 
     final var serverBuilder = applyNetworkConfig(network);
+    applyTransportConfiguration(serverBuilder);
     applyExecutorConfiguration(serverBuilder);
     applySecurityConfiguration(serverBuilder);
 
@@ -157,12 +160,22 @@ public final class Gateway implements CloseableSilently {
     return buildServer(serverBuilder, gatewayGrpcService);
   }
 
+  private void applyTransportConfiguration(final NettyServerBuilder builder) {
+    // the boss and worker event loop groups select epoll or nio based on availability; by default,
+    // the boss loop gets 1 thread, while the worker gets 1 thread per core
+    grpcTransport = GrpcTransport.create(gatewayCfg.getNetwork(), gatewayCfg.getThreads());
+    grpcTransport.applyTo(builder);
+  }
+
   private void applyExecutorConfiguration(final NettyServerBuilder builder) {
     final var config = gatewayCfg.getThreads();
 
-    // the default boss and worker event loop groups defined by the library are good enough; they
-    // will appropriately select epoll or nio based on availability, and the boss loop gets 1
-    // thread, while the worker gets the number of cores
+    // all handlers are non-blocking, so they may run directly on the event loop if configured,
+    // which saves a thread hop per message but stalls the event loop if an interceptor blocks
+    if (config.isGrpcDirectExecutorEnabled()) {
+      builder.directExecutor();
+      return;
+    }
 
     // by default will start 1 thread per core; however, fork join pools may start more threads when
     // blocked on tasks, and here up to 2 threads per core.
@@ -210,10 +223,33 @@ public final class Gateway implements CloseableSilently {
       throw new IllegalArgumentException("maxMessageSize must be positive");
     }
 
-    return NettyServerBuilder.forAddress(new InetSocketAddress(cfg.getHost(), cfg.getPort()))
-        .maxInboundMessageSize(maxMessageSize)
-        .permitKeepAliveTime(minKeepAliveInterval.toMillis(), TimeUnit.MILLISECONDS)
-        .permitKeepAliveWithoutCalls(false);
+    if (cfg.getMaxConcurrentCallsPerConnection() <= 0) {
+      throw new IllegalArgumentException("maxConcurrentCallsPerConnection must be positive");
+    }
+
+    final var builder =
+        NettyServerBuilder.forAddress(new InetSocketAddress(cfg.getHost(), cfg.getPort()))
+            .maxInboundMessageSize(maxMessageSize)
+            .maxConcurrentCallsPerConnection(cfg.getMaxConcurrentCallsPerConnection())
+            .permitKeepAliveTime(minKeepAliveInterval.toMillis(), TimeUnit.MILLISECONDS)
+            .permitKeepAliveWithoutCalls(false);
+
+    // a fixed window disables the automatic tuning of the window based on the measured bandwidth
+    final var flowControlWindow = cfg.getFlowControlWindow();
+    if (flowControlWindow != null) {
+      final var flowControlWindowBytes = flowControlWindow.toBytes();
+      if (flowControlWindowBytes <= 0) {
+        throw new IllegalArgumentException("flowControlWindow must be positive");
+      }
+      if (flowControlWindowBytes > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException(
+            "flowControlWindow must not be greater than %d bytes, but was %d bytes"
+                .formatted(Integer.MAX_VALUE, flowControlWindowBytes));
+      }
+      builder.flowControlWindow((int) flowControlWindowBytes);
+    }
+
+    return builder;
   }
 
   private void setSecurityConfig(final ServerBuilder<?> serverBuilder, final SecurityCfg security) {
@@ -276,6 +312,11 @@ public final class Gateway implements CloseableSilently {
         grpcExecutor = null;
       }
     }
+
+    if (grpcTransport != null) {
+      grpcTransport.close();
+      grpcTransport = null;
+    }
   }
 
   private CompletableFuture<ActivateJobsHandler> createAndStartActivateJobsHandler(
@@ -310,7 +351,8 @@ public final class Gateway implements CloseableSilently {
 
   private ServerServiceDefinition applyInterceptors(final BindableService service) {
     final var repository = new InterceptorRepository().load(gatewayCfg.getInterceptors());
-    final var queryApi = new QueryApiImpl(brokerClient);
+    final var queryApi =
+        new QueryApiImpl(brokerClient, gatewayCfg.getQueryApi().isPreferFollowers());
     final List<ServerInterceptor> interceptors =
         repository.instantiate().map(DecoratedInterceptor::decorate).collect(Collectors.toList());
 
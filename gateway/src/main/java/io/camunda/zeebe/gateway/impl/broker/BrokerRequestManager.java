@@ -31,7 +31,9 @@ import io.camunda.zeebe.transport.ClientRequest;
 import io.camunda.zeebe.transport.ClientTransport;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.Duration;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
@@ -214,6 +216,9 @@ final class BrokerRequestManager extends Actor {
         throw new PartitionNotFoundException(request.getPartitionId());
       }
       // already know partition id
+      if (request.prefersFollower()) {
+        return new BrokerAddressProvider(new FollowerFirstSelector(request.getPartitionId()));
+      }
       return new BrokerAddressProvider(request.getPartitionId());
     } else if (request.requiresPartitionId()) {
       if (request instanceof final BrokerPublishMessageRequest publishMessageRequest) {
@@ -287,6 +292,33 @@ final class BrokerRequestManager extends Actor {
         Duration timeout);
   }
 
+  /**
+   * Selects a random follower of the partition for the first attempt, and the leader for all
+   * retries, or if the partition has no known follower.
+   */
+  private static final class FollowerFirstSelector implements ToIntFunction<BrokerClusterState> {
+
+    private final int partitionId;
+    private boolean firstAttempt = true;
+
+    private FollowerFirstSelector(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    public int applyAsInt(final BrokerClusterState state) {
+      final Set<Integer> followers = state.getFollowersForPartition(partitionId);
+      if (firstAttempt && followers != null && !followers.isEmpty()) {
+        firstAttempt = false;
+        final var index = ThreadLocalRandom.current().nextInt(followers.size());
+        return followers.stream().skip(index).findFirst().orElseThrow();
+      }
+
+      firstAttempt = false;
+      return state.getLeaderForPartition(partitionId);
+    }
+  }
+
   private class BrokerAddressProvider implements Supplier<String> {
 
     private final ToIntFunction<BrokerClusterState> nodeIdSelector;
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.gateway.impl.broker.cluster;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 
 public class GatewayTopologyMetrics {
@@ -18,6 +19,16 @@ public class GatewayTopologyMetrics {
           .labelNames("partition", "broker")
           .register();
 
+  private static final Counter TOPOLOGY_RESPONSE_CACHE =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_topology_response_cache_total")
+          .help(
+              "Number of topology requests served from the cached response (hit), or for which "
+                  + "the response had to be rebuilt because the topology changed (miss)")
+          .labelNames("result")
+          .register();
+
   private static final int FOLLOWER = 0;
   private static final int LEADER = 3;
 
@@ -28,4 +39,12 @@ public class GatewayTopologyMetrics {
   public void setFollower(final int partition, final int broker) {
     PARTITION_ROLE.labels(String.valueOf(partition), String.valueOf(broker)).set(FOLLOWER);
   }
+
+  public void topologyResponseCacheHit() {
+    TOPOLOGY_RESPONSE_CACHE.labels("hit").inc();
+  }
+
+  public void topologyResponseCacheMiss() {
+    TOPOLOGY_RESPONSE_CACHE.labels("miss").inc();
+  }
 }
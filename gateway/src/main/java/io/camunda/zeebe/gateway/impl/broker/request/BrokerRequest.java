@@ -49,6 +49,14 @@ public abstract class BrokerRequest<T> implements ClientRequest {
 
   public abstract boolean addressesSpecificPartition();
 
+  /**
+   * Read-only requests to a specific partition can be answered by a follower of the partition. If
+   * true, the request is first sent to a follower, and retries are sent to the leader.
+   */
+  public boolean prefersFollower() {
+    return false;
+  }
+
   public abstract boolean requiresPartitionId();
 
   // public so we can do assertions in tests
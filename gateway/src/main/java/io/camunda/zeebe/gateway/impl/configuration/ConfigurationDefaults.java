@@ -29,6 +29,8 @@ public final class ConfigurationDefaults {
   public static final int DEFAULT_CLUSTER_PORT = 26502;
 
   public static final int DEFAULT_MANAGEMENT_THREADS = 1;
+  public static final int DEFAULT_GRPC_BOSS_THREADS = 1;
+  public static final boolean DEFAULT_GRPC_DIRECT_EXECUTOR_ENABLED = false;
 
   public static final String DEFAULT_KEEP_ALIVE_INTERVAL = "30s";
 }
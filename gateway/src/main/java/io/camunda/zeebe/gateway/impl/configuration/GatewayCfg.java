@@ -20,6 +20,7 @@ public class GatewayCfg {
   private LongPollingCfg longPolling = new LongPollingCfg();
   private List<InterceptorCfg> interceptors = new ArrayList<>();
   private MultiTenancyCfg multiTenancy = new MultiTenancyCfg();
+  private QueryApiCfg queryApi = new QueryApiCfg();
 
   public void init() {
     init(ConfigurationDefaults.DEFAULT_HOST);
@@ -90,10 +91,19 @@ public class GatewayCfg {
     this.multiTenancy = multiTenancy;
   }
 
+  public QueryApiCfg getQueryApi() {
+    return queryApi;
+  }
+
+  public GatewayCfg setQueryApi(final QueryApiCfg queryApi) {
+    this.queryApi = queryApi;
+    return this;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        network, cluster, threads, security, longPolling, interceptors, multiTenancy);
+        network, cluster, threads, security, longPolling, interceptors, multiTenancy, queryApi);
   }
 
   @Override
@@ -111,7 +121,8 @@ public class GatewayCfg {
         && Objects.equals(security, that.security)
         && Objects.equals(longPolling, that.longPolling)
         && Objects.equals(interceptors, that.interceptors)
-        && Objects.equals(multiTenancy, that.multiTenancy);
+        && Objects.equals(multiTenancy, that.multiTenancy)
+        && Objects.equals(queryApi, that.queryApi);
   }
 
   @Override
@@ -131,6 +142,8 @@ public class GatewayCfg {
         + interceptors
         + ", multiTenancy="
         + multiTenancy
+        + ", queryApi="
+        + queryApi
         + '}';
   }
 }
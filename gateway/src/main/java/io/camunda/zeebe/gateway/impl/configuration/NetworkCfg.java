@@ -20,6 +20,10 @@ public final class NetworkCfg {
   private int port = DEFAULT_PORT;
   private Duration minKeepAliveInterval = Duration.ofSeconds(30);
   private DataSize maxMessageSize = DataSize.ofMegabytes(4);
+  private DataSize flowControlWindow;
+  private int maxConcurrentCallsPerConnection = Integer.MAX_VALUE;
+  private int bufferPoolArenas = Runtime.getRuntime().availableProcessors();
+  private DataSize bufferPoolChunkSize = DataSize.ofMegabytes(4);
 
   public void init(final String defaultHost) {
     if (host == null) {
@@ -63,13 +67,59 @@ public final class NetworkCfg {
     return this;
   }
 
+  /**
+   * @return the fixed HTTP/2 flow-control window of each stream, or null if the window is tuned
+   *     automatically
+   */
+  public DataSize getFlowControlWindow() {
+    return flowControlWindow;
+  }
+
+  public NetworkCfg setFlowControlWindow(final DataSize flowControlWindow) {
+    this.flowControlWindow = flowControlWindow;
+    return this;
+  }
+
+  public int getMaxConcurrentCallsPerConnection() {
+    return maxConcurrentCallsPerConnection;
+  }
+
+  public NetworkCfg setMaxConcurrentCallsPerConnection(final int maxConcurrentCallsPerConnection) {
+    this.maxConcurrentCallsPerConnection = maxConcurrentCallsPerConnection;
+    return this;
+  }
+
+  public int getBufferPoolArenas() {
+    return bufferPoolArenas;
+  }
+
+  public NetworkCfg setBufferPoolArenas(final int bufferPoolArenas) {
+    this.bufferPoolArenas = bufferPoolArenas;
+    return this;
+  }
+
+  public DataSize getBufferPoolChunkSize() {
+    return bufferPoolChunkSize;
+  }
+
+  public NetworkCfg setBufferPoolChunkSize(final DataSize bufferPoolChunkSize) {
+    this.bufferPoolChunkSize = bufferPoolChunkSize;
+    return this;
+  }
+
   public InetSocketAddress toSocketAddress() {
     return new InetSocketAddress(host, port);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(host, port);
+    return Objects.hash(
+        host,
+        port,
+        flowControlWindow,
+        maxConcurrentCallsPerConnection,
+        bufferPoolArenas,
+        bufferPoolChunkSize);
   }
 
   @Override
@@ -81,7 +131,12 @@ public final class NetworkCfg {
       return false;
     }
     final NetworkCfg that = (NetworkCfg) o;
-    return port == that.port && Objects.equals(host, that.host);
+    return port == that.port
+        && maxConcurrentCallsPerConnection == that.maxConcurrentCallsPerConnection
+        && bufferPoolArenas == that.bufferPoolArenas
+        && Objects.equals(host, that.host)
+        && Objects.equals(flowControlWindow, that.flowControlWindow)
+        && Objects.equals(bufferPoolChunkSize, that.bufferPoolChunkSize);
   }
 
   @Override
@@ -94,6 +149,14 @@ public final class NetworkCfg {
         + port
         + ", minKeepAliveInterval="
         + minKeepAliveInterval
+        + ", flowControlWindow="
+        + flowControlWindow
+        + ", maxConcurrentCallsPerConnection="
+        + maxConcurrentCallsPerConnection
+        + ", bufferPoolArenas="
+        + bufferPoolArenas
+        + ", bufferPoolChunkSize="
+        + bufferPoolChunkSize
         + '}';
   }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import java.util.Objects;
+
+public class QueryApiCfg {
+
+  private boolean preferFollowers = false;
+
+  public boolean isPreferFollowers() {
+    return preferFollowers;
+  }
+
+  public QueryApiCfg setPreferFollowers(final boolean preferFollowers) {
+    this.preferFollowers = preferFollowers;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(preferFollowers);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final QueryApiCfg that = (QueryApiCfg) o;
+    return preferFollowers == that.preferFollowers;
+  }
+
+  @Override
+  public String toString() {
+    return "QueryApiCfg{" + "preferFollowers=" + preferFollowers + '}';
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.gateway.impl.configuration;
 
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_GRPC_BOSS_THREADS;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_GRPC_DIRECT_EXECUTOR_ENABLED;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_MANAGEMENT_THREADS;
 
 import java.util.Objects;
@@ -16,6 +18,9 @@ public final class ThreadsCfg {
   private int managementThreads = DEFAULT_MANAGEMENT_THREADS;
   private int grpcMinThreads = Runtime.getRuntime().availableProcessors();
   private int grpcMaxThreads = 2 * Runtime.getRuntime().availableProcessors();
+  private int grpcBossThreads = DEFAULT_GRPC_BOSS_THREADS;
+  private int grpcWorkerThreads = Runtime.getRuntime().availableProcessors();
+  private boolean grpcDirectExecutorEnabled = DEFAULT_GRPC_DIRECT_EXECUTOR_ENABLED;
 
   public int getManagementThreads() {
     return managementThreads;
@@ -42,9 +47,42 @@ public final class ThreadsCfg {
     this.grpcMaxThreads = grpcMaxThreads;
   }
 
+  public int getGrpcBossThreads() {
+    return grpcBossThreads;
+  }
+
+  public ThreadsCfg setGrpcBossThreads(final int grpcBossThreads) {
+    this.grpcBossThreads = grpcBossThreads;
+    return this;
+  }
+
+  public int getGrpcWorkerThreads() {
+    return grpcWorkerThreads;
+  }
+
+  public ThreadsCfg setGrpcWorkerThreads(final int grpcWorkerThreads) {
+    this.grpcWorkerThreads = grpcWorkerThreads;
+    return this;
+  }
+
+  public boolean isGrpcDirectExecutorEnabled() {
+    return grpcDirectExecutorEnabled;
+  }
+
+  public ThreadsCfg setGrpcDirectExecutorEnabled(final boolean grpcDirectExecutorEnabled) {
+    this.grpcDirectExecutorEnabled = grpcDirectExecutorEnabled;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(managementThreads, grpcMinThreads, grpcMaxThreads);
+    return Objects.hash(
+        managementThreads,
+        grpcMinThreads,
+        grpcMaxThreads,
+        grpcBossThreads,
+        grpcWorkerThreads,
+        grpcDirectExecutorEnabled);
   }
 
   @Override
@@ -58,7 +96,10 @@ public final class ThreadsCfg {
     final ThreadsCfg that = (ThreadsCfg) o;
     return managementThreads == that.managementThreads
         && grpcMinThreads == that.grpcMinThreads
-        && grpcMaxThreads == that.grpcMaxThreads;
+        && grpcMaxThreads == that.grpcMaxThreads
+        && grpcBossThreads == that.grpcBossThreads
+        && grpcWorkerThreads == that.grpcWorkerThreads
+        && grpcDirectExecutorEnabled == that.grpcDirectExecutorEnabled;
   }
 
   @Override
@@ -70,6 +111,12 @@ public final class ThreadsCfg {
         + grpcMinThreads
         + ", grpcMaxThreads="
         + grpcMaxThreads
+        + ", grpcBossThreads="
+        + grpcBossThreads
+        + ", grpcWorkerThreads="
+        + grpcWorkerThreads
+        + ", grpcDirectExecutorEnabled="
+        + grpcDirectExecutorEnabled
         + '}';
   }
 }
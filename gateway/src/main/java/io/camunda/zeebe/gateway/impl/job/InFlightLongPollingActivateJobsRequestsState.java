@@ -9,22 +9,28 @@ package io.camunda.zeebe.gateway.impl.job;
 
 import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Keeps track of the long polling requests of a single job type. Pending requests are kept in
+ * insertion order, such that they can be woken up in the order in which they were parked, while
+ * adding and removing a request are constant time operations.
+ */
 public final class InFlightLongPollingActivateJobsRequestsState {
 
   private final String jobType;
   private final LongPollingMetrics metrics;
-  private final Queue<InflightActivateJobsRequest> activeRequests = new LinkedList<>();
-  private final Queue<InflightActivateJobsRequest> pendingRequests = new LinkedList<>();
+  private final Set<InflightActivateJobsRequest> activeRequests = new HashSet<>();
+  private final Set<InflightActivateJobsRequest> pendingRequests = new LinkedHashSet<>();
   private final Set<InflightActivateJobsRequest> activeRequestsToBeRepeated = new HashSet<>();
   private int failedAttempts;
   private long lastUpdatedTime;
 
-  private final AtomicBoolean ongoingNotification = new AtomicBoolean(false);
+  /** Number of jobs which became available since the last notification was handled. */
+  private final AtomicInteger availableJobs = new AtomicInteger();
 
   public InFlightLongPollingActivateJobsRequestsState(
       final String jobType, final LongPollingMetrics metrics) {
@@ -61,47 +67,49 @@ public final class InFlightLongPollingActivateJobsRequestsState {
   }
 
   public void enqueueRequest(final InflightActivateJobsRequest request) {
-    if (!pendingRequests.contains(request)) {
-      pendingRequests.offer(request);
+    if (!isObsolete(request)) {
+      pendingRequests.add(request);
     }
-    removeObsoleteRequestsAndUpdateMetrics();
-  }
-
-  public Queue<InflightActivateJobsRequest> getPendingRequests() {
-    removeObsoleteRequestsAndUpdateMetrics();
-    return pendingRequests;
+    updateMetrics();
   }
 
-  private void removeObsoleteRequestsAndUpdateMetrics() {
-    pendingRequests.removeIf(this::isObsolete);
-    activeRequests.removeIf(this::isObsolete);
-    activeRequestsToBeRepeated.removeIf(this::isObsolete);
-    metrics.setBlockedRequestsCount(jobType, pendingRequests.size());
-  }
-
-  private boolean isObsolete(final InflightActivateJobsRequest request) {
-    return request.isTimedOut()
-        || request.isCanceled()
-        || request.isCompleted()
-        || request.isAborted();
+  public boolean hasPendingRequests() {
+    return !pendingRequests.isEmpty();
   }
 
   public void removeRequest(final InflightActivateJobsRequest request) {
     pendingRequests.remove(request);
-    removeObsoleteRequestsAndUpdateMetrics();
+    activeRequests.remove(request);
+    activeRequestsToBeRepeated.remove(request);
+    updateMetrics();
   }
 
+  /**
+   * Removes and returns the pending request which was parked the longest, skipping any obsolete
+   * requests on the way.
+   *
+   * @return the next pending request, or null if there is none
+   */
   public InflightActivateJobsRequest getNextPendingRequest() {
-    removeObsoleteRequestsAndUpdateMetrics();
-    final InflightActivateJobsRequest request = pendingRequests.poll();
-    metrics.setBlockedRequestsCount(jobType, pendingRequests.size());
+    final Iterator<InflightActivateJobsRequest> iterator = pendingRequests.iterator();
+    InflightActivateJobsRequest request = null;
+    while (request == null && iterator.hasNext()) {
+      final var candidate = iterator.next();
+      iterator.remove();
+      if (!isObsolete(candidate)) {
+        request = candidate;
+      }
+    }
+
+    updateMetrics();
     return request;
   }
 
   public void addActiveRequest(final InflightActivateJobsRequest request) {
-    activeRequests.offer(request);
+    activeRequests.add(request);
     pendingRequests.remove(request);
     activeRequestsToBeRepeated.remove(request);
+    updateMetrics();
   }
 
   public void removeActiveRequest(final InflightActivateJobsRequest request) {
@@ -110,7 +118,8 @@ public final class InFlightLongPollingActivateJobsRequestsState {
   }
 
   public boolean hasActiveRequests() {
-    removeObsoleteRequestsAndUpdateMetrics();
+    activeRequests.removeIf(this::isObsolete);
+    activeRequestsToBeRepeated.removeIf(this::isObsolete);
     return !activeRequests.isEmpty();
   }
 
@@ -123,11 +132,32 @@ public final class InFlightLongPollingActivateJobsRequestsState {
     return activeRequestsToBeRepeated.contains(request) && !request.isLongPollingDisabled();
   }
 
-  public boolean shouldNotifyAndStartNotification() {
-    return ongoingNotification.compareAndSet(false, true);
+  /**
+   * Records that the given number of jobs became available. May be called from any thread.
+   *
+   * @return true if the caller is responsible to handle the notification, i.e. there was no other
+   *     notification waiting to be handled yet
+   */
+  public boolean addAvailableJobs(final int count) {
+    return availableJobs.getAndAdd(count) == 0;
+  }
+
+  /**
+   * Returns the number of jobs which became available since the last call, and resets it. May be
+   * called from any thread.
+   */
+  public int takeAvailableJobs() {
+    return availableJobs.getAndSet(0);
+  }
+
+  private void updateMetrics() {
+    metrics.setBlockedRequestsCount(jobType, pendingRequests.size());
   }
 
-  public void completeNotification() {
-    ongoingNotification.set(false);
+  private boolean isObsolete(final InflightActivateJobsRequest request) {
+    return request.isTimedOut()
+        || request.isCanceled()
+        || request.isCompleted()
+        || request.isAborted();
   }
 }
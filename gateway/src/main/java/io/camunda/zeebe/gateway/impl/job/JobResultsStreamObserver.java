@@ -0,0 +1,179 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.gateway.Loggers;
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
+import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultResponse;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Handles the request side of a {@code JobResults} stream. Every job result received from the
+ * client is sent to the broker as its own request, without waiting for the previous results to be
+ * acknowledged; requests for the same partition are pipelined over the same broker connection.
+ * The acknowledgements are sent back to the client in the order in which the results were
+ * received, so a slow result holds back the acknowledgements of the results received after it.
+ *
+ * <p>The number of results in flight is bounded by only requesting a new result from the client
+ * once a previous one was acknowledged. A rejected result doesn't close the stream; its
+ * acknowledgement carries the status the equivalent unary call would have failed with.
+ */
+@ThreadSafe
+public final class JobResultsStreamObserver implements StreamObserver<JobResultRequest> {
+
+  /** The maximum number of results per stream which were received but not yet acknowledged. */
+  public static final int MAX_IN_FLIGHT_RESULTS = 128;
+
+  private static final GrpcErrorMapper ERROR_MAPPER = new GrpcErrorMapper();
+
+  private final BrokerClient brokerClient;
+  private final BrokerRequestMapper requestMapper;
+  private final ServerCallStreamObserver<JobResultResponse> responseObserver;
+
+  @GuardedBy("this")
+  private final Queue<PendingResult> pendingResults = new ArrayDeque<>();
+
+  @GuardedBy("this")
+  private boolean isHalfClosed;
+
+  @GuardedBy("this")
+  private boolean isClosed;
+
+  public JobResultsStreamObserver(
+      final BrokerClient brokerClient,
+      final BrokerRequestMapper requestMapper,
+      final ServerCallStreamObserver<JobResultResponse> responseObserver) {
+    this.brokerClient = brokerClient;
+    this.requestMapper = requestMapper;
+    this.responseObserver = responseObserver;
+
+    // must be called before the service method returns, i.e. before the first result arrives
+    responseObserver.disableAutoInboundFlowControl();
+    responseObserver.request(MAX_IN_FLIGHT_RESULTS);
+  }
+
+  @Override
+  public void onNext(final JobResultRequest request) {
+    final var pendingResult = new PendingResult(getJobKey(request));
+    synchronized (this) {
+      if (isClosed) {
+        return;
+      }
+
+      pendingResults.add(pendingResult);
+    }
+
+    final BrokerRequest<?> brokerRequest;
+    try {
+      brokerRequest = requestMapper.map(request);
+    } catch (final Exception e) {
+      onResult(pendingResult, e);
+      return;
+    }
+
+    brokerClient.sendRequestWithRetry(
+        brokerRequest,
+        (key, response) -> onResult(pendingResult, null),
+        error -> onResult(pendingResult, error));
+  }
+
+  @Override
+  public void onError(final Throwable t) {
+    Loggers.GATEWAY_LOGGER.trace("Job results stream was closed by the client with an error", t);
+    synchronized (this) {
+      isClosed = true;
+      pendingResults.clear();
+    }
+  }
+
+  @Override
+  public void onCompleted() {
+    synchronized (this) {
+      isHalfClosed = true;
+      completeIfDone();
+    }
+  }
+
+  private void onResult(final PendingResult pendingResult, final Throwable error) {
+    if (error == null) {
+      pendingResult.response =
+          JobResultResponse.newBuilder().setJobKey(pendingResult.jobKey).build();
+    } else {
+      final var status = Status.fromThrowable(ERROR_MAPPER.mapError(error));
+      pendingResult.response =
+          JobResultResponse.newBuilder()
+              .setJobKey(pendingResult.jobKey)
+              .setCode(status.getCode().value())
+              .setMessage(status.getDescription() == null ? "" : status.getDescription())
+              .build();
+    }
+
+    acknowledgeCompletedResults();
+  }
+
+  private synchronized void acknowledgeCompletedResults() {
+    if (isClosed) {
+      return;
+    }
+
+    var acknowledged = 0;
+    while (!pendingResults.isEmpty() && pendingResults.peek().response != null) {
+      responseObserver.onNext(pendingResults.poll().response);
+      acknowledged++;
+    }
+
+    if (acknowledged > 0 && !isHalfClosed) {
+      responseObserver.request(acknowledged);
+    }
+
+    completeIfDone();
+  }
+
+  @GuardedBy("this")
+  private void completeIfDone() {
+    if (isHalfClosed && !isClosed && pendingResults.isEmpty()) {
+      isClosed = true;
+      responseObserver.onCompleted();
+    }
+  }
+
+  private static long getJobKey(final JobResultRequest request) {
+    return switch (request.getResultCase()) {
+      case COMPLETE -> request.getComplete().getJobKey();
+      case FAIL -> request.getFail().getJobKey();
+      case THROWERROR -> request.getThrowError().getJobKey();
+      case RESULT_NOT_SET -> -1L;
+    };
+  }
+
+  /** Maps a job result to the broker request which applies it. */
+  @FunctionalInterface
+  public interface BrokerRequestMapper {
+    BrokerRequest<?> map(JobResultRequest request) throws Exception;
+  }
+
+  private static final class PendingResult {
+    private final long jobKey;
+
+    // written by the broker client's thread, read while holding the observer's lock
+    private volatile JobResultResponse response;
+
+    private PendingResult(final long jobKey) {
+      this.jobKey = jobKey;
+    }
+  }
+}
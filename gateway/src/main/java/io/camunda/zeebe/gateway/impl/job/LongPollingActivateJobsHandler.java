@@ -24,7 +24,6 @@ import io.grpc.protobuf.StatusProto;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 
@@ -195,7 +194,9 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
                     request.complete();
                     state.removeActiveRequest(request);
                     state.resetFailedAttempts();
-                    handlePendingRequests(state, request.getType());
+                    // more jobs may be left behind; hand over to the next parked request only,
+                    // which will do the same if it activates jobs in turn
+                    wakePendingRequests(state, request.getType(), 1);
                   });
             }
           });
@@ -288,33 +289,44 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
     // get to avoid the creation of a state instance.
     final var state = jobTypeState.get(jobType);
 
-    if (state != null && state.shouldNotifyAndStartNotification()) {
+    // every notification stands for a single job which became available; notifications which
+    // arrive while a previous one is still waiting to be handled are accumulated, such that they
+    // are handled together, but each one can still wake up a pending request
+    if (state != null && state.addAvailableJobs(1)) {
       LOG.trace("Handle jobs available notification for type {}.", jobType);
       actor.run(
           () -> {
             state.resetFailedAttempts();
-            handlePendingRequests(state, jobType);
-            state.completeNotification();
+            wakePendingRequests(state, jobType, state.takeAvailableJobs());
           });
     } else {
-      LOG.trace("Ignore jobs available notification for type {}.", jobType);
+      LOG.trace("Accumulate jobs available notification for type {}.", jobType);
     }
   }
 
-  private void handlePendingRequests(
-      final InFlightLongPollingActivateJobsRequestsState state, final String jobType) {
-    final Queue<InflightActivateJobsRequest> pendingRequests = state.getPendingRequests();
-
-    if (!pendingRequests.isEmpty()) {
-      pendingRequests.forEach(
-          nextPendingRequest -> {
-            LOG.trace("Unblocking ActivateJobsRequest {}", nextPendingRequest.getRequest());
-            internalActivateJobsRetry(nextPendingRequest);
-          });
-    } else {
-      if (!state.hasActiveRequests()) {
-        jobTypeState.remove(jobType);
+  /**
+   * Wakes up at most as many pending requests as there are jobs available, in the order in which
+   * they were parked. The remaining requests stay parked, instead of all of them racing for the
+   * same few jobs.
+   */
+  private void wakePendingRequests(
+      final InFlightLongPollingActivateJobsRequestsState state,
+      final String jobType,
+      final int availableJobs) {
+    int wokenRequests = 0;
+    while (wokenRequests < availableJobs) {
+      final InflightActivateJobsRequest nextPendingRequest = state.getNextPendingRequest();
+      if (nextPendingRequest == null) {
+        break;
       }
+
+      LOG.trace("Unblocking ActivateJobsRequest {}", nextPendingRequest.getRequest());
+      internalActivateJobsRetry(nextPendingRequest);
+      wokenRequests++;
+    }
+
+    if (wokenRequests == 0 && !state.hasPendingRequests() && !state.hasActiveRequests()) {
+      jobTypeState.remove(jobType);
     }
   }
 
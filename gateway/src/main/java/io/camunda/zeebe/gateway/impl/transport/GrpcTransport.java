@@ -0,0 +1,170 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.transport;
+
+import io.camunda.zeebe.gateway.impl.configuration.NetworkCfg;
+import io.camunda.zeebe.gateway.impl.configuration.ThreadsCfg;
+import io.camunda.zeebe.util.CloseableSilently;
+import io.grpc.netty.NettyServerBuilder;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Netty transport of the gRPC server: the boss and worker event loop groups, using epoll when
+ * available and NIO otherwise, and the pooled buffer allocator of the server channels.
+ *
+ * <p>Contrary to the library defaults, these are owned by the gateway, and must be closed once the
+ * server is terminated.
+ */
+public final class GrpcTransport implements CloseableSilently {
+  private static final int MAX_CHUNK_ORDER = 14;
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+  private final EventLoopGroup bossGroup;
+  private final EventLoopGroup workerGroup;
+  private final Class<? extends ServerChannel> channelType;
+  private final PooledByteBufAllocator allocator;
+
+  private GrpcTransport(
+      final EventLoopGroup bossGroup,
+      final EventLoopGroup workerGroup,
+      final Class<? extends ServerChannel> channelType,
+      final PooledByteBufAllocator allocator) {
+    this.bossGroup = bossGroup;
+    this.workerGroup = workerGroup;
+    this.channelType = channelType;
+    this.allocator = allocator;
+  }
+
+  public static GrpcTransport create(final NetworkCfg network, final ThreadsCfg threads) {
+    if (threads.getGrpcBossThreads() <= 0) {
+      throw new IllegalArgumentException("grpcBossThreads must be positive");
+    }
+
+    if (threads.getGrpcWorkerThreads() <= 0) {
+      throw new IllegalArgumentException("grpcWorkerThreads must be positive");
+    }
+
+    final var allocator = createAllocator(network);
+    final var bossThreadFactory = new DefaultThreadFactory("grpc-boss", true);
+    final var workerThreadFactory = new DefaultThreadFactory("grpc-worker", true);
+    final var transport =
+        Epoll.isAvailable()
+            ? createEpollTransport(threads, bossThreadFactory, workerThreadFactory, allocator)
+            : createNioTransport(threads, bossThreadFactory, workerThreadFactory, allocator);
+
+    GrpcTransportMetrics.add(transport);
+    return transport;
+  }
+
+  public void applyTo(final NettyServerBuilder builder) {
+    builder
+        .bossEventLoopGroup(bossGroup)
+        .workerEventLoopGroup(workerGroup)
+        .channelType(channelType)
+        .withOption(ChannelOption.ALLOCATOR, allocator)
+        .withChildOption(ChannelOption.ALLOCATOR, allocator);
+  }
+
+  @Override
+  public void close() {
+    GrpcTransportMetrics.remove(this);
+
+    bossGroup.shutdownGracefully(0, SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    workerGroup.shutdownGracefully(0, SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    try {
+      bossGroup.terminationFuture().await(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      workerGroup.terminationFuture().await(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  EventLoopGroup bossGroup() {
+    return bossGroup;
+  }
+
+  EventLoopGroup workerGroup() {
+    return workerGroup;
+  }
+
+  PooledByteBufAllocator allocator() {
+    return allocator;
+  }
+
+  private static GrpcTransport createEpollTransport(
+      final ThreadsCfg threads,
+      final ThreadFactory bossThreadFactory,
+      final ThreadFactory workerThreadFactory,
+      final PooledByteBufAllocator allocator) {
+    return new GrpcTransport(
+        new EpollEventLoopGroup(threads.getGrpcBossThreads(), bossThreadFactory),
+        new EpollEventLoopGroup(threads.getGrpcWorkerThreads(), workerThreadFactory),
+        EpollServerSocketChannel.class,
+        allocator);
+  }
+
+  private static GrpcTransport createNioTransport(
+      final ThreadsCfg threads,
+      final ThreadFactory bossThreadFactory,
+      final ThreadFactory workerThreadFactory,
+      final PooledByteBufAllocator allocator) {
+    return new GrpcTransport(
+        new NioEventLoopGroup(threads.getGrpcBossThreads(), bossThreadFactory),
+        new NioEventLoopGroup(threads.getGrpcWorkerThreads(), workerThreadFactory),
+        NioServerSocketChannel.class,
+        allocator);
+  }
+
+  private static PooledByteBufAllocator createAllocator(final NetworkCfg network) {
+    final var arenas = network.getBufferPoolArenas();
+    if (arenas <= 0) {
+      throw new IllegalArgumentException("bufferPoolArenas must be positive");
+    }
+
+    // a chunk is a power of two multiple of the page size, and the allocator expects the exponent
+    final var pageSize = PooledByteBufAllocator.defaultPageSize();
+    final var chunkSize = network.getBufferPoolChunkSize().toBytes();
+    final var pagesPerChunk = chunkSize / pageSize;
+    if (chunkSize % pageSize != 0 || Long.bitCount(pagesPerChunk) != 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "bufferPoolChunkSize must be a power of two multiple of the page size %d, but was %d",
+              pageSize, chunkSize));
+    }
+
+    final var maxOrder = Long.numberOfTrailingZeros(pagesPerChunk);
+    if (maxOrder > MAX_CHUNK_ORDER) {
+      throw new IllegalArgumentException(
+          String.format(
+              "bufferPoolChunkSize must be at most %d, but was %d",
+              (long) pageSize << MAX_CHUNK_ORDER, chunkSize));
+    }
+
+    return new PooledByteBufAllocator(
+        true,
+        PooledByteBufAllocator.defaultNumHeapArena(),
+        arenas,
+        pageSize,
+        maxOrder,
+        PooledByteBufAllocator.defaultSmallCacheSize(),
+        PooledByteBufAllocator.defaultNormalCacheSize(),
+        PooledByteBufAllocator.defaultUseCacheForAllThreads(),
+        PooledByteBufAllocator.defaultDirectMemoryCacheAlignment());
+  }
+}
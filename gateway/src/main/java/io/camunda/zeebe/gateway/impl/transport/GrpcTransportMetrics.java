@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.transport;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Exports the state of the event loops and buffer allocators of all open {@link GrpcTransport}s.
+ * The values are read when the metrics are scraped, and are summed up if there is more than one
+ * gateway in the same JVM.
+ */
+final class GrpcTransportMetrics extends Collector {
+  private static final String NAMESPACE = "zeebe_gateway_grpc_transport";
+  private static final GrpcTransportMetrics METRICS = new GrpcTransportMetrics().register();
+
+  private final Set<GrpcTransport> transports = new CopyOnWriteArraySet<>();
+
+  static void add(final GrpcTransport transport) {
+    METRICS.transports.add(transport);
+  }
+
+  static void remove(final GrpcTransport transport) {
+    METRICS.transports.remove(transport);
+  }
+
+  @Override
+  public List<MetricFamilySamples> collect() {
+    final var workerEventLoops = new EventLoopStats();
+    final var bossEventLoops = new EventLoopStats();
+    long usedDirectMemory = 0;
+    long usedHeapMemory = 0;
+    long directArenas = 0;
+    long threadLocalCaches = 0;
+
+    for (final var transport : transports) {
+      bossEventLoops.add(transport.bossGroup());
+      workerEventLoops.add(transport.workerGroup());
+
+      final var allocatorMetric = transport.allocator().metric();
+      usedDirectMemory += allocatorMetric.usedDirectMemory();
+      usedHeapMemory += allocatorMetric.usedHeapMemory();
+      directArenas += allocatorMetric.numDirectArenas();
+      threadLocalCaches += allocatorMetric.numThreadLocalCaches();
+    }
+
+    final var threads =
+        new GaugeMetricFamily(
+            NAMESPACE + "_event_loop_threads",
+            "Number of event loop threads, by group (boss, worker)",
+            List.of("group"));
+    threads.addMetric(List.of("boss"), bossEventLoops.threads);
+    threads.addMetric(List.of("worker"), workerEventLoops.threads);
+
+    final var pendingTasks =
+        new GaugeMetricFamily(
+            NAMESPACE + "_event_loop_pending_tasks",
+            "Number of tasks waiting to be run on the event loops, by group (boss, worker)",
+            List.of("group"));
+    pendingTasks.addMetric(List.of("boss"), bossEventLoops.pendingTasks);
+    pendingTasks.addMetric(List.of("worker"), workerEventLoops.pendingTasks);
+
+    final var usedMemory =
+        new GaugeMetricFamily(
+            NAMESPACE + "_allocator_used_memory_bytes",
+            "Memory reserved by the pooled buffer allocator, by type (direct, heap)",
+            List.of("type"));
+    usedMemory.addMetric(List.of("direct"), usedDirectMemory);
+    usedMemory.addMetric(List.of("heap"), usedHeapMemory);
+
+    return List.of(
+        threads,
+        pendingTasks,
+        usedMemory,
+        new GaugeMetricFamily(
+            NAMESPACE + "_allocator_direct_arenas",
+            "Number of direct arenas of the pooled buffer allocator",
+            directArenas),
+        new GaugeMetricFamily(
+            NAMESPACE + "_allocator_thread_local_caches",
+            "Number of thread local caches of the pooled buffer allocator",
+            threadLocalCaches));
+  }
+
+  private static final class EventLoopStats {
+    private long threads;
+    private long pendingTasks;
+
+    private void add(final EventLoopGroup group) {
+      for (final EventExecutor executor : group) {
+        threads++;
+        if (executor instanceof final SingleThreadEventExecutor singleThreadExecutor) {
+          pendingTasks += singleThreadExecutor.pendingTasks();
+        }
+      }
+    }
+  }
+}
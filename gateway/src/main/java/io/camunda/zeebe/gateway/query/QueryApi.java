@@ -15,7 +15,8 @@ import java.util.concurrent.CompletionStage;
  * remote partition on a broker.
  *
  * <p>NOTE: queries are routed to the correct partition based on the given key. They may also be
- * routed to remote nodes.
+ * routed to remote nodes. If the gateway is configured to prefer followers, queries are first sent
+ * to a follower of the partition, and only to the leader if the follower cannot answer them.
  */
 public interface QueryApi {
 
@@ -59,4 +60,18 @@ public interface QueryApi {
    * @return the process ID associated with the job identified by the given key
    */
   CompletionStage<String> getBpmnProcessIdFromJob(final long key, final Duration timeout);
+
+  /**
+   * Looks up the incident identified by the given key, and returns the BPMN process ID associated
+   * with its process instance. The key should be the one obtained from the incident record, e.g.
+   * when resolving the incident.
+   *
+   * <p>After {@code timeout} duration, the returned future is completed exceptionally with a {@link
+   * java.util.concurrent.TimeoutException}.
+   *
+   * @param key the incident key
+   * @param timeout the maximum duration to wait for until the request is completed
+   * @return the process ID associated with the incident identified by the given key
+   */
+  CompletionStage<String> getBpmnProcessIdFromIncident(final long key, final Duration timeout);
 }
@@ -21,6 +21,7 @@ import org.agrona.MutableDirectBuffer;
 public final class BrokerExecuteQuery extends BrokerRequest<String> {
   private final ExecuteQueryRequest request = new ExecuteQueryRequest();
   private final ExecuteQueryResponse response = new ExecuteQueryResponse();
+  private boolean preferFollower;
 
   public BrokerExecuteQuery() {
     super(ExecuteQueryResponseDecoder.SCHEMA_ID, ExecuteQueryResponseDecoder.TEMPLATE_ID);
@@ -34,6 +35,15 @@ public final class BrokerExecuteQuery extends BrokerRequest<String> {
     request.setValueType(valueType);
   }
 
+  public void setPreferFollower(final boolean preferFollower) {
+    this.preferFollower = preferFollower;
+  }
+
+  @Override
+  public boolean prefersFollower() {
+    return preferFollower;
+  }
+
   @Override
   public int getPartitionId() {
     return request.getPartitionId();
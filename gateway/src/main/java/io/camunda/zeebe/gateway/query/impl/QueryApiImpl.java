@@ -14,12 +14,34 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Implements the {@link QueryApi} by sending a {@link BrokerExecuteQuery} to the partition which
+ * owns the queried key.
+ *
+ * <p>Identical queries, i.e. for the same key, value type and timeout, which are sent while a
+ * previous one is still in flight, are coalesced: they don't send another request, but complete
+ * with the result of the in-flight query, including its error or timeout.
+ */
 public final class QueryApiImpl implements QueryApi {
+  private final ConcurrentMap<Query, CompletableFuture<String>> inFlightQueries =
+      new ConcurrentHashMap<>();
   private final BrokerClient client;
+  private final boolean preferFollowers;
 
   public QueryApiImpl(final BrokerClient client) {
+    this(client, false);
+  }
+
+  /**
+   * @param preferFollowers whether queries are first sent to a follower of the partition, instead
+   *     of always being sent to the leader
+   */
+  public QueryApiImpl(final BrokerClient client, final boolean preferFollowers) {
     this.client = client;
+    this.preferFollowers = preferFollowers;
   }
 
   @Override
@@ -39,17 +61,46 @@ public final class QueryApiImpl implements QueryApi {
     return queryPartition(key, ValueType.JOB, timeout);
   }
 
+  @Override
+  public CompletionStage<String> getBpmnProcessIdFromIncident(
+      final long key, final Duration timeout) {
+    return queryPartition(key, ValueType.INCIDENT, timeout);
+  }
+
   private CompletionStage<String> queryPartition(
       final long key, final ValueType valueType, final Duration timeout) {
+    final var query = new Query(key, valueType, timeout);
     final CompletableFuture<String> result = new CompletableFuture<>();
+    final var inFlightResult = inFlightQueries.putIfAbsent(query, result);
+    if (inFlightResult != null) {
+      return forward(inFlightResult);
+    }
 
+    result.whenComplete((ignored, error) -> inFlightQueries.remove(query, result));
     try {
       sendRequest(key, valueType, timeout, result);
     } catch (final Exception e) {
       result.completeExceptionally(e);
     }
 
-    return result;
+    return forward(result);
+  }
+
+  /**
+   * Unlike {@link CompletableFuture#copy()}, completes the returned future with the same error as
+   * the given one, and not with a {@link java.util.concurrent.CompletionException} wrapping it.
+   */
+  private static CompletableFuture<String> forward(final CompletableFuture<String> result) {
+    final CompletableFuture<String> forwarded = new CompletableFuture<>();
+    result.whenComplete(
+        (response, error) -> {
+          if (error != null) {
+            forwarded.completeExceptionally(error);
+          } else {
+            forwarded.complete(response);
+          }
+        });
+    return forwarded;
   }
 
   private void sendRequest(
@@ -63,6 +114,7 @@ public final class QueryApiImpl implements QueryApi {
     request.setKey(key);
     request.setPartitionId(partitionId);
     request.setValueType(valueType);
+    request.setPreferFollower(preferFollowers);
 
     client
         .sendRequestWithRetry(request, timeout)
@@ -75,4 +127,6 @@ public final class QueryApiImpl implements QueryApi {
               }
             });
   }
+
+  private record Query(long key, ValueType valueType, Duration timeout) {}
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerThrowErrorRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.awaitility.Awaitility;
+import org.junit.Test;
+
+public final class JobResultsTest extends GatewayTest {
+
+  @Test
+  public void shouldAcknowledgeResultsInOrder() {
+    // given
+    new CompleteJobStub().registerWith(brokerClient);
+    new FailJobStub().registerWith(brokerClient);
+    new ThrowErrorStub().registerWith(brokerClient);
+    final var observer = new JobResultsObserver();
+    final var requestStream = asyncClient.jobResults(observer);
+
+    // when
+    requestStream.onNext(
+        JobResultRequest.newBuilder()
+            .setComplete(CompleteJobRequest.newBuilder().setJobKey(1))
+            .build());
+    requestStream.onNext(
+        JobResultRequest.newBuilder()
+            .setFail(FailJobRequest.newBuilder().setJobKey(2).setRetries(1))
+            .build());
+    requestStream.onNext(
+        JobResultRequest.newBuilder()
+            .setThrowError(ThrowErrorRequest.newBuilder().setJobKey(3).setErrorCode("error"))
+            .build());
+    requestStream.onCompleted();
+
+    // then
+    Awaitility.await("until the stream is completed").until(() -> observer.isCompleted);
+    assertThat(observer.responses)
+        .extracting(JobResultResponse::getJobKey, JobResultResponse::getCode)
+        .containsExactly(
+            tuple(1L, Status.Code.OK.value()),
+            tuple(2L, Status.Code.OK.value()),
+            tuple(3L, Status.Code.OK.value()));
+
+    final List<BrokerRequest> brokerRequests = brokerClient.getBrokerRequests();
+    assertThat(brokerRequests)
+        .hasExactlyElementsOfTypes(
+            BrokerCompleteJobRequest.class,
+            BrokerFailJobRequest.class,
+            BrokerThrowErrorRequest.class);
+    assertThat(brokerRequests.get(0).getIntent()).isEqualTo(JobIntent.COMPLETE);
+  }
+
+  @Test
+  public void shouldAcknowledgeRejectedResultWithoutClosingStream() {
+    // given
+    brokerClient.registerHandler(
+        BrokerCompleteJobRequest.class,
+        (RequestHandler<BrokerRequest<?>, BrokerResponse<?>>)
+            request ->
+                new BrokerRejectionResponse<>(
+                    new BrokerRejection(
+                        JobIntent.COMPLETE, 1, RejectionType.NOT_FOUND, "no such job")));
+    new FailJobStub().registerWith(brokerClient);
+    final var observer = new JobResultsObserver();
+    final var requestStream = asyncClient.jobResults(observer);
+
+    // when
+    requestStream.onNext(
+        JobResultRequest.newBuilder()
+            .setComplete(CompleteJobRequest.newBuilder().setJobKey(1))
+            .build());
+    requestStream.onNext(
+        JobResultRequest.newBuilder()
+            .setFail(FailJobRequest.newBuilder().setJobKey(2).setRetries(1))
+            .build());
+
+    // then
+    Awaitility.await("until both results are acknowledged")
+        .until(() -> observer.responses.size() == 2);
+    assertThat(observer.responses.get(0).getCode()).isEqualTo(Status.Code.NOT_FOUND.value());
+    assertThat(observer.responses.get(0).getMessage()).contains("no such job");
+    assertThat(observer.responses.get(1).getCode()).isEqualTo(Status.Code.OK.value());
+    assertThat(observer.isCompleted).isFalse();
+    assertThat(observer.error).isNull();
+
+    requestStream.onCompleted();
+  }
+
+  @Test
+  public void shouldRejectEmptyResult() {
+    // given
+    final var observer = new JobResultsObserver();
+    final var requestStream = asyncClient.jobResults(observer);
+
+    // when
+    requestStream.onNext(JobResultRequest.getDefaultInstance());
+    requestStream.onCompleted();
+
+    // then
+    Awaitility.await("until the stream is completed").until(() -> observer.isCompleted);
+    assertThat(observer.responses)
+        .singleElement()
+        .extracting(JobResultResponse::getCode)
+        .isEqualTo(Status.Code.INVALID_ARGUMENT.value());
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  private static final class JobResultsObserver implements StreamObserver<JobResultResponse> {
+    private final List<JobResultResponse> responses = new CopyOnWriteArrayList<>();
+    private volatile Throwable error;
+    private volatile boolean isCompleted;
+
+    @Override
+    public void onNext(final JobResultResponse value) {
+      responses.add(value);
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      error = t;
+    }
+
+    @Override
+    public void onCompleted() {
+      isCompleted = true;
+    }
+  }
+}
@@ -10,6 +10,7 @@ package io.camunda.zeebe.gateway.api.topology;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedTopologyManager;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerHealth;
@@ -105,4 +106,32 @@ public final class TopologyTest extends GatewayTest {
     assertThat(partition).isPresent();
     assertThat(partition.get().getRole()).isEqualTo(PartitionBrokerRole.INACTIVE);
   }
+
+  @Test
+  public void shouldReuseResponseIfTopologyIsUnchanged() {
+    // given
+    final var firstResponse = client.topology(TopologyRequest.newBuilder().build());
+
+    // when
+    final var secondResponse = client.topology(TopologyRequest.newBuilder().build());
+
+    // then
+    assertThat(secondResponse).isEqualTo(firstResponse);
+  }
+
+  @Test
+  public void shouldRebuildResponseIfTopologyChanged() {
+    // given
+    final var topologyManager = (StubbedTopologyManager) brokerClient.getTopologyManager();
+    client.topology(TopologyRequest.newBuilder().build());
+    topologyManager.updateTopology(
+        topology -> topology.setPartitionHealthStatus(0, 1, PartitionHealthStatus.HEALTHY));
+
+    // when
+    final var response = client.topology(TopologyRequest.newBuilder().build());
+
+    // then
+    final var health = response.getBrokers(0).getPartitions(0).getHealth();
+    assertThat(health).isEqualTo(PartitionBrokerHealth.HEALTHY);
+  }
 }
@@ -14,10 +14,11 @@ import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyListener;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.camunda.zeebe.topology.state.ClusterTopology;
+import java.util.function.Consumer;
 
 public final class StubbedTopologyManager implements BrokerTopologyManager {
 
-  private final BrokerClusterStateImpl clusterState;
+  private volatile BrokerClusterStateImpl clusterState;
 
   StubbedTopologyManager() {
     this(8);
@@ -39,6 +40,13 @@ public final class StubbedTopologyManager implements BrokerTopologyManager {
     return clusterState;
   }
 
+  /** Replaces the topology with an updated copy, the same way the actual topology manager does. */
+  public void updateTopology(final Consumer<BrokerClusterStateImpl> updater) {
+    final var updated = new BrokerClusterStateImpl(clusterState);
+    updater.accept(updated);
+    clusterState = updated;
+  }
+
   @Override
   public void addTopologyListener(final BrokerTopologyListener listener) {
     throw new UnsupportedOperationException("Not yet implemented; implement if need be");
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public final class GatewayCfgTest {
 
@@ -33,7 +34,14 @@ public final class GatewayCfgTest {
   static {
     DEFAULT_CFG.init();
     CUSTOM_CFG.init();
-    CUSTOM_CFG.getNetwork().setHost("192.168.0.1").setPort(123);
+    CUSTOM_CFG
+        .getNetwork()
+        .setHost("192.168.0.1")
+        .setPort(123)
+        .setFlowControlWindow(DataSize.ofMegabytes(2))
+        .setMaxConcurrentCallsPerConnection(1000)
+        .setBufferPoolArenas(2)
+        .setBufferPoolChunkSize(DataSize.ofMegabytes(8));
     CUSTOM_CFG
         .getCluster()
         .setInitialContactPoints(List.of("foobar:1234", "barfoo:5678"))
@@ -47,7 +55,12 @@ public final class GatewayCfgTest {
         .setEnabled(true)
         .setCertificateChainPath(new File("certificateChainPath"))
         .setPrivateKeyPath(new File("privateKeyPath"));
-    CUSTOM_CFG.getThreads().setManagementThreads(100);
+    CUSTOM_CFG
+        .getThreads()
+        .setManagementThreads(100)
+        .setGrpcBossThreads(2)
+        .setGrpcWorkerThreads(4)
+        .setGrpcDirectExecutorEnabled(true);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
     CUSTOM_CFG.getMultiTenancy().setEnabled(true);
     CUSTOM_CFG.getInterceptors().add(new InterceptorCfg());
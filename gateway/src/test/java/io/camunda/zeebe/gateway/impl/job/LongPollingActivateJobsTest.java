@@ -162,7 +162,7 @@ public final class LongPollingActivateJobsTest {
   }
 
   @Test
-  public void shouldUnblockAllRequestsWhenJobsAvailable() throws Exception {
+  public void shouldUnblockOneRequestPerAvailableJob() throws Exception {
     // given
     final int amount = FAILED_RESPONSE_THRESHOLD;
     activateJobsAndWaitUntilBlocked(amount);
@@ -176,10 +176,10 @@ public final class LongPollingActivateJobsTest {
 
     // then
 
-    // the job available notification triggers all three requests again
-    final int invTriggeredByNotification = amount * partitionsCount;
-    // the one request which has a result, re-triggers the remaining requests
-    final int invTriggeredBySuccessfulRequest = (amount - 1) * partitionsCount;
+    // the job available notification triggers only one of the three requests
+    final int invTriggeredByNotification = partitionsCount;
+    // the one request which has a result, re-triggers only the next pending request
+    final int invTriggeredBySuccessfulRequest = partitionsCount;
     verify(
             activateJobsStub,
             timeout(2000)
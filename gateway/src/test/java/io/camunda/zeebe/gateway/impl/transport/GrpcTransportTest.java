@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.gateway.impl.configuration.NetworkCfg;
+import io.camunda.zeebe.gateway.impl.configuration.ThreadsCfg;
+import io.prometheus.client.CollectorRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+final class GrpcTransportTest {
+
+  @Test
+  void shouldCreateConfiguredEventLoopsAndAllocator() {
+    // given
+    final var network =
+        new NetworkCfg().setBufferPoolArenas(3).setBufferPoolChunkSize(DataSize.ofMegabytes(8));
+    final var threads = new ThreadsCfg().setGrpcBossThreads(2).setGrpcWorkerThreads(5);
+
+    // when
+    try (final var transport = GrpcTransport.create(network, threads)) {
+      // then
+      assertThat(transport.bossGroup()).hasSize(2);
+      assertThat(transport.workerGroup()).hasSize(5);
+      assertThat(transport.allocator().metric().numDirectArenas()).isEqualTo(3);
+      assertThat(transport.allocator().metric().chunkSize()).isEqualTo(8 * 1024 * 1024);
+    }
+  }
+
+  @Test
+  void shouldExportEventLoopMetrics() {
+    // given
+    final var network = new NetworkCfg();
+    final var threads = new ThreadsCfg().setGrpcWorkerThreads(5);
+
+    // when
+    try (final var transport = GrpcTransport.create(network, threads)) {
+      // then
+      assertThat(
+              CollectorRegistry.defaultRegistry.getSampleValue(
+                  "zeebe_gateway_grpc_transport_event_loop_threads",
+                  new String[] {"group"},
+                  new String[] {"worker"}))
+          .isGreaterThanOrEqualTo(5);
+    }
+  }
+
+  @Test
+  void shouldRejectChunkSizeWhichIsNoPowerOfTwoMultipleOfThePageSize() {
+    // given
+    final var network = new NetworkCfg().setBufferPoolChunkSize(DataSize.ofKilobytes(24));
+
+    // when - then
+    assertThatThrownBy(() -> GrpcTransport.create(network, new ThreadsCfg()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("bufferPoolChunkSize");
+  }
+
+  @Test
+  void shouldRejectNonPositiveWorkerThreads() {
+    // given
+    final var threads = new ThreadsCfg().setGrpcWorkerThreads(0);
+
+    // when - then
+    assertThatThrownBy(() -> GrpcTransport.create(new NetworkCfg(), threads))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("grpcWorkerThreads");
+  }
+}
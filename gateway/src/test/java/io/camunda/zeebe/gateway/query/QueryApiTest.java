@@ -8,9 +8,16 @@
 package io.camunda.zeebe.gateway.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.camunda.zeebe.gateway.api.util.GatewayTest;
 import io.camunda.zeebe.gateway.cmd.BrokerErrorException;
+import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerError;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerErrorResponse;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
@@ -18,6 +25,7 @@ import io.camunda.zeebe.gateway.query.impl.QueryApiImpl;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import org.junit.Test;
@@ -43,6 +51,9 @@ public final class QueryApiTest extends GatewayTest {
         (Querier) QueryApi::getBpmnProcessIdFromProcessInstance
       },
       new Object[] {"getBpmnProcessIdForProcessJob", (Querier) QueryApi::getBpmnProcessIdFromJob},
+      new Object[] {
+        "getBpmnProcessIdForIncident", (Querier) QueryApi::getBpmnProcessIdFromIncident
+      },
     };
   }
 
@@ -85,6 +96,92 @@ public final class QueryApiTest extends GatewayTest {
         .isInstanceOf(BrokerErrorException.class);
   }
 
+  @Test
+  public void shouldCoalesceInFlightQueries() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1);
+    final var timeout = Duration.ofSeconds(5);
+    final var mockedClient = mock(BrokerClient.class);
+    final var pendingResponse = new CompletableFuture<BrokerResponse<String>>();
+    doReturn(pendingResponse).when(mockedClient).sendRequestWithRetry(any(), any());
+    final var api = new QueryApiImpl(mockedClient);
+
+    // when
+    final var firstResult = querier.query(api, key, timeout);
+    final var secondResult = querier.query(api, key, timeout);
+    pendingResponse.complete(new BrokerResponse<>("myProcess", 1, key));
+
+    // then
+    verify(mockedClient, times(1)).sendRequestWithRetry(any(), any());
+    assertThat(firstResult).succeedsWithin(timeout).isEqualTo("myProcess");
+    assertThat(secondResult).succeedsWithin(timeout).isEqualTo("myProcess");
+  }
+
+  @Test
+  public void shouldCompleteCoalescedQueriesWithOriginalError() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1);
+    final var timeout = Duration.ofSeconds(5);
+    final var mockedClient = mock(BrokerClient.class);
+    final var pendingResponse = new CompletableFuture<BrokerResponse<String>>();
+    doReturn(pendingResponse).when(mockedClient).sendRequestWithRetry(any(), any());
+    final var api = new QueryApiImpl(mockedClient);
+    final var error =
+        new BrokerErrorException(
+            new BrokerError(ErrorCode.PARTITION_LEADER_MISMATCH, "Leader mismatch"));
+
+    // when
+    final var firstResult = querier.query(api, key, timeout);
+    final var secondResult = querier.query(api, key, timeout);
+    pendingResponse.completeExceptionally(error);
+
+    // then
+    verify(mockedClient, times(1)).sendRequestWithRetry(any(), any());
+    assertThat(firstResult.handle((ignored, failure) -> failure))
+        .succeedsWithin(timeout)
+        .isSameAs(error);
+    assertThat(secondResult.handle((ignored, failure) -> failure))
+        .succeedsWithin(timeout)
+        .isSameAs(error);
+  }
+
+  @Test
+  public void shouldNotCoalesceQueriesWithDifferentTimeouts() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1);
+    final var timeout = Duration.ofSeconds(5);
+    final var mockedClient = mock(BrokerClient.class);
+    final var pendingResponse = new CompletableFuture<BrokerResponse<String>>();
+    doReturn(pendingResponse).when(mockedClient).sendRequestWithRetry(any(), any());
+    final var api = new QueryApiImpl(mockedClient);
+
+    // when
+    querier.query(api, key, timeout);
+    querier.query(api, key, timeout.multipliedBy(2));
+
+    // then
+    verify(mockedClient, times(1)).sendRequestWithRetry(any(), eq(timeout));
+    verify(mockedClient, times(1)).sendRequestWithRetry(any(), eq(timeout.multipliedBy(2)));
+  }
+
+  @Test
+  public void shouldNotCoalesceCompletedQueries() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1);
+    final var api = new QueryApiImpl(brokerClient);
+    final var timeout = Duration.ofSeconds(5);
+    final var stub = new QueryStub(new BrokerResponse<>("myProcess", 1, 1));
+    stub.registerWith(brokerClient);
+    assertThat(querier.query(api, key, timeout)).succeedsWithin(timeout);
+
+    // when
+    final var result = querier.query(api, key, timeout);
+
+    // then
+    assertThat(result).succeedsWithin(timeout).isEqualTo("myProcess");
+    assertThat(brokerClient.getBrokerRequests()).hasSize(2);
+  }
+
   private interface Querier {
     CompletionStage<String> query(final QueryApi api, final long key, final Duration timeout);
   }
@@ -40,12 +40,7 @@ public interface LogAppendEntry {
    * @return the length of the entry, used by writers to determine whether this entry can be written
    */
   default int getLength() {
-    return Long.BYTES
-        + // key
-        Integer.BYTES
-        + // source Index
-        recordMetadata().getLength()
-        + recordValue().getLength();
+    return getLength(recordMetadata().getLength(), recordValue().getLength());
   }
 
   /**
@@ -55,6 +50,23 @@ public interface LogAppendEntry {
     return false;
   }
 
+  /**
+   * Returns the length of an entry with the given metadata and value lengths, see {@link
+   * #getLength()}. Allows to determine the length of an entry before creating it.
+   *
+   * @param metadataLength the length of the metadata of the entry
+   * @param valueLength the length of the value of the entry
+   * @return the length of the entry
+   */
+  static int getLength(final int metadataLength, final int valueLength) {
+    return Long.BYTES
+        + // key
+        Integer.BYTES
+        + // source Index
+        metadataLength
+        + valueLength;
+  }
+
   /**
    * Creates a default representation of a {@link LogAppendEntry} using default null values for the
    * key and source index.
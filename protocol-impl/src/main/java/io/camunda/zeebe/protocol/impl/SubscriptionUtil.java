@@ -19,7 +19,7 @@ public final class SubscriptionUtil {
    * @param correlationKey the correlation key
    * @return the hash code of the subscription
    */
-  static int getSubscriptionHashCode(final DirectBuffer correlationKey) {
+  public static int getSubscriptionHashCode(final DirectBuffer correlationKey) {
     // is equal to java.lang.String#hashCode
     int hashCode = 0;
 
@@ -7,8 +7,6 @@
  */
 package io.camunda.zeebe.protocol.impl.encoding;
 
-import static io.camunda.zeebe.util.StringUtil.getBytes;
-
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -20,18 +18,24 @@ import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.MappingJsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.msgpack.spec.MsgpackException;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackJsonTranscoder.UnsupportedMsgPackException;
 import io.camunda.zeebe.protocol.record.JsonSerializable;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.io.ExpandableDirectBufferOutputStream;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 public final class MsgPackConverter {
@@ -70,6 +74,12 @@ public final class MsgPackConverter {
           .setStreamReadConstraints(JSON_STREAM_CONSTRAINTS);
   private static final ObjectMapper JSON_OBJECT_MAPPER = new ObjectMapper(JSON_FACTORY);
 
+  private static final ThreadLocal<MsgPackJsonTranscoder> TRANSCODER =
+      ThreadLocal.withInitial(MsgPackJsonTranscoder::new);
+  private static final ThreadLocal<ExpandableArrayBuffer> JSON_BUFFER =
+      ThreadLocal.withInitial(() -> new ExpandableArrayBuffer(4 * 1024));
+  private static final int MAX_RETAINED_JSON_BUFFER_CAPACITY = 1024 * 1024;
+
   // prevent instantiation
   private MsgPackConverter() {}
 
@@ -78,22 +88,26 @@ public final class MsgPackConverter {
   ////////////////////////////////////////////////////////////////////////////////////////////////
 
   public static byte[] convertToMsgPack(final String json) {
-    final byte[] jsonBytes = getBytes(json, JSON_CHARSET);
-    final ByteArrayInputStream inputStream = new ByteArrayInputStream(jsonBytes);
-    return convertToMsgPack(inputStream);
+    try (final JsonParser parser = JSON_FACTORY.createParser(json)) {
+      return TRANSCODER.get().toMsgPack(parser);
+    } catch (final Exception e) {
+      throw failedToConvertToMsgPack(e);
+    }
   }
 
   public static byte[] convertToMsgPack(final InputStream inputStream) {
-    try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      convert(inputStream, outputStream, JSON_FACTORY, MESSAGE_PACK_FACTORY);
-
-      return outputStream.toByteArray();
+    try (final JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+      return TRANSCODER.get().toMsgPack(parser);
     } catch (final Exception e) {
-      if (e instanceof IllegalArgumentException) {
-        throw new IllegalArgumentException("Failed to convert JSON to MessagePack", e);
-      } else {
-        throw new RuntimeException("Failed to convert JSON to MessagePack", e);
-      }
+      throw failedToConvertToMsgPack(e);
+    }
+  }
+
+  private static RuntimeException failedToConvertToMsgPack(final Exception e) {
+    if (e instanceof IllegalArgumentException) {
+      return new IllegalArgumentException("Failed to convert JSON to MessagePack", e);
+    } else {
+      return new RuntimeException("Failed to convert JSON to MessagePack", e);
     }
   }
 
@@ -102,36 +116,63 @@ public final class MsgPackConverter {
   ////////////////////////////////////////////////////////////////////////////////////////////////
 
   public static String convertToJson(final DirectBuffer buffer) {
-    return convertToJson(BufferUtil.bufferAsArray(buffer));
+    final ExpandableArrayBuffer jsonBuffer = JSON_BUFFER.get();
+    final int length = convertToJson(buffer, jsonBuffer);
+    final String json = new String(jsonBuffer.byteArray(), 0, length, JSON_CHARSET);
+    releaseLargeJsonBuffer(jsonBuffer);
+    return json;
   }
 
   public static String convertToJson(final byte[] msgPack) {
-    return convertToJson(new ByteArrayInputStream(msgPack));
-  }
-
-  private static String convertToJson(final InputStream msgPackInputStream) {
-    final byte[] jsonBytes = convertToJsonBytes(msgPackInputStream);
-    return new String(jsonBytes, JSON_CHARSET);
+    return convertToJson(new UnsafeBuffer(msgPack));
   }
 
   public static InputStream convertToJsonInputStream(final byte[] msgPack) {
-    final byte[] jsonBytes = convertToJsonBytes(msgPack);
+    final ExpandableArrayBuffer jsonBuffer = JSON_BUFFER.get();
+    final int length = convertToJson(new UnsafeBuffer(msgPack), jsonBuffer);
+    final byte[] jsonBytes = Arrays.copyOf(jsonBuffer.byteArray(), length);
+    releaseLargeJsonBuffer(jsonBuffer);
     return new ByteArrayInputStream(jsonBytes);
   }
 
-  private static byte[] convertToJsonBytes(final byte[] msgPack) {
-    final InputStream inputStream = new ByteArrayInputStream(msgPack);
-    return convertToJsonBytes(inputStream);
-  }
-
-  private static byte[] convertToJsonBytes(final InputStream msgPackInputStream) {
-    try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      convert(msgPackInputStream, outputStream, MESSAGE_PACK_FACTORY, JSON_FACTORY);
+  /**
+   * Writes the given MessagePack document as JSON into the given buffer, and returns the length of
+   * the JSON document.
+   */
+  private static int convertToJson(final DirectBuffer msgPack, final MutableDirectBuffer json) {
+    final ExpandableDirectBufferOutputStream outputStream =
+        new ExpandableDirectBufferOutputStream(json);
 
-      return outputStream.toByteArray();
+    try {
+      try (final JsonGenerator generator =
+          JSON_FACTORY.createGenerator(outputStream, JSON_ENCODING)) {
+        TRANSCODER.get().toJson(msgPack, 0, msgPack.capacity(), generator);
+      }
+    } catch (final UnsupportedMsgPackException | MsgpackException e) {
+      // documents the transcoder doesn't support, e.g. with extension types or non-string keys,
+      // are still converted by Jackson
+      outputStream.wrap(json);
+      try {
+        convert(
+            new ByteArrayInputStream(BufferUtil.bufferAsArray(msgPack)),
+            outputStream,
+            MESSAGE_PACK_FACTORY,
+            JSON_FACTORY);
+      } catch (final Exception fallbackError) {
+        throw new RuntimeException("Failed to convert MessagePack to JSON", fallbackError);
+      }
     } catch (final Exception e) {
       throw new RuntimeException("Failed to convert MessagePack to JSON", e);
     }
+
+    return outputStream.position();
+  }
+
+  private static void releaseLargeJsonBuffer(final ExpandableArrayBuffer jsonBuffer) {
+    // don't let a single huge document pin its buffer for the lifetime of the thread
+    if (jsonBuffer.capacity() > MAX_RETAINED_JSON_BUFFER_CAPACITY) {
+      JSON_BUFFER.remove();
+    }
   }
 
   private static void convert(
@@ -0,0 +1,378 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackCodes;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.io.IOException;
+import java.math.BigInteger;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Transcodes JSON to MessagePack and back token by token, without materializing an intermediate
+ * object model: JSON tokens are written straight to a {@link MsgPackWriter}, and MessagePack
+ * tokens read by a {@link MsgPackReader} are written straight to a {@link JsonGenerator}.
+ *
+ * <p>The size of a JSON object or array is only known once it's closed, so its header is first
+ * written with a 32-bit size into a reusable scratch buffer. When the result is copied out of the
+ * scratch buffer, every such header is replaced by the smallest header for its size, which makes
+ * the result byte for byte the same as that of the Jackson MessagePack generator.
+ *
+ * <p>Instances are not thread-safe, but are meant to be reused by the same thread.
+ */
+final class MsgPackJsonTranscoder {
+
+  private static final int RESERVED_HEADER_LENGTH = 5;
+  private static final int INITIAL_CAPACITY = 4 * 1024;
+  // larger scratch buffers are dropped after use, so a single huge document doesn't pin memory
+  private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+  private static final int MAX_UINT64_BIT_LENGTH = 64;
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MutableDirectBuffer numberBuffer = new UnsafeBuffer(new byte[9]);
+  private final UnsafeBuffer resultBuffer = new UnsafeBuffer(0, 0);
+
+  // offsets of the reserved container headers, in the order in which the containers were opened
+  private final IntArrayList containerOffsets = new IntArrayList();
+  private final IntArrayList containerSizes = new IntArrayList();
+  // indexes of the containers which are currently open, innermost last
+  private final IntArrayList openContainers = new IntArrayList();
+  // types and remaining tokens of the currently open MessagePack containers, innermost last
+  private final IntArrayList openContainerTypes = new IntArrayList();
+  private final IntArrayList remainingTokens = new IntArrayList();
+
+  private MutableDirectBuffer scratchBuffer = new ExpandableArrayBuffer(INITIAL_CAPACITY);
+  private byte[] stringBytes = new byte[0];
+
+  /**
+   * Reads the next JSON value from the given parser and returns it encoded as MessagePack. Any
+   * content after the first value is ignored.
+   */
+  byte[] toMsgPack(final JsonParser parser) throws IOException {
+    containerOffsets.clear();
+    containerSizes.clear();
+    openContainers.clear();
+    writer.wrap(scratchBuffer, 0);
+
+    JsonToken token = parser.nextToken();
+    if (token == null || (!token.isStructStart() && !token.isScalarValue())) {
+      throw new IllegalStateException(
+          "Document does not begin with an object, an array, or a scalar value");
+    }
+
+    do {
+      writeMsgPackToken(parser, token);
+    } while (!openContainers.isEmpty() && (token = parser.nextToken()) != null);
+
+    final byte[] msgPack = copyCompacted();
+    if (scratchBuffer.capacity() > MAX_RETAINED_CAPACITY) {
+      scratchBuffer = new ExpandableArrayBuffer(INITIAL_CAPACITY);
+    }
+
+    return msgPack;
+  }
+
+  /**
+   * Reads the MessagePack value at the given offset and writes it to the given generator. Any
+   * content after the first value is ignored.
+   *
+   * @throws UnsupportedMsgPackException if the value can't be represented as JSON by this
+   *     transcoder, e.g. because it contains an extension type or a map with non-string keys
+   */
+  void toJson(
+      final DirectBuffer msgPack, final int offset, final int length, final JsonGenerator generator)
+      throws IOException {
+    reader.wrap(msgPack, offset, length);
+    openContainerTypes.clear();
+    remainingTokens.clear();
+
+    do {
+      final boolean isMapKey = isNextTokenMapKey();
+      if (!remainingTokens.isEmpty()) {
+        final int innermost = remainingTokens.size() - 1;
+        remainingTokens.setInt(innermost, remainingTokens.getInt(innermost) - 1);
+      }
+
+      final MsgPackToken token = reader.readToken();
+      if (isMapKey) {
+        writeFieldName(token, generator);
+      } else {
+        writeJsonValue(token, generator);
+      }
+
+      closeCompletedContainers(generator);
+    } while (!remainingTokens.isEmpty());
+  }
+
+  private void writeMsgPackToken(final JsonParser parser, final JsonToken token)
+      throws IOException {
+    switch (token) {
+      case START_OBJECT -> openContainer(MsgPackCodes.MAP32);
+      case START_ARRAY -> openContainer(MsgPackCodes.ARRAY32);
+      case END_OBJECT, END_ARRAY -> openContainers.removeAt(openContainers.size() - 1);
+      case FIELD_NAME -> {
+        countMapEntry();
+        writeString(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+      }
+      case VALUE_STRING -> {
+        countArrayElement();
+        writeString(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+      }
+      case VALUE_NUMBER_INT -> {
+        countArrayElement();
+        if (parser.getNumberType() == NumberType.BIG_INTEGER) {
+          writeBigInteger(parser.getBigIntegerValue());
+        } else {
+          writer.writeInteger(parser.getLongValue());
+        }
+      }
+      case VALUE_NUMBER_FLOAT -> {
+        countArrayElement();
+        writeDouble(parser.getDoubleValue());
+      }
+      case VALUE_TRUE, VALUE_FALSE -> {
+        countArrayElement();
+        writer.writeBoolean(token == JsonToken.VALUE_TRUE);
+      }
+      case VALUE_NULL -> {
+        countArrayElement();
+        writer.writeNil();
+      }
+      default -> throw new IllegalStateException("Unexpected JSON token " + token);
+    }
+  }
+
+  private void openContainer(final byte reservedHeader) {
+    countArrayElement();
+
+    final int offset = writer.getOffset();
+    scratchBuffer.putByte(offset, reservedHeader);
+    scratchBuffer.putInt(offset + 1, 0);
+    writer.wrap(scratchBuffer, offset + RESERVED_HEADER_LENGTH);
+
+    openContainers.addInt(containerOffsets.size());
+    containerOffsets.addInt(offset);
+    containerSizes.addInt(0);
+  }
+
+  private void countMapEntry() {
+    final int container = openContainers.getInt(openContainers.size() - 1);
+    containerSizes.setInt(container, containerSizes.getInt(container) + 1);
+  }
+
+  private void countArrayElement() {
+    if (openContainers.isEmpty()) {
+      return;
+    }
+
+    final int container = openContainers.getInt(openContainers.size() - 1);
+    if (scratchBuffer.getByte(containerOffsets.getInt(container)) == MsgPackCodes.ARRAY32) {
+      containerSizes.setInt(container, containerSizes.getInt(container) + 1);
+    }
+  }
+
+  private void writeString(final char[] chars, final int offset, final int length) {
+    final int end = offset + length;
+    int encodedLength = length;
+    for (int i = offset; i < end; i++) {
+      final char c = chars[i];
+      if (c >= 0x80) {
+        if (c < 0x800) {
+          encodedLength += 1;
+        } else if (Character.isHighSurrogate(c)
+            && i + 1 < end
+            && Character.isLowSurrogate(chars[i + 1])) {
+          // a surrogate pair is two chars, and encoded as four bytes
+          encodedLength += 2;
+          i++;
+        } else {
+          // unpaired surrogates are encoded as a single '?', like String#getBytes does
+          encodedLength += Character.isSurrogate(c) ? 0 : 2;
+        }
+      }
+    }
+
+    writer.writeStringHeader(encodedLength);
+    int position = writer.getOffset();
+    for (int i = offset; i < end; i++) {
+      final char c = chars[i];
+      if (c < 0x80) {
+        scratchBuffer.putByte(position++, (byte) c);
+      } else if (c < 0x800) {
+        scratchBuffer.putByte(position++, (byte) (0xC0 | (c >> 6)));
+        scratchBuffer.putByte(position++, (byte) (0x80 | (c & 0x3F)));
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < end
+          && Character.isLowSurrogate(chars[i + 1])) {
+        final int codePoint = Character.toCodePoint(c, chars[++i]);
+        scratchBuffer.putByte(position++, (byte) (0xF0 | (codePoint >> 18)));
+        scratchBuffer.putByte(position++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+        scratchBuffer.putByte(position++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+        scratchBuffer.putByte(position++, (byte) (0x80 | (codePoint & 0x3F)));
+      } else if (Character.isSurrogate(c)) {
+        scratchBuffer.putByte(position++, (byte) '?');
+      } else {
+        scratchBuffer.putByte(position++, (byte) (0xE0 | (c >> 12)));
+        scratchBuffer.putByte(position++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+        scratchBuffer.putByte(position++, (byte) (0x80 | (c & 0x3F)));
+      }
+    }
+
+    writer.wrap(scratchBuffer, position);
+  }
+
+  private void writeBigInteger(final BigInteger value) {
+    if (value.bitLength() < Long.SIZE) {
+      writer.writeInteger(value.longValue());
+    } else if (value.signum() > 0 && value.bitLength() <= MAX_UINT64_BIT_LENGTH) {
+      numberBuffer.putByte(0, MsgPackCodes.UINT64);
+      numberBuffer.putLong(1, value.longValue(), MsgPackCodes.BYTE_ORDER);
+      writer.writeRaw(numberBuffer, 0, 1 + Long.BYTES);
+    } else {
+      throw new IllegalArgumentException(
+          "Expected an integer which can be represented in 64 bits, but got " + value);
+    }
+  }
+
+  private void writeDouble(final double value) {
+    // JSON numbers are always written as float64, as the Jackson MessagePack generator does
+    numberBuffer.putByte(0, MsgPackCodes.FLOAT64);
+    numberBuffer.putDouble(1, value, MsgPackCodes.BYTE_ORDER);
+    writer.writeRaw(numberBuffer, 0, 1 + Double.BYTES);
+  }
+
+  private byte[] copyCompacted() {
+    final int length = writer.getOffset();
+    final int containerCount = containerOffsets.size();
+
+    int compactedLength = length;
+    for (int i = 0; i < containerCount; i++) {
+      compactedLength -= RESERVED_HEADER_LENGTH - getHeaderLength(i);
+    }
+
+    final byte[] msgPack = new byte[compactedLength];
+    resultBuffer.wrap(msgPack);
+    writer.wrap(resultBuffer, 0);
+
+    int copiedOffset = 0;
+    for (int i = 0; i < containerCount; i++) {
+      final int headerOffset = containerOffsets.getInt(i);
+      writer.writeRaw(scratchBuffer, copiedOffset, headerOffset - copiedOffset);
+      if (scratchBuffer.getByte(headerOffset) == MsgPackCodes.MAP32) {
+        writer.writeMapHeader(containerSizes.getInt(i));
+      } else {
+        writer.writeArrayHeader(containerSizes.getInt(i));
+      }
+      copiedOffset = headerOffset + RESERVED_HEADER_LENGTH;
+    }
+    writer.writeRaw(scratchBuffer, copiedOffset, length - copiedOffset);
+
+    resultBuffer.wrap(0, 0);
+    return msgPack;
+  }
+
+  private int getHeaderLength(final int container) {
+    final int size = containerSizes.getInt(container);
+    return scratchBuffer.getByte(containerOffsets.getInt(container)) == MsgPackCodes.MAP32
+        ? MsgPackWriter.getEncodedMapHeaderLenght(size)
+        : MsgPackWriter.getEncodedArrayHeaderLenght(size);
+  }
+
+  private boolean isNextTokenMapKey() {
+    // map entries are tracked as two tokens each, and an even number of remaining tokens in a map
+    // means the next token starts a new entry
+    return !remainingTokens.isEmpty()
+        && openContainerTypes.getInt(openContainerTypes.size() - 1) == MsgPackCodes.MAP32
+        && remainingTokens.getInt(remainingTokens.size() - 1) % 2 == 0;
+  }
+
+  private void writeFieldName(final MsgPackToken token, final JsonGenerator generator)
+      throws IOException {
+    if (token.getType() != MsgPackType.STRING) {
+      throw new UnsupportedMsgPackException(
+          "Expected map keys to be strings, but found a key of type " + token.getType());
+    }
+
+    final DirectBuffer value = token.getValueBuffer();
+    generator.writeFieldName(value.getStringWithoutLengthUtf8(0, value.capacity()));
+  }
+
+  private void writeJsonValue(final MsgPackToken token, final JsonGenerator generator)
+      throws IOException {
+    switch (token.getType()) {
+      case MAP -> {
+        generator.writeStartObject();
+        openContainerTypes.addInt(MsgPackCodes.MAP32);
+        remainingTokens.addInt(token.getSize() * 2);
+      }
+      case ARRAY -> {
+        generator.writeStartArray();
+        openContainerTypes.addInt(MsgPackCodes.ARRAY32);
+        remainingTokens.addInt(token.getSize());
+      }
+      case STRING -> {
+        final DirectBuffer value = token.getValueBuffer();
+        final int length = value.capacity();
+        if (value.byteArray() != null) {
+          generator.writeUTF8String(value.byteArray(), value.wrapAdjustment(), length);
+        } else {
+          generator.writeUTF8String(copyStringBytes(value), 0, length);
+        }
+      }
+      case INTEGER -> generator.writeNumber(token.getIntegerValue());
+      case FLOAT -> generator.writeNumber(token.getFloatValue());
+      case BOOLEAN -> generator.writeBoolean(token.getBooleanValue());
+      case NIL -> generator.writeNull();
+      case BINARY -> {
+        final DirectBuffer value = token.getValueBuffer();
+        generator.writeBinary(copyStringBytes(value), 0, value.capacity());
+      }
+      default -> throw new UnsupportedMsgPackException(
+          "Expected a JSON compatible MessagePack value, but found " + token.getType());
+    }
+  }
+
+  private void closeCompletedContainers(final JsonGenerator generator) throws IOException {
+    while (!remainingTokens.isEmpty() && remainingTokens.getInt(remainingTokens.size() - 1) == 0) {
+      remainingTokens.removeAt(remainingTokens.size() - 1);
+      if (openContainerTypes.removeAt(openContainerTypes.size() - 1) == MsgPackCodes.MAP32) {
+        generator.writeEndObject();
+      } else {
+        generator.writeEndArray();
+      }
+    }
+  }
+
+  private byte[] copyStringBytes(final DirectBuffer value) {
+    if (stringBytes.length < value.capacity()) {
+      stringBytes = new byte[value.capacity()];
+    }
+
+    value.getBytes(0, stringBytes, 0, value.capacity());
+    return stringBytes;
+  }
+
+  /** Thrown if a MessagePack document contains a value which has no direct JSON equivalent. */
+  static final class UnsupportedMsgPackException extends RuntimeException {
+    UnsupportedMsgPackException(final String message) {
+      super(message);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+final class MsgPackJsonTranscoderTest {
+
+  private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+  private static final ObjectMapper MSGPACK_MAPPER = new ObjectMapper(new MessagePackFactory());
+
+  @ParameterizedTest
+  @MethodSource("documents")
+  void shouldConvertJsonLikeJackson(final String json) throws Exception {
+    // given
+    final JsonNode document = JSON_MAPPER.readTree(json);
+
+    // when
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(json);
+
+    // then
+    assertThat(msgPack).isEqualTo(MSGPACK_MAPPER.writeValueAsBytes(document));
+  }
+
+  @ParameterizedTest
+  @MethodSource("documents")
+  void shouldConvertMsgPackLikeJackson(final String json) throws Exception {
+    // given
+    final JsonNode document = JSON_MAPPER.readTree(json);
+    final byte[] msgPack = MSGPACK_MAPPER.writeValueAsBytes(document);
+
+    // when
+    final String convertedJson = MsgPackConverter.convertToJson(msgPack);
+
+    // then
+    assertThat(convertedJson).isEqualTo(JSON_MAPPER.writeValueAsString(document));
+  }
+
+  @Test
+  void shouldConvertMsgPackFromOffset() {
+    // given
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack("{\"foo\":[1,2]}");
+    final byte[] paddedMsgPack = new byte[msgPack.length + 3];
+    System.arraycopy(msgPack, 0, paddedMsgPack, 3, msgPack.length);
+
+    // when
+    final String json =
+        MsgPackConverter.convertToJson(new UnsafeBuffer(paddedMsgPack, 3, msgPack.length));
+
+    // then
+    assertThat(json).isEqualTo("{\"foo\":[1,2]}");
+  }
+
+  @Test
+  void shouldRejectInvalidJson() {
+    assertThatThrownBy(() -> MsgPackConverter.convertToMsgPack("{\"foo\":"))
+        .hasMessage("Failed to convert JSON to MessagePack")
+        .hasCauseInstanceOf(JsonParseException.class);
+  }
+
+  @Test
+  void shouldRejectTooLargeInteger() {
+    assertThatThrownBy(() -> MsgPackConverter.convertToMsgPack("[18446744073709551616]"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Failed to convert JSON to MessagePack");
+  }
+
+  private static Stream<String> documents() {
+    return Stream.of(
+        "{}",
+        "[]",
+        "\"scalar\"",
+        "123",
+        "null",
+        "{\"a\":1,\"b\":-1,\"c\":200,\"d\":-200,\"e\":70000,\"f\":-70000,\"g\":5000000000}",
+        "{\"max\":9223372036854775807,\"min\":-9223372036854775808,\"u\":18446744073709551615}",
+        "{\"float\":0.1,\"exp\":1.5e300,\"negative\":-2.5}",
+        "{\"t\":true,\"f\":false,\"n\":null}",
+        "{\"nested\":{\"list\":[{\"x\":[]},{\"y\":{}}],\"deeper\":[[[1]]]}}",
+        "{\"unicode\":\"äöü € 😀 \\u0000 \\\"quoted\\\"\"}",
+        "{\"str8\":\"" + "a".repeat(200) + "\",\"str16\":\"" + "b".repeat(300) + "\"}",
+        "{\"str32\":\"" + "c".repeat(70_000) + "\"}",
+        "[" + numbers(16) + "]",
+        "[" + numbers(70_000) + "]",
+        "{" + entries(16) + "}",
+        "{" + entries(70_000) + "}");
+  }
+
+  private static String numbers(final int count) {
+    return IntStream.range(0, count).mapToObj(String::valueOf).collect(Collectors.joining(","));
+  }
+
+  private static String entries(final int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> "\"key" + i + "\":" + i)
+        .collect(Collectors.joining(","));
+  }
+}
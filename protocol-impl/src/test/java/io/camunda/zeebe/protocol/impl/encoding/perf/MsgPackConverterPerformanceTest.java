@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding.perf;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.Feature;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the streaming transcoder behind {@link MsgPackConverter} with the previous conversion,
+ * which copied the document through Jackson's MessagePack generator and parser. The documents are
+ * lists of variable-like objects, with roughly 100 bytes of JSON per object.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class MsgPackConverterPerformanceTest {
+
+  private static final JsonFactory JACKSON_JSON_FACTORY =
+      new JsonFactory().configure(Feature.ALLOW_SINGLE_QUOTES, true);
+  private static final JsonFactory JACKSON_MSGPACK_FACTORY =
+      new MessagePackFactory().setReuseResourceInGenerator(false).setReuseResourceInParser(false);
+
+  private static final String CUSTOMER_TEMPLATE =
+      "{\"id\":%d,\"name\":\"customer-%d\",\"active\":%b,\"score\":%d.5,\"tags\":[\"a\",\"b\"]}";
+
+  @Param({"10", "100", "1000"})
+  private int objectCount;
+
+  private String json;
+  private byte[] msgPack;
+
+  @Setup
+  public void setup() {
+    json =
+        IntStream.range(0, objectCount)
+            .mapToObj(i -> CUSTOMER_TEMPLATE.formatted(i, i, i % 2 == 0, i))
+            .collect(Collectors.joining(",", "{\"customers\":[", "]}"));
+    msgPack = MsgPackConverter.convertToMsgPack(json);
+  }
+
+  @Benchmark
+  public byte[] jsonToMsgPack() {
+    return MsgPackConverter.convertToMsgPack(json);
+  }
+
+  @Benchmark
+  public byte[] jsonToMsgPackWithJackson() throws IOException {
+    final byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+    return copy(jsonBytes, JACKSON_JSON_FACTORY, JACKSON_MSGPACK_FACTORY);
+  }
+
+  @Benchmark
+  public String msgPackToJson() {
+    return MsgPackConverter.convertToJson(msgPack);
+  }
+
+  @Benchmark
+  public String msgPackToJsonWithJackson() throws IOException {
+    return new String(
+        copy(msgPack, JACKSON_MSGPACK_FACTORY, JACKSON_JSON_FACTORY), StandardCharsets.UTF_8);
+  }
+
+  private static byte[] copy(
+      final byte[] input, final JsonFactory inFormat, final JsonFactory outFormat)
+      throws IOException {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (final JsonParser parser = inFormat.createParser(new ByteArrayInputStream(input));
+        final JsonGenerator generator =
+            outFormat.createGenerator(outputStream, JsonEncoding.UTF8)) {
+      parser.nextToken();
+      generator.copyCurrentStructure(parser);
+    }
+
+    return outputStream.toByteArray();
+  }
+}
@@ -19,6 +19,7 @@ import io.camunda.zeebe.journal.JournalMetaStore.InMemory;
 import io.camunda.zeebe.journal.JournalReader;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.snapshots.RestorableSnapshotStore;
+import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotId;
 import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotStore;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
@@ -29,6 +30,9 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,12 +44,25 @@ public class PartitionRestoreService {
 
   final Path rootDirectory;
   private final RaftPartition partition;
+  private final Executor executor;
+  private final RestoreMetrics metrics;
 
   public PartitionRestoreService(final BackupStore backupStore, final RaftPartition partition) {
+    this(backupStore, partition, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * @param executor the executor on which the journal and the snapshot are restored concurrently,
+   *     once the backup has been downloaded
+   */
+  public PartitionRestoreService(
+      final BackupStore backupStore, final RaftPartition partition, final Executor executor) {
     this.backupStore = backupStore;
     partitionId = partition.id().id();
     rootDirectory = partition.dataDirectory().toPath();
     this.partition = partition;
+    this.executor = executor;
+    metrics = new RestoreMetrics(partitionId);
   }
 
   /**
@@ -53,23 +70,74 @@ public class PartitionRestoreService {
    * restoring, it truncates the journal to the checkpointPosition so that the last record in the
    * journal will be the checkpoint record at checkpointPosition.
    *
+   * <p>Once the backup is downloaded, the journal and the snapshot are restored in parallel: the
+   * journal is validated and truncated while the snapshot checksums are verified.
+   *
    * @param backupId id of the backup to restore from
    * @return the descriptor of the backup it restored
    */
   public CompletableFuture<BackupDescriptor> restore(final long backupId) {
+    metrics.started();
     return getTargetDirectory(backupId)
         .thenCompose(targetDirectory -> download(backupId, targetDirectory))
-        .thenApply(this::moveFilesToDataDirectory)
-        .thenApply(
-            backup -> {
-              resetLogToCheckpointPosition(backup.descriptor().checkpointPosition(), rootDirectory);
-              return backup.descriptor();
+        .thenCompose(this::restoreJournalAndSnapshot)
+        .whenComplete(
+            (descriptor, error) -> {
+              if (error == null) {
+                metrics.completed();
+              } else {
+                metrics.failed();
+              }
             })
         .toCompletableFuture();
+  }
 
-    // TODO: As an additional consistency check:
-    // - Validate journal.firstIndex <= snapshotIndex + 1
-    // - Verify journal.lastEntry.asqn == checkpointPosition
+  // Concurrently moves the segments and the snapshot of the downloaded backup from the temp
+  // directory to the partition's root data directory, and truncates the journal. Once both are
+  // done, the segments are in rootDirectory, the snapshot is in
+  // rootDirectory/snapshots/<snapshotId>/, and the journal must continue where the snapshot ends.
+  private CompletionStage<BackupDescriptor> restoreJournalAndSnapshot(final Backup backup) {
+    final var descriptor = backup.descriptor();
+    final var journalRestored =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try (final var ignored = metrics.startJournalRestore()) {
+                moveSegmentFiles(backup);
+                return resetLogToCheckpointPosition(
+                    descriptor.checkpointPosition(), rootDirectory);
+              }
+            },
+            executor);
+    final var snapshotRestored =
+        CompletableFuture.runAsync(
+            () -> {
+              try (final var ignored = metrics.startSnapshotRestore()) {
+                moveSnapshotFiles(backup);
+              }
+            },
+            executor);
+
+    return journalRestored.thenCombine(
+        snapshotRestored,
+        (firstIndex, ignored) -> {
+          verifyJournalFollowsSnapshot(descriptor, firstIndex);
+          return descriptor;
+        });
+  }
+
+  private void verifyJournalFollowsSnapshot(
+      final BackupDescriptor descriptor, final long journalFirstIndex) {
+    final var snapshotIndex =
+        descriptor
+            .snapshotId()
+            .flatMap(FileBasedSnapshotId::ofFileName)
+            .map(FileBasedSnapshotId::getIndex)
+            .orElse(0L);
+    if (journalFirstIndex > snapshotIndex + 1) {
+      throw new IllegalStateException(
+          "Failed to restore from backup. Expected the journal to start at or before index %d, which follows the snapshot, but it starts at index %d."
+              .formatted(snapshotIndex + 1, journalFirstIndex));
+    }
   }
 
   private CompletionStage<Path> getTargetDirectory(final long backupId) {
@@ -95,7 +163,7 @@ public class PartitionRestoreService {
   // While taking the backup, we add all log segments. But the backup must only have entries upto
   // the checkpoint position. So after restoring, we truncate the journal until the
   // checkpointPosition.
-  private void resetLogToCheckpointPosition(
+  private long resetLogToCheckpointPosition(
       final long checkpointPosition, final Path dataDirectory) {
 
     try (final var journal =
@@ -106,6 +174,7 @@ public class PartitionRestoreService {
             .build()) {
 
       resetJournal(checkpointPosition, journal);
+      return journal.getFirstIndex();
     }
   }
 
@@ -144,16 +213,6 @@ public class PartitionRestoreService {
             .formatted(checkpointPosition));
   }
 
-  // Move contents of restored backup from the temp directory to partition's root data directory.
-  // After this is done, the contents of the data directory follow the expected directory
-  // structure. That is - segments in rootDirectory, snapshot in
-  // rootDirectory/snapshots/<snapshotId>/
-  private Backup moveFilesToDataDirectory(final Backup backup) {
-    moveSegmentFiles(backup);
-    moveSnapshotFiles(backup);
-    return backup;
-  }
-
   private void moveSegmentFiles(final Backup backup) {
     LOG.info("Moving journal segment files to {}", rootDirectory);
     final var segmentFileSet = backup.segments().namedFiles();
@@ -173,6 +232,8 @@ public class PartitionRestoreService {
       return;
     }
 
+    // the store is never scheduled as an actor, so it must not be closed through the actor; it
+    // holds no resources of its own, as the checksum threads are shared by all stores
     @SuppressWarnings("resource")
     final RestorableSnapshotStore snapshotStore =
         new FileBasedSnapshotStore(partition.id().id(), partition.dataDirectory().toPath());
@@ -201,10 +262,29 @@ public class PartitionRestoreService {
         .thenCompose(
             backup -> {
               LOG.info("Downloading backup {} to {}", backup, tempRestoringDirectory);
-              return backupStore.restore(backup, tempRestoringDirectory);
+              final var timer = metrics.startDownload();
+              return backupStore
+                  .restore(backup, tempRestoringDirectory)
+                  .thenApply(this::recordDownloadedFiles)
+                  .whenComplete((restored, error) -> timer.close());
             });
   }
 
+  private Backup recordDownloadedFiles(final Backup backup) {
+    Stream.concat(
+            backup.segments().namedFiles().values().stream(),
+            backup.snapshot().namedFiles().values().stream())
+        .forEach(
+            file -> {
+              try {
+                metrics.downloadedFile(Files.size(file));
+              } catch (final IOException e) {
+                LOG.debug("Failed to determine size of restored file {}", file, e);
+              }
+            });
+    return backup;
+  }
+
   private CompletionStage<BackupIdentifier> findValidBackup(final long checkpointId) {
     LOG.info("Searching for a completed backup with id {}", checkpointId);
     return backupStore
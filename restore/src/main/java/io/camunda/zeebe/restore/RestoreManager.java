@@ -19,20 +19,46 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Path;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class RestoreManager {
+  public static final int DEFAULT_MAX_CONCURRENT_PARTITION_RESTORES =
+      Runtime.getRuntime().availableProcessors();
   private static final Logger LOG = LoggerFactory.getLogger(RestoreManager.class);
   private final BrokerCfg configuration;
   private final BackupStore backupStore;
+  private final int maxConcurrentPartitionRestores;
 
   public RestoreManager(final BrokerCfg configuration, final BackupStore backupStore) {
+    this(configuration, backupStore, DEFAULT_MAX_CONCURRENT_PARTITION_RESTORES);
+  }
+
+  /**
+   * @param maxConcurrentPartitionRestores the maximum number of partitions which are downloaded
+   *     and restored at the same time. As soon as one partition is restored, the next one starts,
+   *     so that the budget is always fully used.
+   */
+  public RestoreManager(
+      final BrokerCfg configuration,
+      final BackupStore backupStore,
+      final int maxConcurrentPartitionRestores) {
+    if (maxConcurrentPartitionRestores < 1) {
+      throw new IllegalArgumentException(
+          "Expected at least one concurrent partition restore, but got %d"
+              .formatted(maxConcurrentPartitionRestores));
+    }
     this.configuration = configuration;
     this.backupStore = backupStore;
+    this.maxConcurrentPartitionRestores = maxConcurrentPartitionRestores;
   }
 
   public CompletableFuture<Void> restore(final long backupId) {
@@ -52,15 +78,39 @@ public class RestoreManager {
     final var partitionToRestore = collectPartitions();
 
     final var partitionIds = partitionToRestore.stream().map(p -> p.id().id()).toList();
-    LOG.info("Restoring partitions {}", partitionIds);
+    LOG.info(
+        "Restoring partitions {}, at most {} at the same time",
+        partitionIds,
+        maxConcurrentPartitionRestores);
 
+    final var pendingPartitions = new ConcurrentLinkedQueue<>(partitionToRestore);
+    final var executor = Executors.newFixedThreadPool(2 * maxConcurrentPartitionRestores);
     return CompletableFuture.allOf(
-            partitionToRestore.stream()
-                .map(partition -> restorePartition(partition, backupId))
+            IntStream.range(0, Math.min(maxConcurrentPartitionRestores, partitionToRestore.size()))
+                .mapToObj(ignored -> restoreNextPartition(pendingPartitions, backupId, executor))
                 .toArray(CompletableFuture[]::new))
+        .whenComplete((ignored, error) -> executor.shutdown())
         .exceptionallyComposeAsync(error -> logFailureAndDeleteDataDirectory(dataDirectory, error));
   }
 
+  /**
+   * Restores partitions from the queue one after the other, until it is empty. Running several of
+   * these chains concurrently bounds the number of partitions restored in parallel, while a slow
+   * partition does not hold back the others.
+   */
+  private CompletableFuture<Void> restoreNextPartition(
+      final Queue<RaftPartition> pendingPartitions,
+      final long backupId,
+      final ExecutorService executor) {
+    final var partition = pendingPartitions.poll();
+    if (partition == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return restorePartition(partition, backupId, executor)
+        .thenCompose(ignored -> restoreNextPartition(pendingPartitions, backupId, executor));
+  }
+
   private CompletableFuture<Void> logFailureAndDeleteDataDirectory(
       final Path dataDirectory, final Throwable error) {
     LOG.error("Failed to restore broker. Deleting data directory {}", dataDirectory, error);
@@ -83,8 +133,8 @@ public class RestoreManager {
   }
 
   private CompletableFuture<Void> restorePartition(
-      final RaftPartition partition, final long backupId) {
-    return new PartitionRestoreService(backupStore, partition)
+      final RaftPartition partition, final long backupId, final ExecutorService executor) {
+    return new PartitionRestoreService(backupStore, partition, executor)
         .restore(backupId)
         .thenAccept(backup -> logSuccessfulRestore(backup, partition.id().id(), backupId));
   }
@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.restore;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import io.prometheus.client.Histogram.Timer;
+
+/** Progress metrics of restoring a partition from a backup. */
+final class RestoreMetrics {
+  private static final String NAMESPACE = "zeebe";
+  private static final String LABEL_NAME_PARTITION = "partition";
+  private static final String LABEL_NAME_PHASE = "phase";
+  private static final String LABEL_NAME_RESULT = "result";
+
+  private static final String DOWNLOAD_PHASE = "download";
+  private static final String JOURNAL_PHASE = "journal";
+  private static final String SNAPSHOT_PHASE = "snapshot";
+  private static final String COMPLETED = "completed";
+  private static final String FAILED = "failed";
+
+  private static final Counter RESTORES_TOTAL =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("restore_partitions_total")
+          .help("Total number of partition restores, labeled by result")
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_RESULT)
+          .register();
+
+  private static final Gauge RESTORES_IN_PROGRESS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("restore_partitions_in_progress")
+          .help("Number of partition restores which are currently in progress")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Counter RESTORED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("restore_downloaded_bytes_total")
+          .help("Total number of bytes downloaded from the backup store while restoring")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Counter RESTORED_FILES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("restore_downloaded_files_total")
+          .help("Total number of files downloaded from the backup store while restoring")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Histogram PHASE_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("restore_phase_latency")
+          .help("Time spent in each phase of restoring a partition")
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_PHASE)
+          .buckets(0.1, 1, 10, 60, 5 * 60, 30 * 60)
+          .register();
+
+  private final String partitionId;
+
+  RestoreMetrics(final int partitionId) {
+    this.partitionId = String.valueOf(partitionId);
+  }
+
+  void started() {
+    RESTORES_IN_PROGRESS.labels(partitionId).inc();
+  }
+
+  void completed() {
+    RESTORES_IN_PROGRESS.labels(partitionId).dec();
+    RESTORES_TOTAL.labels(partitionId, COMPLETED).inc();
+  }
+
+  void failed() {
+    RESTORES_IN_PROGRESS.labels(partitionId).dec();
+    RESTORES_TOTAL.labels(partitionId, FAILED).inc();
+  }
+
+  void downloadedFile(final long sizeInBytes) {
+    RESTORED_FILES.labels(partitionId).inc();
+    RESTORED_BYTES.labels(partitionId).inc(sizeInBytes);
+  }
+
+  Timer startDownload() {
+    return PHASE_LATENCY.labels(partitionId, DOWNLOAD_PHASE).startTimer();
+  }
+
+  Timer startJournalRestore() {
+    return PHASE_LATENCY.labels(partitionId, JOURNAL_PHASE).startTimer();
+  }
+
+  Timer startSnapshotRestore() {
+    return PHASE_LATENCY.labels(partitionId, SNAPSHOT_PHASE).startTimer();
+  }
+}
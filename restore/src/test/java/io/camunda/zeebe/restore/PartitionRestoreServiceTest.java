@@ -201,6 +201,29 @@ class PartitionRestoreServiceTest {
         .withCauseInstanceOf(CorruptedSnapshotException.class);
   }
 
+  @Test
+  void shouldFailToRestoreWhenJournalDoesNotFollowSnapshot() {
+    // given
+    // journal which starts long after the snapshot, so the entries in between are missing
+    journal.reset(10);
+    appendRecord(1, "data");
+    appendRecord(2, "data");
+    appendRecord(4, "checkpoint");
+
+    takeSnapshot(1, 2);
+
+    final long backupId = 3;
+    takeBackup(backupId, 4);
+
+    // when - then
+    assertThat(restoreService.restore(backupId))
+        .failsWithin(Duration.ofSeconds(1))
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(IllegalStateException.class)
+        .withMessageContaining(
+            "Expected the journal to start at or before index 2, which follows the snapshot, but it starts at index 10.");
+  }
+
   private Set<String> getRegularFiles(final Path directory) throws IOException {
     final Set<String> restoredSegmentFiles;
     try (final var stream = Files.list(directory)) {
@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.restore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.backup.api.BackupStatus;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+@Timeout(value = 60)
+final class RestoreManagerTest {
+
+  private static final int PARTITION_COUNT = 4;
+
+  @TempDir Path dataDirectory;
+  private final BackupStore backupStore = mock(BackupStore.class);
+  // one per partition which started to restore, completed once the partition is restored
+  private final List<CompletableFuture<Collection<BackupStatus>>> startedRestores =
+      new CopyOnWriteArrayList<>();
+  private final BrokerCfg brokerCfg = new BrokerCfg();
+
+  @BeforeEach
+  void setUp() {
+    brokerCfg.getData().setDirectory(dataDirectory.toString());
+    brokerCfg.getCluster().setPartitionsCount(PARTITION_COUNT);
+
+    when(backupStore.list(any()))
+        .thenAnswer(
+            invocation -> {
+              final var backups = new CompletableFuture<Collection<BackupStatus>>();
+              startedRestores.add(backups);
+              return backups;
+            });
+  }
+
+  @AfterEach
+  void tearDown() {
+    startedRestores.forEach(backups -> backups.completeExceptionally(new RuntimeException()));
+  }
+
+  @Test
+  void shouldRestoreAtMostMaxConcurrentPartitionsAtOnce() {
+    // given
+    final var restoreManager = new RestoreManager(brokerCfg, backupStore, 2);
+
+    // when
+    restoreManager.restore(1);
+
+    // then
+    verify(backupStore, times(2)).list(any());
+    assertThat(startedRestores).hasSize(2);
+  }
+
+  @Test
+  void shouldRestoreAllPartitionsAtOnceIfWithinBudget() {
+    // given
+    final var restoreManager = new RestoreManager(brokerCfg, backupStore, PARTITION_COUNT * 2);
+
+    // when
+    restoreManager.restore(1);
+
+    // then
+    verify(backupStore, times(PARTITION_COUNT)).list(any());
+  }
+
+  @Test
+  void shouldNotStartRemainingPartitionsWhenRestoreFailed() {
+    // given
+    final var restoreManager = new RestoreManager(brokerCfg, backupStore, 2);
+    final var restore = restoreManager.restore(1);
+
+    // when
+    startedRestores.forEach(backups -> backups.completeExceptionally(new RuntimeException()));
+
+    // then
+    assertThat(restore).failsWithin(Duration.ofSeconds(10));
+    verify(backupStore, times(2)).list(any());
+  }
+
+  @Test
+  void shouldRejectLessThanOneConcurrentRestore() {
+    assertThatThrownBy(() -> new RestoreManager(brokerCfg, backupStore, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Expected at least one concurrent partition restore, but got 0");
+  }
+}
@@ -174,6 +174,26 @@ public class ActorControl implements ConcurrencyControl {
     return future;
   }
 
+  /**
+   * Runs the given callable on the scheduler's {@link BlockingTaskExecutor}, outside of the actor
+   * threads. Use this for work which blocks, e.g. on file system or network I/O, instead of
+   * blocking the actor thread. The callable must not access the actor's state; use {@link
+   * #runOnCompletion(ActorFuture, BiConsumer)} to continue on the actor with the result.
+   *
+   * @param callable the blocking work
+   * @return a future which is completed with the result of the callable
+   */
+  public <T> ActorFuture<T> runBlocking(final Callable<T> callable) {
+    final ActorThreadGroup actorThreadGroup = task.getActorThreadGroup();
+    if (actorThreadGroup == null || actorThreadGroup.getBlockingTaskExecutor() == null) {
+      throw new IllegalStateException(
+          "Expected to run blocking work, but actor '%s' is not scheduled"
+              .formatted(task.getName()));
+    }
+
+    return actorThreadGroup.getBlockingTaskExecutor().submit(callable);
+  }
+
   /**
    * The runnable is executed while the actor is in the following actor lifecycle phases: {@link
    * ActorLifecyclePhase#STARTED}
@@ -47,6 +47,25 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Counter TASK_STEALS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_steals_total")
+          .help("Number of actor tasks which were stolen from the queue of another thread")
+          .labelNames("threadGroup")
+          .register();
+
+  private static final Counter AFFINITY_MIGRATIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_affinity_migrations_total")
+          .help(
+              "Number of actor tasks which were submitted to another affinity group than the one "
+                  + "of the submitting thread")
+          .labelNames("threadGroup")
+          .register();
+
   private final boolean enabled;
 
   public ActorMetrics(final boolean metricsEnabled) {
@@ -81,4 +100,30 @@ final class ActorMetrics {
   public boolean isEnabled() {
     return enabled;
   }
+
+  /**
+   * Metrics of a thread group, which are counted on every steal and submission. The labeled
+   * children are therefore resolved only once per group.
+   */
+  static final class ThreadGroupMetrics {
+    private final Counter.Child taskSteals;
+    private final Counter.Child affinityMigrations;
+
+    ThreadGroupMetrics(final String threadGroup, final boolean metricsEnabled) {
+      taskSteals = metricsEnabled ? TASK_STEALS.labels(threadGroup) : null;
+      affinityMigrations = metricsEnabled ? AFFINITY_MIGRATIONS.labels(threadGroup) : null;
+    }
+
+    void countSteal() {
+      if (taskSteals != null) {
+        taskSteals.inc();
+      }
+    }
+
+    void countAffinityMigration() {
+      if (affinityMigrations != null) {
+        affinityMigrations.inc();
+      }
+    }
+  }
 }
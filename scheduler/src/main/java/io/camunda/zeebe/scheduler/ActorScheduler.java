@@ -124,6 +124,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private String schedulerName = "";
     private ActorClock actorClock;
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
+    private int cpuBoundAffinityGroupCount = 1;
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
     private ActorThreadGroup ioBoundActorGroup;
@@ -131,6 +132,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
     private boolean enableMetrics = false;
+    private boolean blockingTaskVirtualThreadsEnabled = false;
+    private BlockingTaskExecutor blockingTaskExecutor;
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
 
@@ -188,6 +191,20 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public int getCpuBoundAffinityGroupCount() {
+      return cpuBoundAffinityGroupCount;
+    }
+
+    /**
+     * Splits the CPU bound threads into the given number of affinity groups. Actors of the same
+     * partition are always executed by threads of the same group, and threads only steal work from
+     * other threads of their group. Defaults to a single group, i.e. no affinity.
+     */
+    public ActorSchedulerBuilder setCpuBoundAffinityGroupCount(final int affinityGroupCount) {
+      cpuBoundAffinityGroupCount = affinityGroupCount;
+      return this;
+    }
+
     public int getIoBoundActorThreadCount() {
       return ioBoundThreadsCount;
     }
@@ -228,12 +245,38 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isBlockingTaskVirtualThreadsEnabled() {
+      return blockingTaskVirtualThreadsEnabled;
+    }
+
+    /**
+     * Runs the work submitted via {@link ActorControl#runBlocking(java.util.concurrent.Callable)}
+     * on virtual threads instead of a bounded pool of platform threads. Defaults to false.
+     */
+    public ActorSchedulerBuilder setBlockingTaskVirtualThreadsEnabled(
+        final boolean blockingTaskVirtualThreadsEnabled) {
+      this.blockingTaskVirtualThreadsEnabled = blockingTaskVirtualThreadsEnabled;
+      return this;
+    }
+
+    public BlockingTaskExecutor getBlockingTaskExecutor() {
+      return blockingTaskExecutor;
+    }
+
     private void initActorThreadFactory() {
       if (actorThreadFactory == null) {
         actorThreadFactory = new DefaultActorThreadFactory();
       }
     }
 
+    private void initBlockingTaskExecutor() {
+      if (blockingTaskExecutor == null) {
+        blockingTaskExecutor =
+            new BlockingTaskExecutor(
+                schedulerName, blockingTaskVirtualThreadsEnabled, ioBoundThreadsCount);
+      }
+    }
+
     private void initIoBoundActorThreadGroup() {
       if (ioBoundActorGroup == null) {
         ioBoundActorGroup = new IoThreadGroup(this);
@@ -254,6 +297,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     public ActorScheduler build() {
       initActorThreadFactory();
+      initBlockingTaskExecutor();
       initCpuBoundActorThreadGroup();
       initIoBoundActorThreadGroup();
       initActorExecutor();
@@ -47,6 +47,7 @@ public class ActorTask {
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
   private ActorThreadGroup actorThreadGroup;
+  private int affinityKey = -1;
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
@@ -64,6 +65,7 @@ public class ActorTask {
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    affinityKey = readAffinityKey(actor);
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -91,6 +93,19 @@ public class ActorTask {
     return startingFuture;
   }
 
+  private static int readAffinityKey(final Actor actor) {
+    final String partitionId = actor.getContext().get(Actor.ACTOR_PROP_PARTITION_ID);
+    if (partitionId == null) {
+      return -1;
+    }
+
+    try {
+      return Math.max(-1, Integer.parseInt(partitionId));
+    } catch (final NumberFormatException e) {
+      return -1;
+    }
+  }
+
   /** Used to externally submit a job. */
   public void submit(@Async.Schedule final ActorJob job) {
     // get reference to jobs queue
@@ -463,6 +478,18 @@ public class ActorTask {
     return actor.getName();
   }
 
+  /**
+   * @return the key used to keep the task on the same affinity group of threads, e.g. its partition
+   *     id, or -1 if the task has no affinity
+   */
+  public int getAffinityKey() {
+    return affinityKey;
+  }
+
+  public ActorThreadGroup getActorThreadGroup() {
+    return actorThreadGroup;
+  }
+
   public Actor getActor() {
     return actor;
   }
@@ -7,10 +7,10 @@
  */
 package io.camunda.zeebe.scheduler;
 
+import io.camunda.zeebe.scheduler.ActorMetrics.ThreadGroupMetrics;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A thread group is a group of threads which process the same kind of tasks (ie. blocking I/O vs.
@@ -22,17 +22,30 @@ public abstract class ActorThreadGroup {
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final BlockingTaskExecutor blockingTaskExecutor;
+  private final ThreadGroupMetrics metrics;
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, 1, builder, schedulerName);
+  }
+
+  public ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final int affinityGroupCount,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    blockingTaskExecutor = builder.getBlockingTaskExecutor();
+    metrics = new ThreadGroupMetrics(groupName, builder.isMetricsEnabled());
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks = new WorkStealingGroup(numOfThreads, affinityGroupCount);
 
     threads = new ActorThread[numOfThreads];
 
@@ -57,21 +70,41 @@ public abstract class ActorThreadGroup {
 
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
-      tasks.submit(actorTask, current.getRunnerId());
+    final boolean isSubmittedFromGroup = current != null && current.getActorThreadGroup() == this;
+    final int submitterRunnerId = isSubmittedFromGroup ? current.getRunnerId() : -1;
+    final int affinityGroup = tasks.getAffinityGroupOfTask(actorTask, submitterRunnerId);
+
+    if (isSubmittedFromGroup && tasks.getAffinityGroupOfRunner(submitterRunnerId) == affinityGroup) {
+      tasks.submit(actorTask, submitterRunnerId);
     } else {
-      final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
+      if (isSubmittedFromGroup) {
+        metrics.countAffinityMigration();
+      }
+
+      final int threadId = tasks.getRandomRunnerOf(affinityGroup);
       tasks.submit(actorTask, threadId);
       threads[threadId].hintWorkAvailable();
     }
   }
 
+  public String getName() {
+    return groupName;
+  }
+
   public void start() {
     for (final ActorThread actorThread : threads) {
       actorThread.start();
     }
   }
 
+  ThreadGroupMetrics getMetrics() {
+    return metrics;
+  }
+
+  public BlockingTaskExecutor getBlockingTaskExecutor() {
+    return blockingTaskExecutor;
+  }
+
   public String getSchedulerName() {
     return schedulerName;
   }
@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.util.Loggers;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes blocking work on behalf of actors, outside of the actor threads. Actors submit work via
+ * {@link ActorControl#runBlocking(Callable)} and receive the result as an {@link ActorFuture}, so
+ * they can continue on their own thread with {@link ActorControl#runOnCompletion(ActorFuture,
+ * java.util.function.BiConsumer)}.
+ *
+ * <p>When virtual threads are enabled, every task runs on its own virtual thread, such that
+ * blocking I/O does not occupy a platform thread while it waits. Otherwise, the tasks are executed
+ * by a bounded pool of platform threads, which are only kept alive while there is work to do.
+ */
+public final class BlockingTaskExecutor {
+  private static final long PLATFORM_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+  private final ExecutorService executor;
+
+  public BlockingTaskExecutor(
+      final String schedulerName, final boolean useVirtualThreads, final int platformThreadCount) {
+    final var threadNamePrefix =
+        schedulerName.isEmpty() ? "zb-blocking-" : schedulerName + "-zb-blocking-";
+
+    if (useVirtualThreads) {
+      executor =
+          Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+    } else {
+      final var threadCount = Math.max(1, platformThreadCount);
+      final var pool =
+          new ThreadPoolExecutor(
+              threadCount,
+              threadCount,
+              PLATFORM_THREAD_KEEP_ALIVE_SECONDS,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              new PlatformThreadFactory(threadNamePrefix));
+      pool.allowCoreThreadTimeOut(true);
+      executor = pool;
+    }
+  }
+
+  /**
+   * Runs the given callable on a thread which may block.
+   *
+   * @param callable the blocking work
+   * @return a future which is completed with the result of the callable, or with the exception it
+   *     threw
+   */
+  public <T> ActorFuture<T> submit(final Callable<T> callable) {
+    final CompletableActorFuture<T> future = new CompletableActorFuture<>();
+
+    try {
+      executor.execute(
+          () -> {
+            try {
+              future.complete(callable.call());
+            } catch (final Throwable error) {
+              future.completeExceptionally(error);
+            }
+          });
+    } catch (final RejectedExecutionException e) {
+      future.completeExceptionally(e);
+    }
+
+    return future;
+  }
+
+  /** Stops accepting new work; work which was already submitted is still executed. */
+  public void close() {
+    Loggers.ACTOR_LOGGER.debug("Closing blocking task executor");
+    executor.shutdown();
+  }
+
+  private static final class PlatformThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final String threadNamePrefix;
+
+    private PlatformThreadFactory(final String threadNamePrefix) {
+      this.threadNamePrefix = threadNamePrefix;
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+      final var thread = new Thread(runnable, threadNamePrefix + threadCount.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
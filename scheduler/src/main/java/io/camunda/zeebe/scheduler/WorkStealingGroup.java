@@ -11,17 +11,88 @@ import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
 import java.util.concurrent.ThreadLocalRandom;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread.
+ *
+ * <p>The threads can be split into affinity groups of adjacent runners. Tasks with an affinity key
+ * (e.g. the partition an actor belongs to) are always submitted to a runner of the same affinity
+ * group, and runners only steal from runners of their own affinity group. This keeps the state of
+ * an actor in the caches of a stable subset of the threads. With a single affinity group, every
+ * runner may steal from every other runner.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
   private final int numOfThreads;
+  private final int affinityGroupCount;
   private final ActorTaskQueue[] taskQueues;
 
+  /** the first runner id of each affinity group; the last entry is the number of threads */
+  private final int[] affinityGroupOffsets;
+
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, 1);
+  }
+
+  public WorkStealingGroup(final int numOfThreads, final int affinityGroupCount) {
+    if (affinityGroupCount < 1) {
+      throw new IllegalArgumentException(
+          "Expected at least one affinity group, but got " + affinityGroupCount);
+    }
+
     this.numOfThreads = numOfThreads;
+    this.affinityGroupCount = Math.max(1, Math.min(affinityGroupCount, numOfThreads));
     taskQueues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
     }
+
+    affinityGroupOffsets = new int[this.affinityGroupCount + 1];
+    for (int runnerId = numOfThreads - 1; runnerId >= 0; runnerId--) {
+      affinityGroupOffsets[getAffinityGroupOfRunner(runnerId)] = runnerId;
+    }
+    affinityGroupOffsets[this.affinityGroupCount] = numOfThreads;
+  }
+
+  public int getAffinityGroupCount() {
+    return affinityGroupCount;
+  }
+
+  /**
+   * @param runnerId the id of the runner
+   * @return the affinity group the runner belongs to
+   */
+  public int getAffinityGroupOfRunner(final int runnerId) {
+    return (int) ((long) runnerId * affinityGroupCount / numOfThreads);
+  }
+
+  /**
+   * Returns the affinity group the task should be executed in. Tasks without an affinity key stay
+   * in the group of the submitting runner, or are assigned to a random group if they are submitted
+   * from outside of this group.
+   *
+   * @param task the task to submit
+   * @param submitterRunnerId the id of the runner submitting the task, or -1 if the task is
+   *     submitted from another thread
+   * @return the affinity group of the task
+   */
+  public int getAffinityGroupOfTask(final ActorTask task, final int submitterRunnerId) {
+    final int affinityKey = task.getAffinityKey();
+    if (affinityKey >= 0) {
+      return affinityKey % affinityGroupCount;
+    } else if (submitterRunnerId >= 0) {
+      return getAffinityGroupOfRunner(submitterRunnerId);
+    } else {
+      return ThreadLocalRandom.current().nextInt(affinityGroupCount);
+    }
+  }
+
+  /**
+   * @param affinityGroup the affinity group to pick a runner from
+   * @return the id of a random runner of the given affinity group
+   */
+  public int getRandomRunnerOf(final int affinityGroup) {
+    final int from = affinityGroupOffsets[affinityGroup];
+    final int to = affinityGroupOffsets[affinityGroup + 1];
+    return ThreadLocalRandom.current().nextInt(from, to);
   }
 
   /**
@@ -47,6 +118,10 @@ public final class WorkStealingGroup implements TaskScheduler {
 
     if (nextTask == null) {
       nextTask = trySteal(currentThread);
+
+      if (nextTask != null) {
+        currentThread.getActorThreadGroup().getMetrics().countSteal();
+      }
     }
 
     return nextTask;
@@ -58,6 +133,8 @@ public final class WorkStealingGroup implements TaskScheduler {
    *
    * <p>Work stealing is a mechanism for <em>load balancing</em>: it relies upon the assumption that
    * there is more work to do than there is resources (threads) to run it.
+   *
+   * <p>Only runners of the thief's affinity group are considered as victims.
    */
   private ActorTask trySteal(final ActorThread currentThread) {
     /*
@@ -75,10 +152,13 @@ public final class WorkStealingGroup implements TaskScheduler {
      * Experimental verification of the effectiveness of the optimization has not been conducted yet.
      * Also, the optimization only makes sense if the system uses at least 3 runners.
      */
-    final int offset = ThreadLocalRandom.current().nextInt(numOfThreads);
+    final int affinityGroup = getAffinityGroupOfRunner(currentThread.getRunnerId());
+    final int groupOffset = affinityGroupOffsets[affinityGroup];
+    final int groupSize = affinityGroupOffsets[affinityGroup + 1] - groupOffset;
+    final int offset = ThreadLocalRandom.current().nextInt(groupSize);
 
-    for (int i = offset; i < offset + numOfThreads; i++) {
-      final int runnerId = i % numOfThreads;
+    for (int i = offset; i < offset + groupSize; i++) {
+      final int runnerId = groupOffset + i % groupSize;
 
       if (runnerId != currentThread.getRunnerId()) {
         final ActorTask stolenActor = taskQueues[runnerId].trySteal();
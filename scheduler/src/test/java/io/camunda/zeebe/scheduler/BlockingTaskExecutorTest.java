@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class BlockingTaskExecutorTest {
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldRunBlockingTaskOnVirtualThread() {
+    // given
+    startScheduler(true);
+    final var actor = new BlockingActor(() -> Thread.currentThread().isVirtual());
+    scheduler.submitActor(actor).join();
+
+    // when
+    final var result = actor.runBlocking();
+
+    // then
+    assertThat(result.join(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(actor.completedOnActorThread).isTrue();
+  }
+
+  @Test
+  void shouldRunBlockingTaskOnPlatformThread() {
+    // given
+    startScheduler(false);
+    final var actor = new BlockingActor(() -> Thread.currentThread().isVirtual());
+    scheduler.submitActor(actor).join();
+
+    // when
+    final var result = actor.runBlocking();
+
+    // then
+    assertThat(result.join(5, TimeUnit.SECONDS)).isFalse();
+    assertThat(actor.completedOnActorThread).isTrue();
+  }
+
+  @Test
+  void shouldCompleteExceptionallyIfBlockingTaskFails() {
+    // given
+    startScheduler(true);
+    final var failure = new IllegalStateException("expected");
+    final var actor =
+        new BlockingActor(
+            () -> {
+              throw failure;
+            });
+    scheduler.submitActor(actor).join();
+
+    // when
+    final var result = actor.runBlocking();
+
+    // then
+    assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCause(failure);
+  }
+
+  @Test
+  void shouldRejectBlockingTaskOfUnscheduledActor() {
+    // given
+    final var actor = new BlockingActor(() -> true);
+
+    // when + then
+    assertThatThrownBy(() -> actor.actor.runBlocking(() -> true))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private void startScheduler(final boolean useVirtualThreads) {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setBlockingTaskVirtualThreadsEnabled(useVirtualThreads)
+            .build();
+    scheduler.start();
+  }
+
+  private static final class BlockingActor extends Actor {
+    private final Callable<Boolean> blockingTask;
+    private volatile boolean completedOnActorThread;
+
+    private BlockingActor(final Callable<Boolean> blockingTask) {
+      this.blockingTask = blockingTask;
+    }
+
+    private ActorFuture<Boolean> runBlocking() {
+      final CompletableActorFuture<Boolean> result = new CompletableActorFuture<>();
+      actor.run(
+          () ->
+              actor.runOnCompletion(
+                  actor.runBlocking(blockingTask),
+                  (value, error) -> {
+                    completedOnActorThread = ActorThread.current() != null;
+                    if (error != null) {
+                      result.completeExceptionally(error);
+                    } else {
+                      result.complete(value);
+                    }
+                  }));
+      return result;
+    }
+  }
+}
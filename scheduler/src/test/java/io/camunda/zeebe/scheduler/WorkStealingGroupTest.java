@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class WorkStealingGroupTest {
+
+  @Test
+  void shouldSplitRunnersIntoAdjacentAffinityGroups() {
+    // given
+    final var group = new WorkStealingGroup(8, 3);
+
+    // when
+    final var affinityGroups =
+        IntStream.range(0, 8).map(group::getAffinityGroupOfRunner).boxed().toList();
+
+    // then
+    assertThat(affinityGroups).containsExactly(0, 0, 0, 1, 1, 1, 2, 2);
+  }
+
+  @Test
+  void shouldLimitAffinityGroupsToNumberOfThreads() {
+    // given
+    final var group = new WorkStealingGroup(2, 4);
+
+    // then
+    assertThat(group.getAffinityGroupCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRejectLessThanOneAffinityGroup() {
+    assertThatThrownBy(() -> new WorkStealingGroup(2, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldPickRunnerOfAffinityGroup() {
+    // given
+    final var group = new WorkStealingGroup(8, 3);
+
+    // when
+    final var runners =
+        IntStream.range(0, 100).map(i -> group.getRandomRunnerOf(1)).boxed().toList();
+
+    // then
+    assertThat(runners).allSatisfy(runner -> assertThat(runner).isBetween(3, 5));
+  }
+
+  @Test
+  void shouldAssignTasksOfSamePartitionToSameAffinityGroup() {
+    // given
+    final var group = new WorkStealingGroup(8, 3);
+    final var task = scheduledTask(new PartitionActor("4"));
+
+    // when
+    final int fromOutside = group.getAffinityGroupOfTask(task, -1);
+    final int fromOtherGroup = group.getAffinityGroupOfTask(task, 7);
+
+    // then
+    assertThat(task.getAffinityKey()).isEqualTo(4);
+    assertThat(fromOutside).isEqualTo(1);
+    assertThat(fromOtherGroup).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepTaskWithoutAffinityInGroupOfSubmitter() {
+    // given
+    final var group = new WorkStealingGroup(8, 3);
+    final var task = scheduledTask(new PartitionActor(null));
+
+    // when
+    final int affinityGroup = group.getAffinityGroupOfTask(task, 7);
+
+    // then
+    assertThat(task.getAffinityKey()).isEqualTo(-1);
+    assertThat(affinityGroup).isEqualTo(2);
+  }
+
+  @Test
+  void shouldIgnoreInvalidPartitionId() {
+    // given
+    final var task = scheduledTask(new PartitionActor("not-a-partition"));
+
+    // then
+    assertThat(task.getAffinityKey()).isEqualTo(-1);
+  }
+
+  private ActorTask scheduledTask(final Actor actor) {
+    final var task = new ActorTask(actor);
+    task.onTaskScheduled(null);
+    return task;
+  }
+
+  private static final class PartitionActor extends Actor {
+    private final String partitionId;
+
+    private PartitionActor(final String partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = new HashMap<>(super.createContext());
+      if (partitionId != null) {
+        context.put(ACTOR_PROP_PARTITION_ID, partitionId);
+      }
+      return context;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+/**
+ * Combines two CRC32C values into the CRC32C of the concatenated input, without reading the input
+ * again. This is the algorithm of zlib's {@code crc32_combine}, applied to the CRC32C polynomial.
+ */
+final class Crc32cCombiner {
+
+  // reversed CRC32C (Castagnoli) polynomial
+  private static final int POLYNOMIAL = 0x82F63B78;
+  private static final int DIMENSION = 32;
+
+  private Crc32cCombiner() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * @param crc1 the CRC32C of the first part of the input
+   * @param crc2 the CRC32C of the second part of the input
+   * @param length2 the length of the second part of the input, in bytes
+   * @return the CRC32C of the first part followed by the second part
+   */
+  static long combine(final long crc1, final long crc2, final long length2) {
+    if (length2 <= 0) {
+      return crc1;
+    }
+
+    final int[] even = new int[DIMENSION];
+    final int[] odd = new int[DIMENSION];
+
+    // operator for one zero bit
+    odd[0] = POLYNOMIAL;
+    int row = 1;
+    for (int n = 1; n < DIMENSION; n++) {
+      odd[n] = row;
+      row <<= 1;
+    }
+
+    // operators for two and four zero bits
+    square(even, odd);
+    square(odd, even);
+
+    // apply length2 zero bytes to crc1, one bit of length2 at a time
+    int crc = (int) crc1;
+    long remaining = length2;
+    do {
+      square(even, odd);
+      if ((remaining & 1) != 0) {
+        crc = times(even, crc);
+      }
+      remaining >>>= 1;
+      if (remaining == 0) {
+        break;
+      }
+
+      square(odd, even);
+      if ((remaining & 1) != 0) {
+        crc = times(odd, crc);
+      }
+      remaining >>>= 1;
+    } while (remaining != 0);
+
+    return Integer.toUnsignedLong(crc ^ (int) crc2);
+  }
+
+  private static int times(final int[] matrix, final int vector) {
+    int sum = 0;
+    int remaining = vector;
+    int row = 0;
+    while (remaining != 0) {
+      if ((remaining & 1) != 0) {
+        sum ^= matrix[row];
+      }
+      remaining >>>= 1;
+      row++;
+    }
+    return sum;
+  }
+
+  private static void square(final int[] square, final int[] matrix) {
+    for (int n = 0; n < DIMENSION; n++) {
+      square[n] = times(matrix, matrix[n]);
+    }
+  }
+}
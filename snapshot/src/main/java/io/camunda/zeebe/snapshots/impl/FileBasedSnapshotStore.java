@@ -16,6 +16,7 @@ import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.ConstructableSnapshotStore;
 import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
+import io.camunda.zeebe.snapshots.MutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.PersistableSnapshot;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.PersistedSnapshotListener;
@@ -42,6 +43,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -67,6 +73,12 @@ public final class FileBasedSnapshotStore extends Actor
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedSnapshotStore.class);
   private static final String CHECKSUM_SUFFIX = ".checksum";
   private static final String TMP_CHECKSUM_SUFFIX = ".tmp";
+  private static final int CHECKSUM_THREADS =
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+  private static final long CHECKSUM_THREAD_KEEP_ALIVE_SECONDS = 60;
+  // shared by all stores, so the number of checksum threads does not grow with the number of
+  // partitions; idle threads are released, so stores which are never closed do not hold on to them
+  private static final ExecutorService CHECKSUM_EXECUTOR = newChecksumExecutor();
   // the root snapshotsDirectory where all snapshots should be stored
   private final Path snapshotsDirectory;
   // the root snapshotsDirectory when pending snapshots should be stored
@@ -83,6 +95,8 @@ public final class FileBasedSnapshotStore extends Actor
   private final Set<FileBasedSnapshot> availableSnapshots = new HashSet<>();
   private final String actorName;
   private final int partitionId;
+  // reuses the checksums of files which are shared with the previous snapshot
+  private final SnapshotChecksumCache checksumCache = new SnapshotChecksumCache();
 
   public FileBasedSnapshotStore(final int partitionId, final Path root) {
     snapshotsDirectory = root.resolve(SNAPSHOTS_DIRECTORY);
@@ -103,6 +117,26 @@ public final class FileBasedSnapshotStore extends Actor
     this.partitionId = partitionId;
   }
 
+  private static ExecutorService newChecksumExecutor() {
+    final var checksumThreadCount = new AtomicInteger();
+    final var executor =
+        new ThreadPoolExecutor(
+            CHECKSUM_THREADS,
+            CHECKSUM_THREADS,
+            CHECKSUM_THREAD_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              final var thread =
+                  new Thread(
+                      runnable, "SnapshotStore-checksum-" + checksumThreadCount.getAndIncrement());
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   @Override
   protected Map<String, String> createContext() {
     final var context = super.createContext();
@@ -203,7 +237,7 @@ public final class FileBasedSnapshotStore extends Actor
 
     try {
       final var expectedChecksum = SnapshotChecksum.read(checksumPath);
-      final var actualChecksum = SnapshotChecksum.calculate(path);
+      final var actualChecksum = calculateChecksum(path);
       if (expectedChecksum.getCombinedValue() != actualChecksum.getCombinedValue()) {
         LOGGER.warn(
             "Expected snapshot {} to have checksum {}, but the actual checksum is {}; the snapshot is most likely corrupted. The startup will fail if there is no other valid snapshot and the log has been compacted.",
@@ -660,6 +694,15 @@ public final class FileBasedSnapshotStore extends Actor
     return snapshotMetrics;
   }
 
+  /**
+   * Calculates the checksum of the given snapshot directory. Files which are shared with the
+   * previously calculated snapshot are not read again, and the remaining files are read in
+   * parallel.
+   */
+  MutableChecksumsSFV calculateChecksum(final Path snapshotDirectory) throws IOException {
+    return SnapshotChecksum.calculate(snapshotDirectory, checksumCache, CHECKSUM_EXECUTOR);
+  }
+
   void onSnapshotDeleted(final FileBasedSnapshot snapshot) {
     availableSnapshots.remove(snapshot);
   }
@@ -81,7 +81,7 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
                       directory)));
 
         } else {
-          checksum = SnapshotChecksum.calculate(directory);
+          checksum = snapshotStore.calculateChecksum(directory);
 
           snapshot = null;
           isValid = true;
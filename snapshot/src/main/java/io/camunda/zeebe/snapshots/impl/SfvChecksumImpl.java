@@ -10,13 +10,11 @@ package io.camunda.zeebe.snapshots.impl;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import io.camunda.zeebe.snapshots.MutableChecksumsSFV;
+import io.camunda.zeebe.snapshots.impl.SnapshotChecksumCache.FileChecksum;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
-import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -24,7 +22,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
-import org.agrona.IoUtil;
 
 /**
  * Supports building individual CRCs compatible with SFV file format and also supports backward
@@ -49,7 +46,9 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
       Pattern.compile("(.*)" + FILE_CRC_SEPARATOR_REGEX + "([0-9a-fA-F]{1,16})");
   private static final Pattern COMBINED_VALUE_PATTERN =
       Pattern.compile(".*combinedValue\\s+=\\s+([0-9a-fA-F]{1,16})");
-  private Checksum combinedChecksum;
+  // the CRC32C of all file names and contents, in the order they were added
+  private long combinedValue;
+  private boolean isCombinedValuePredefined;
   private final SortedMap<String, Long> checksums = new TreeMap<>();
   private String snapshotDirectoryComment;
 
@@ -59,16 +58,18 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
    * @param combinedChecksum pre-defined checksum
    */
   public SfvChecksumImpl(final long combinedChecksum) {
-    this.combinedChecksum = new PreDefinedImmutableChecksum(combinedChecksum);
+    combinedValue = combinedChecksum;
+    isCombinedValuePredefined = true;
   }
 
   public SfvChecksumImpl() {
-    combinedChecksum = new CRC32C();
+    // the CRC32C of no input
+    combinedValue = new CRC32C().getValue();
   }
 
   @Override
   public long getCombinedValue() {
-    return combinedChecksum.getValue();
+    return combinedValue;
   }
 
   @Override
@@ -78,7 +79,7 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
     if (snapshotDirectoryComment != null) {
       writer.printf(FORMAT_SNAPSHOT_DIRECTORY_LINE, snapshotDirectoryComment);
     }
-    writer.printf(FORMAT_COMBINED_VALUE_LINE, Long.toHexString(combinedChecksum.getValue()));
+    writer.printf(FORMAT_COMBINED_VALUE_LINE, Long.toHexString(combinedValue));
     writer.printf(FORMAT_NUMBER_OF_FILES_LINE, checksums.size());
 
     for (final Entry<String, Long> entry : checksums.entrySet()) {
@@ -99,7 +100,7 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
   public String toString() {
     return "SfvChecksum{"
         + "combinedChecksum="
-        + combinedChecksum.getValue()
+        + combinedValue
         + ", checksums="
         + checksums
         + '}';
@@ -107,32 +108,38 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
 
   @Override
   public void updateFromFile(final Path filePath) throws IOException {
-    final String fileName = filePath.getFileName().toString();
-    final byte[] chunkId = fileName.getBytes(UTF_8);
-    combinedChecksum.update(chunkId);
-
-    final Checksum checksum = new CRC32C();
-    final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
-    try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
-      readBuffer.clear();
-      while (channel.read(readBuffer) > 0) {
-        readBuffer.flip();
-        combinedChecksum.update(readBuffer);
-        readBuffer.flip();
-        checksum.update(readBuffer);
-        readBuffer.clear();
-      }
-    }
-    checksums.put(fileName, checksum.getValue());
+    ensureMutable();
+    final var fileChecksum = FileChecksum.ofFile(filePath);
+    updateFromChecksum(
+        filePath.getFileName().toString(), fileChecksum.checksum(), fileChecksum.length());
   }
 
   @Override
   public void updateFromBytes(final String fileName, final byte[] bytes) {
-    combinedChecksum.update(fileName.getBytes(UTF_8));
+    ensureMutable();
     final Checksum checksum = new CRC32C();
     checksum.update(bytes);
-    combinedChecksum.update(bytes);
-    checksums.put(fileName, checksum.getValue());
+    updateFromChecksum(fileName, checksum.getValue(), bytes.length);
+  }
+
+  /**
+   * Adds a file whose checksum is already known, without reading it again. The combined value is
+   * the same as if the file would have been added via {@link #updateFromFile(Path)}.
+   *
+   * @param fileName the name of the file
+   * @param checksum the CRC32C of the file's content
+   * @param length the length of the file's content in bytes
+   */
+  void updateFromChecksum(final String fileName, final long checksum, final long length) {
+    ensureMutable();
+    final byte[] chunkId = fileName.getBytes(UTF_8);
+    final Checksum chunkIdChecksum = new CRC32C();
+    chunkIdChecksum.update(chunkId);
+
+    combinedValue =
+        Crc32cCombiner.combine(combinedValue, chunkIdChecksum.getValue(), chunkId.length);
+    combinedValue = Crc32cCombiner.combine(combinedValue, checksum, length);
+    checksums.put(fileName, checksum);
   }
 
   @Override
@@ -143,8 +150,8 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
         final Matcher matcher = COMBINED_VALUE_PATTERN.matcher(line);
         if (matcher.find()) {
           final String hexString = matcher.group(1);
-          final long crc = Long.parseLong(hexString, 16);
-          combinedChecksum = new PreDefinedImmutableChecksum(crc);
+          combinedValue = Long.parseLong(hexString, 16);
+          isCombinedValuePredefined = true;
         }
       } else {
         final Matcher matcher = FILE_CRC_PATTERN.matcher(line);
@@ -157,36 +164,9 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
     }
   }
 
-  private static class PreDefinedImmutableChecksum implements Checksum {
-
-    private final long crc;
-
-    public PreDefinedImmutableChecksum(final long crc) {
-      this.crc = crc;
-    }
-
-    @Override
-    public void update(final int b) {
-      throw getUnsupportedOperationException();
-    }
-
-    @Override
-    public void update(final byte[] b, final int off, final int len) {
-      throw getUnsupportedOperationException();
-    }
-
-    @Override
-    public long getValue() {
-      return crc;
-    }
-
-    @Override
-    public void reset() {
-      throw getUnsupportedOperationException();
-    }
-
-    private static UnsupportedOperationException getUnsupportedOperationException() {
-      return new UnsupportedOperationException("This is an immutable checksum.");
+  private void ensureMutable() {
+    if (isCombinedValuePredefined) {
+      throw new UnsupportedOperationException("This is an immutable checksum.");
     }
   }
 }
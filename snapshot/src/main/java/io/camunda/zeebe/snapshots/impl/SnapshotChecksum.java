@@ -9,6 +9,8 @@ package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.MutableChecksumsSFV;
+import io.camunda.zeebe.snapshots.impl.SnapshotChecksumCache.FileChecksum;
+import io.camunda.zeebe.snapshots.impl.SnapshotChecksumCache.FileIdentity;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.io.UncheckedIOException;
@@ -17,7 +19,14 @@ import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 final class SnapshotChecksum {
 
@@ -42,19 +51,74 @@ final class SnapshotChecksum {
   }
 
   public static MutableChecksumsSFV calculate(final Path snapshotDirectory) throws IOException {
+    return calculate(snapshotDirectory, new SnapshotChecksumCache(), Runnable::run);
+  }
+
+  /**
+   * Calculates the checksum of the given snapshot. Checksums of files which are found in the cache
+   * are reused, all other files are read on the given executor, possibly in parallel. The result
+   * is the same as if all files were read one after the other. Afterwards, the cache contains the
+   * checksums of this snapshot's files.
+   */
+  static MutableChecksumsSFV calculate(
+      final Path snapshotDirectory, final SnapshotChecksumCache cache, final Executor executor)
+      throws IOException {
+    final List<Path> files;
     try (final var fileStream =
         Files.list(snapshotDirectory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
-      final var sfvChecksum = createCombinedChecksum(fileStream);
+      files = fileStream.toList();
+    }
+
+    final List<Optional<FileIdentity>> identities = new ArrayList<>(files.size());
+    final List<CompletableFuture<FileChecksum>> fileChecksums = new ArrayList<>(files.size());
+    for (final var file : files) {
+      final var identity = SnapshotChecksumCache.identify(file);
+      identities.add(identity);
+      fileChecksums.add(
+          identity
+              .flatMap(cache::get)
+              .map(CompletableFuture::completedFuture)
+              .orElseGet(() -> CompletableFuture.supplyAsync(() -> checksumOf(file), executor)));
+    }
+
+    final var sfvChecksum = new SfvChecksumImpl();
+    final Map<FileIdentity, FileChecksum> latestChecksums = new HashMap<>();
+    for (int i = 0; i < files.size(); i++) {
+      final var fileChecksum = join(fileChecksums.get(i));
+      final var fileName = files.get(i).getFileName().toString();
+      sfvChecksum.updateFromChecksum(fileName, fileChecksum.checksum(), fileChecksum.length());
+      identities.get(i).ifPresent(identity -> latestChecksums.put(identity, fileChecksum));
+    }
+    cache.replace(latestChecksums);
+
+    // While persisting transient snapshot, the checksum of metadata file is added at the end.
+    // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
+    // the file name, the sorted file list will have a differnt order and thus result in a
+    // different checksum.
+    final var metadataFile = snapshotDirectory.resolve(FileBasedSnapshotStore.METADATA_FILE_NAME);
+    if (metadataFile.toFile().exists()) {
+      sfvChecksum.updateFromFile(metadataFile);
+    }
+    return sfvChecksum;
+  }
+
+  private static FileChecksum checksumOf(final Path file) {
+    try {
+      return FileChecksum.ofFile(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 
-      // While persisting transient snapshot, the checksum of metadata file is added at the end.
-      // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
-      // the file name, the sorted file list will have a differnt order and thus result in a
-      // different checksum.
-      final var metadataFile = snapshotDirectory.resolve(FileBasedSnapshotStore.METADATA_FILE_NAME);
-      if (metadataFile.toFile().exists()) {
-        sfvChecksum.updateFromFile(metadataFile);
+  private static FileChecksum join(final CompletableFuture<FileChecksum> fileChecksum)
+      throws IOException {
+    try {
+      return fileChecksum.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final UncheckedIOException ioException) {
+        throw ioException.getCause();
       }
-      return sfvChecksum;
+      throw e;
     }
   }
 
@@ -76,22 +140,4 @@ final class SnapshotChecksum {
       channel.force(true);
     }
   }
-
-  /**
-   * computes a checksum for the files, in the order they're presented
-   *
-   * @return the SfvChecksum object
-   */
-  private static SfvChecksumImpl createCombinedChecksum(final Stream<Path> files) {
-    final SfvChecksumImpl checksum = new SfvChecksumImpl();
-    files.forEachOrdered(
-        path -> {
-          try {
-            checksum.updateFromFile(path);
-          } catch (final IOException e) {
-            throw new UncheckedIOException(e);
-          }
-        });
-    return checksum;
-  }
 }
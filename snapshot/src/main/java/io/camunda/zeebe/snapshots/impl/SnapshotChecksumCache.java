@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+import org.agrona.IoUtil;
+
+/**
+ * Remembers the checksums of the files of the last calculated snapshot, keyed by file identity,
+ * i.e. the file key (e.g. device and inode), size and modification time. Most files of a new
+ * snapshot are hard links to the files of the previous one, so their checksums can be reused
+ * instead of reading the files again.
+ *
+ * <p>Only the checksums of the last calculation are kept, so the cache does not grow beyond the
+ * size of one snapshot.
+ */
+final class SnapshotChecksumCache {
+
+  private Map<FileIdentity, FileChecksum> checksums = new HashMap<>();
+
+  /**
+   * @return the identity of the given file, or empty if the file system does not provide a file
+   *     key, in which case the file's checksum cannot be cached
+   */
+  static Optional<FileIdentity> identify(final Path file) throws IOException {
+    final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    if (attributes.fileKey() == null) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        new FileIdentity(
+            attributes.fileKey(), attributes.size(), attributes.lastModifiedTime().toMillis()));
+  }
+
+  synchronized Optional<FileChecksum> get(final FileIdentity identity) {
+    return Optional.ofNullable(checksums.get(identity));
+  }
+
+  /** Replaces the cached checksums with the ones of the latest calculation. */
+  synchronized void replace(final Map<FileIdentity, FileChecksum> latestChecksums) {
+    checksums = new HashMap<>(latestChecksums);
+  }
+
+  record FileIdentity(Object fileKey, long size, long lastModifiedMillis) {}
+
+  record FileChecksum(long checksum, long length) {
+
+    /** Reads the given file and calculates its CRC32C. */
+    static FileChecksum ofFile(final Path file) throws IOException {
+      final Checksum checksum = new CRC32C();
+      final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
+      long length = 0;
+      try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        int read;
+        while ((read = channel.read(readBuffer)) > 0) {
+          readBuffer.flip();
+          checksum.update(readBuffer);
+          readBuffer.clear();
+          length += read;
+        }
+      }
+
+      return new FileChecksum(checksum.getValue(), length);
+    }
+  }
+}
@@ -24,6 +24,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 import org.agrona.IoUtil;
@@ -256,6 +260,50 @@ public final class SnapshotChecksumTest {
         .isEqualTo(checksumCalculatedAtOnce.getCombinedValue());
   }
 
+  @Test
+  void shouldCalculateSameChecksumWhenReadingFilesInParallel() throws IOException {
+    // given
+    final var expected = SnapshotChecksum.calculate(multipleFileSnapshot).getCombinedValue();
+    final var executor = Executors.newFixedThreadPool(2);
+
+    // when
+    final var actual =
+        SnapshotChecksum.calculate(multipleFileSnapshot, new SnapshotChecksumCache(), executor)
+            .getCombinedValue();
+
+    // then
+    executor.shutdownNow();
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldReuseChecksumsOfFilesSharedWithPreviousSnapshot() throws IOException {
+    // given
+    final var cache = new SnapshotChecksumCache();
+    final var readFiles = new AtomicInteger();
+    final Executor countingExecutor =
+        task -> {
+          readFiles.incrementAndGet();
+          task.run();
+        };
+    SnapshotChecksum.calculate(multipleFileSnapshot, cache, countingExecutor);
+    readFiles.set(0);
+
+    final var nextSnapshot = createTempDir("next");
+    for (final var file : List.of("file1.txt", "file2.txt", "file3.txt")) {
+      Files.createLink(nextSnapshot.resolve(file), multipleFileSnapshot.resolve(file));
+    }
+    createChunk(nextSnapshot, "file4.txt");
+
+    // when
+    final var actual = SnapshotChecksum.calculate(nextSnapshot, cache, countingExecutor);
+
+    // then
+    assertThat(readFiles).hasValue(1);
+    assertThat(actual.getCombinedValue())
+        .isEqualTo(SnapshotChecksum.calculate(nextSnapshot).getCombinedValue());
+  }
+
   private Path createTempDir(final String name) throws IOException {
     final var path = temporaryFolder.resolve(name);
     FileUtil.ensureDirectoryExists(path);
@@ -105,4 +105,13 @@ public interface RecordProcessor {
       Throwable processingException,
       TypedRecord record,
       ProcessingResultBuilder processingResultBuilder);
+
+  /**
+   * Called by platform after the modifications of the current transaction were rolled back, before
+   * the records are processed, replayed or handled as error again.
+   *
+   * <p>Implementors which keep transient state derived from the database, which is not part of the
+   * transaction, must invalidate it here.
+   */
+  default void onRollback() {}
 }
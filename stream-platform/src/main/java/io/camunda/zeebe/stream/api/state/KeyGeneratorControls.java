@@ -16,4 +16,17 @@ public interface KeyGeneratorControls extends KeyGenerator {
    * @param key the new key
    */
   void setKeyIfHigher(long key);
+
+  /**
+   * Writes the latest generated key to the state. Implementations may keep generated keys in memory
+   * only, in which case this must be called in the transaction which generated them, before the
+   * transaction is committed.
+   */
+  default void persistKey() {}
+
+  /**
+   * Discards all keys which were generated since they were last persisted, for example because the
+   * transaction which generated them was rolled back.
+   */
+  default void resetToPersistedKey() {}
 }
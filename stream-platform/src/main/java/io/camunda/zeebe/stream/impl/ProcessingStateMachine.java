@@ -33,8 +33,10 @@ import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache;
+import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
+import io.camunda.zeebe.stream.impl.metrics.RecordProcessingMetrics;
 import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
@@ -123,6 +125,7 @@ public final class ProcessingStateMachine {
           recordMetadata -> recordMetadata.getRecordType() != RecordType.COMMAND);
 
   private final MutableLastProcessedPositionState lastProcessedPositionState;
+  private final KeyGeneratorControls keyGeneratorControls;
   private final RecordMetadata metadata = new RecordMetadata();
   private final ActorControl actor;
   private final LogStreamReader logStreamReader;
@@ -160,6 +163,7 @@ public final class ProcessingStateMachine {
   private final int maxCommandsInBatch;
   private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
+  private final RecordProcessingMetrics recordMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
 
   public ProcessingStateMachine(
@@ -177,6 +181,7 @@ public final class ProcessingStateMachine {
     transactionContext = context.getTransactionContext();
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
+    keyGeneratorControls = context.getKeyGeneratorControls();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
@@ -191,6 +196,8 @@ public final class ProcessingStateMachine {
     streamProcessorListener = context.getStreamProcessorListener();
 
     processingMetrics = new ProcessingMetrics(Integer.toString(partitionId));
+    recordMetrics =
+        context.enableRecordMetrics() ? RecordProcessingMetrics.processing(partitionId) : null;
   }
 
   private void skipRecord() {
@@ -322,6 +329,7 @@ public final class ProcessingStateMachine {
    */
   private void finalizeCommandProcessing() {
     lastProcessedPositionState.markAsProcessed(typedCommand.getPosition());
+    keyGeneratorControls.persistKey();
     processedCommandsCount = 0;
   }
 
@@ -357,8 +365,21 @@ public final class ProcessingStateMachine {
               .findFirst()
               .orElse(null);
       if (currentProcessor != null) {
+        if (recordMetrics != null) {
+          recordMetrics.start(zeebeDbTransaction);
+        }
+
         currentProcessingResult = currentProcessor.process(command, processingResultBuilder);
 
+        if (recordMetrics != null) {
+          recordMetrics.stop(
+              zeebeDbTransaction,
+              command.getValueType(),
+              command.getIntent(),
+              currentProcessingResult.getRecordBatch().entries().size()
+                  - lastProcessingResultSize);
+        }
+
         final BatchProcessingStepResult batchProcessingStepResult =
             collectBatchProcessingStepResult(
                 currentProcessingResult,
@@ -430,6 +451,8 @@ public final class ProcessingStateMachine {
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.rollback();
+              keyGeneratorControls.resetToPersistedKey();
+              recordProcessors.forEach(RecordProcessor::onRollback);
               return true;
             },
             abortCondition);
@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader.Batch;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.stream.api.MetadataFilter;
+import io.camunda.zeebe.stream.impl.records.RecordValues;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Reads batches ahead of the replay and decodes them off the actor thread. The batches are copied
+ * out of the reader on the actor thread, since the reader reuses its buffers, and then the
+ * metadata and values of the events which need to be replayed are decoded by the scheduler's
+ * blocking task executor. The decoded batches are handed out in log order, so applying them to the
+ * state stays sequential.
+ *
+ * <p>Not thread safe; must only be used from the actor of the replay state machine.
+ */
+final class ReplayReadAhead {
+
+  private static final String ERROR_MSG_EXPECTED_TO_READ_METADATA =
+      "Expected to read the metadata for the record '%s', but an exception was thrown.";
+
+  private final Queue<ActorFuture<DecodedBatch>> decodingBatches = new ArrayDeque<>();
+  private final LogStreamBatchReader batchReader;
+  private final ActorControl actor;
+  private final MetadataFilter replayFilter;
+  private final int maxBatchesAhead;
+  private long snapshotPosition;
+
+  ReplayReadAhead(
+      final LogStreamBatchReader batchReader,
+      final ActorControl actor,
+      final MetadataFilter replayFilter,
+      final int maxBatchesAhead) {
+    this.batchReader = batchReader;
+    this.actor = actor;
+    this.replayFilter = replayFilter;
+    this.maxBatchesAhead = maxBatchesAhead;
+  }
+
+  /** Discards all batches read so far; events up to the snapshot position are not decoded. */
+  void reset(final long snapshotPosition) {
+    this.snapshotPosition = snapshotPosition;
+    decodingBatches.clear();
+  }
+
+  boolean hasNext() {
+    readAhead();
+    return !decodingBatches.isEmpty();
+  }
+
+  /**
+   * @return the next batch in log order, which is completed once its events are decoded
+   */
+  ActorFuture<DecodedBatch> next() {
+    readAhead();
+    final var nextBatch = decodingBatches.poll();
+    readAhead();
+    return nextBatch;
+  }
+
+  private void readAhead() {
+    while (decodingBatches.size() < maxBatchesAhead && batchReader.hasNext()) {
+      final var events = copyEvents(batchReader.next());
+      final var position = snapshotPosition;
+      decodingBatches.add(actor.runBlocking(() -> decode(events, position)));
+    }
+  }
+
+  private List<LoggedEventImpl> copyEvents(final Batch batch) {
+    final var events = new ArrayList<LoggedEventImpl>();
+    while (batch.hasNext()) {
+      final var event = batch.next();
+      final var buffer = new UnsafeBuffer(new byte[event.getLength()]);
+      event.write(buffer, 0);
+
+      final var copy = new LoggedEventImpl();
+      copy.wrap(buffer, 0);
+      events.add(copy);
+    }
+    return events;
+  }
+
+  private DecodedBatch decode(final List<LoggedEventImpl> events, final long snapshotPosition) {
+    final var decodedEvents = new ArrayList<DecodedEvent>(events.size());
+    for (final var event : events) {
+      final var metadata = readMetadata(event);
+      final var sourceEventPosition = event.getSourceEventPosition();
+      // some events might not have a source pointer
+      final var shouldReplay =
+          replayFilter.applies(metadata)
+              && (sourceEventPosition > snapshotPosition || sourceEventPosition < 0);
+
+      final var value =
+          shouldReplay ? RecordValues.readNewRecordValue(event, metadata.getValueType()) : null;
+      decodedEvents.add(new DecodedEvent(event, metadata, value, shouldReplay));
+    }
+    return new DecodedBatch(decodedEvents);
+  }
+
+  private RecordMetadata readMetadata(final LoggedEvent event) {
+    final var metadata = new RecordMetadata();
+    try {
+      event.readMetadata(metadata);
+    } catch (final Exception e) {
+      final var errorMsg = String.format(ERROR_MSG_EXPECTED_TO_READ_METADATA, event);
+      throw new ProcessingException(errorMsg, event, null, e);
+    }
+    return metadata;
+  }
+
+  /** The events of a batch, in log order. */
+  record DecodedBatch(List<DecodedEvent> events) {}
+
+  /**
+   * An event of a batch. Events which should not be replayed (e.g. commands) are kept so that their
+   * positions and keys are still tracked.
+   */
+  record DecodedEvent(
+      LoggedEvent event, RecordMetadata metadata, UnifiedRecordValue value, boolean shouldReplay) {}
+}
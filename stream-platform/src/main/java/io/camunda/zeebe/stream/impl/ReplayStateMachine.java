@@ -23,6 +23,7 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.scheduler.retry.OperationToRetry;
 import io.camunda.zeebe.scheduler.retry.RecoverableRetryStrategy;
 import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.stream.api.EventFilter;
@@ -31,9 +32,13 @@ import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
+import io.camunda.zeebe.stream.impl.ReplayReadAhead.DecodedBatch;
+import io.camunda.zeebe.stream.impl.ReplayReadAhead.DecodedEvent;
+import io.camunda.zeebe.stream.impl.metrics.RecordProcessingMetrics;
 import io.camunda.zeebe.stream.impl.metrics.ReplayMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import io.prometheus.client.Histogram;
 import java.util.List;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
@@ -63,6 +68,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final EventFilter eventFilter = new MetadataEventFilter(REPLAY_FILTER);
 
   private final LogStreamBatchReader logStreamBatchReader;
+  private final ReplayReadAhead readAhead;
 
   private final TransactionContext transactionContext;
   private final RetryStrategy replayStrategy;
@@ -84,6 +90,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private State currentState = State.AWAIT_RECORD;
   private final BooleanSupplier shouldPause;
   private final ReplayMetrics replayMetrics;
+  private final RecordProcessingMetrics recordMetrics;
   private final List<RecordProcessor> recordProcessors;
   private final int partitionId;
 
@@ -106,7 +113,16 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     streamProcessorMode = context.getProcessorMode();
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
+    readAhead =
+        context.getReplayReadAheadBatches() > 0
+            ? new ReplayReadAhead(
+                logStreamBatchReader, actor, REPLAY_FILTER, context.getReplayReadAheadBatches())
+            : null;
     replayMetrics = new ReplayMetrics(logStream.getPartitionId());
+    recordMetrics =
+        context.enableRecordMetrics()
+            ? RecordProcessingMetrics.replay(logStream.getPartitionId())
+            : null;
   }
 
   /**
@@ -124,6 +140,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
     // start after snapshot
     logStreamBatchReader.seekToNextBatch(snapshotPosition);
+    if (readAhead != null) {
+      readAhead.reset(snapshotPosition);
+    }
 
     LOG.info(
         "Processor starts replay of events. [snapshot-position: {}, replay-mode: {}]",
@@ -155,27 +174,27 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
 
     try {
-      if (logStreamBatchReader.hasNext()) {
+      final boolean hasNext =
+          readAhead != null ? readAhead.hasNext() : logStreamBatchReader.hasNext();
+      if (hasNext) {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
-        replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
-            .onComplete(
-                (success, failure) -> {
-                  if (failure != null) {
-                    throw new RuntimeException(failure);
-                  } else {
-                    // observe the replay duration
-                    replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
-                    lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
-                    replayMetrics.setLastSourcePosition(lastSourceEventPosition);
-                    actor.submit(this::replayNextEvent);
-                  }
-                });
+        if (readAhead != null) {
+          actor.runOnCompletion(
+              readAhead.next(),
+              (decodedBatch, decodingFailure) -> {
+                if (decodingFailure != null) {
+                  onReplayFailed(decodingFailure);
+                } else {
+                  replayBatchWithRetry(
+                      () -> tryToReplayDecodedBatch(decodedBatch), replayDurationTimer);
+                }
+              });
+        } else {
+          final var batch = logStreamBatchReader.next();
+          replayBatchWithRetry(() -> tryToReplayBatch(batch), replayDurationTimer);
+        }
 
       } else if (streamProcessorMode == StreamProcessorMode.PROCESSING) {
         onRecordsReplayed();
@@ -185,18 +204,44 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
       }
 
     } catch (final RuntimeException e) {
-      final var message =
-          String.format(
-              "Failed to replay records. [snapshot-position: %d, last-read-record-position: %d, last-replayed-event-position: %d]",
-              snapshotPosition, lastReadRecordPosition, lastReplayedEventPosition);
-      recoveryFuture.completeExceptionally(new RuntimeException(message, e));
+      onReplayFailed(e);
     }
   }
 
+  private void replayBatchWithRetry(
+      final OperationToRetry replayBatch, final Histogram.Timer replayDurationTimer) {
+    replayStrategy
+        .runWithRetry(replayBatch, abortCondition)
+        .onComplete(
+            (success, failure) -> {
+              if (failure != null) {
+                throw new RuntimeException(failure);
+              } else {
+                // observe the replay duration
+                replayDurationTimer.close();
+                // the position should be visible only after the batch is replayed successfully
+                lastSourceEventPosition =
+                    Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                replayMetrics.setLastSourcePosition(lastSourceEventPosition);
+                actor.submit(this::replayNextEvent);
+              }
+            });
+  }
+
+  private void onReplayFailed(final Throwable failure) {
+    final var message =
+        String.format(
+            "Failed to replay records. [snapshot-position: %d, last-read-record-position: %d, last-replayed-event-position: %d]",
+            snapshotPosition, lastReadRecordPosition, lastReplayedEventPosition);
+    recoveryFuture.completeExceptionally(new RuntimeException(message, failure));
+  }
+
   private boolean tryToReplayBatch(final Batch batch) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
+      keyGeneratorControls.resetToPersistedKey();
+      recordProcessors.forEach(RecordProcessor::onRollback);
       // reading the whole batch from the beginning again
       batch.head();
     }
@@ -217,23 +262,67 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     return true;
   }
 
+  private boolean tryToReplayDecodedBatch(final DecodedBatch batch) throws Exception {
+    final boolean onRetry = zeebeDbTransaction != null;
+    if (onRetry) {
+      zeebeDbTransaction.rollback();
+      keyGeneratorControls.resetToPersistedKey();
+      recordProcessors.forEach(RecordProcessor::onRollback);
+    }
+
+    zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    zeebeDbTransaction.run(
+        () -> {
+          batch.events().forEach(this::replayDecodedEvent);
+
+          if (batchSourceEventPosition > snapshotPosition) {
+            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+          }
+        });
+
+    zeebeDbTransaction.commit();
+    zeebeDbTransaction = null;
+
+    return true;
+  }
+
   private void replayEvent(final LoggedEvent currentEvent) {
     if (eventFilter.applies(currentEvent)
         && (currentEvent.getSourceEventPosition() > snapshotPosition
             || currentEvent.getSourceEventPosition()
                 < 0)) { // some events might not have a source pointer
       readMetadata(currentEvent);
-      final var currentTypedEvent = readRecordValue(currentEvent);
+      applyEvent(readRecordValue(currentEvent));
+    }
+
+    onRecordReplayed(currentEvent);
+  }
 
-      recordProcessors.stream()
-          .filter(p -> p.accepts(currentTypedEvent.getValueType()))
-          .findFirst()
-          .ifPresent(recordProcessor -> recordProcessor.replay(currentTypedEvent));
+  private void replayDecodedEvent(final DecodedEvent decodedEvent) {
+    if (decodedEvent.shouldReplay()) {
+      typedEvent.wrap(decodedEvent.event(), decodedEvent.metadata(), decodedEvent.value());
+      applyEvent(typedEvent);
+    }
+
+    onRecordReplayed(decodedEvent.event());
+  }
 
-      lastReplayedEventPosition = currentTypedEvent.getPosition();
+  private void applyEvent(final TypedRecord<?> currentTypedEvent) {
+    if (recordMetrics != null) {
+      recordMetrics.start(zeebeDbTransaction);
     }
 
-    onRecordReplayed(currentEvent);
+    recordProcessors.stream()
+        .filter(p -> p.accepts(currentTypedEvent.getValueType()))
+        .findFirst()
+        .ifPresent(recordProcessor -> recordProcessor.replay(currentTypedEvent));
+
+    if (recordMetrics != null) {
+      recordMetrics.stop(
+          zeebeDbTransaction, currentTypedEvent.getValueType(), currentTypedEvent.getIntent(), 0);
+    }
+
+    lastReplayedEventPosition = currentTypedEvent.getPosition();
   }
 
   /**
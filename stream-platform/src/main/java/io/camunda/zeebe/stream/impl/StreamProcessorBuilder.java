@@ -142,6 +142,11 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getReplayReadAheadBatches() < 0) {
+      throw new IllegalArgumentException(
+          "Replay read-ahead must be >= 0 but was %s"
+              .formatted(streamProcessorContext.getReplayReadAheadBatches()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -149,8 +154,18 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder replayReadAheadBatches(final int replayReadAheadBatches) {
+    streamProcessorContext.replayReadAheadBatches(replayReadAheadBatches);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
   }
+
+  public StreamProcessorBuilder setEnableRecordMetrics(final boolean enabled) {
+    streamProcessorContext.setEnableRecordMetrics(enabled);
+    return this;
+  }
 }
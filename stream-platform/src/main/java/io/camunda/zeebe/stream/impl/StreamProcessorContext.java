@@ -57,6 +57,8 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
   private boolean enableAsyncScheduledTasks = true;
+  private int replayReadAheadBatches = 0;
+  private boolean enableRecordMetrics = false;
 
   public StreamProcessorContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -216,4 +218,30 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   public boolean enableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
+
+  public StreamProcessorContext replayReadAheadBatches(final int replayReadAheadBatches) {
+    this.replayReadAheadBatches = replayReadAheadBatches;
+    return this;
+  }
+
+  /**
+   * @return how many batches are read and decoded ahead during replay; 0 if replay decodes each
+   *     batch on the actor thread right before applying it
+   */
+  public int getReplayReadAheadBatches() {
+    return replayReadAheadBatches;
+  }
+
+  public StreamProcessorContext setEnableRecordMetrics(final boolean enabled) {
+    enableRecordMetrics = enabled;
+    return this;
+  }
+
+  /**
+   * @return true if the cost of each processed command and replayed event is measured per value
+   *     type and intent
+   */
+  public boolean enableRecordMetrics() {
+    return enableRecordMetrics;
+  }
 }
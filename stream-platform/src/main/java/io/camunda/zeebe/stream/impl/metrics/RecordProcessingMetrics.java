@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl.metrics;
+
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Measures the cost of each processed command or replayed event, per value type and intent: the
+ * time spent in the record processor, the reads and writes sent to the database, the follow-up
+ * records written, and the bytes allocated by the processing thread.
+ *
+ * <p>The label values are restricted to the {@link ValueType} and {@link Intent} constants, which
+ * keeps the cardinality bounded. The measurement is not thread-safe; it is expected to be used by
+ * the stream processor actor only, with every {@link #start(ZeebeDbTransaction)} followed by a
+ * {@link #stop(ZeebeDbTransaction, ValueType, Intent, int)}.
+ */
+public final class RecordProcessingMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String LABEL_NAME_PARTITION = "partition";
+  private static final String LABEL_NAME_PHASE = "phase";
+  private static final String LABEL_NAME_VALUE_TYPE = "valueType";
+  private static final String LABEL_NAME_INTENT = "intent";
+  private static final String PHASE_PROCESSING = "processing";
+  private static final String PHASE_REPLAY = "replay";
+
+  private static final Histogram RECORD_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_record_duration")
+          .help("Time spent in the record processor per command or event (in seconds)")
+          .buckets(.00001, .0001, .0005, .001, .005, .01, .05, .1, .5, 1)
+          .labelNames(
+              LABEL_NAME_PARTITION, LABEL_NAME_PHASE, LABEL_NAME_VALUE_TYPE, LABEL_NAME_INTENT)
+          .register();
+
+  private static final Counter RECORD_DB_READS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_record_db_reads_total")
+          .help("Number of reads sent to the state database while processing a command or event")
+          .labelNames(
+              LABEL_NAME_PARTITION, LABEL_NAME_PHASE, LABEL_NAME_VALUE_TYPE, LABEL_NAME_INTENT)
+          .register();
+
+  private static final Counter RECORD_DB_WRITES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_record_db_writes_total")
+          .help("Number of writes sent to the state database while processing a command or event")
+          .labelNames(
+              LABEL_NAME_PARTITION, LABEL_NAME_PHASE, LABEL_NAME_VALUE_TYPE, LABEL_NAME_INTENT)
+          .register();
+
+  private static final Counter RECORD_FOLLOW_UP_RECORDS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_record_follow_up_records_total")
+          .help("Number of follow-up records written while processing a command")
+          .labelNames(
+              LABEL_NAME_PARTITION, LABEL_NAME_PHASE, LABEL_NAME_VALUE_TYPE, LABEL_NAME_INTENT)
+          .register();
+
+  private static final Counter RECORD_ALLOCATED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_record_allocated_bytes_total")
+          .help("Bytes allocated by the processing thread while processing a command or event")
+          .labelNames(
+              LABEL_NAME_PARTITION, LABEL_NAME_PHASE, LABEL_NAME_VALUE_TYPE, LABEL_NAME_INTENT)
+          .register();
+
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMxBean();
+
+  private final Map<ValueType, Map<Intent, RecordMetrics>> metricsByRecordType =
+      new EnumMap<>(ValueType.class);
+  private final String partitionIdLabel;
+  private final String phaseLabel;
+
+  private long startNanos;
+  private long startAllocatedBytes;
+  private long startReadCount;
+  private long startWriteCount;
+
+  private RecordProcessingMetrics(final int partitionId, final String phaseLabel) {
+    partitionIdLabel = String.valueOf(partitionId);
+    this.phaseLabel = phaseLabel;
+  }
+
+  public static RecordProcessingMetrics processing(final int partitionId) {
+    return new RecordProcessingMetrics(partitionId, PHASE_PROCESSING);
+  }
+
+  public static RecordProcessingMetrics replay(final int partitionId) {
+    return new RecordProcessingMetrics(partitionId, PHASE_REPLAY);
+  }
+
+  /** Starts measuring the processing of a record, which uses the given transaction. */
+  public void start(final ZeebeDbTransaction transaction) {
+    startReadCount = transaction.getReadCount();
+    startWriteCount = transaction.getWriteCount();
+    startAllocatedBytes = currentThreadAllocatedBytes();
+    startNanos = System.nanoTime();
+  }
+
+  /**
+   * Stops measuring the processing of the record, and records the measurements for its value type
+   * and intent.
+   *
+   * @param transaction the transaction which was passed on start
+   * @param valueType the value type of the processed record
+   * @param intent the intent of the processed record
+   * @param followUpRecords the number of records written as result of processing the record
+   */
+  public void stop(
+      final ZeebeDbTransaction transaction,
+      final ValueType valueType,
+      final Intent intent,
+      final int followUpRecords) {
+    final var durationNanos = System.nanoTime() - startNanos;
+    final var allocatedBytes = currentThreadAllocatedBytes() - startAllocatedBytes;
+    final var metrics = metricsOf(valueType, intent);
+
+    metrics.duration.observe(durationNanos / 1e9);
+    metrics.dbReads.inc(transaction.getReadCount() - startReadCount);
+    metrics.dbWrites.inc(transaction.getWriteCount() - startWriteCount);
+    if (followUpRecords > 0) {
+      metrics.followUpRecords.inc(followUpRecords);
+    }
+    if (allocatedBytes > 0) {
+      metrics.allocatedBytes.inc(allocatedBytes);
+    }
+  }
+
+  private RecordMetrics metricsOf(final ValueType valueType, final Intent intent) {
+    return metricsByRecordType
+        .computeIfAbsent(valueType, ignored -> new HashMap<>())
+        .computeIfAbsent(intent, ignored -> new RecordMetrics(valueType, intent));
+  }
+
+  private static long currentThreadAllocatedBytes() {
+    return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : 0;
+  }
+
+  private static com.sun.management.ThreadMXBean threadMxBean() {
+    // the allocated bytes are only available on HotSpot based JVMs, and can be disabled
+    if (ManagementFactory.getThreadMXBean() instanceof final com.sun.management.ThreadMXBean bean
+        && bean.isThreadAllocatedMemorySupported()
+        && bean.isThreadAllocatedMemoryEnabled()) {
+      return bean;
+    }
+
+    return null;
+  }
+
+  private final class RecordMetrics {
+    private final Histogram.Child duration;
+    private final Counter.Child dbReads;
+    private final Counter.Child dbWrites;
+    private final Counter.Child followUpRecords;
+    private final Counter.Child allocatedBytes;
+
+    private RecordMetrics(final ValueType valueType, final Intent intent) {
+      final var labels =
+          new String[] {partitionIdLabel, phaseLabel, valueType.name(), intent.name()};
+      duration = RECORD_DURATION.labels(labels);
+      dbReads = RECORD_DB_READS.labels(labels);
+      dbWrites = RECORD_DB_WRITES.labels(labels);
+      followUpRecords = RECORD_FOLLOW_UP_RECORDS.labels(labels);
+      allocatedBytes = RECORD_ALLOCATED_BYTES.labels(labels);
+    }
+  }
+}
@@ -27,6 +27,7 @@ public final class RecordBatch implements MutableRecordBatch {
   final List<RecordBatchEntry> recordBatchEntries = new ArrayList<>();
   private int batchSize;
   private final RecordBatchSizePredicate recordBatchSizePredicate;
+  private final RecordValueArena valueArena = new RecordValueArena();
 
   public RecordBatch(final RecordBatchSizePredicate recordBatchSizePredicate) {
     this.recordBatchSizePredicate = recordBatchSizePredicate;
@@ -42,16 +43,20 @@ public final class RecordBatch implements MutableRecordBatch {
       final RecordMetadata metadata,
       final int sourceIndex,
       final BufferWriter valueWriter) {
-    final var recordBatchEntry =
-        RecordBatchEntry.createEntry(key, metadata, sourceIndex, valueWriter);
-    final var entryLength = recordBatchEntry.getLength();
+    final var entryLength = LogAppendEntry.getLength(metadata.getLength(), valueWriter.getLength());
 
     if (!recordBatchSizePredicate.test(recordBatchEntries.size() + 1, batchSize + entryLength)) {
       return Either.left(
           new ExceededBatchRecordSizeException(
-              recordBatchEntry, entryLength, recordBatchEntries.size(), batchSize));
+              RecordBatchEntry.createEntry(key, metadata, sourceIndex, valueWriter),
+              entryLength,
+              recordBatchEntries.size(),
+              batchSize));
     }
 
+    final var recordValueBuffer = valueArena.write(valueWriter);
+    final var recordBatchEntry =
+        RecordBatchEntry.wrapEntry(key, metadata, sourceIndex, recordValueBuffer);
     recordBatchEntries.add(recordBatchEntry);
     batchSize += entryLength;
     return Either.right(null);
@@ -14,6 +14,7 @@ import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.util.ReflectUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public record RecordBatchEntry(
@@ -36,6 +37,18 @@ public record RecordBatchEntry(
     final var recordValueBuffer = new UnsafeBuffer(bytes);
     valueWriter.write(recordValueBuffer, 0);
 
+    return wrapEntry(key, metadata, sourceIndex, recordValueBuffer);
+  }
+
+  /**
+   * Creates an entry whose value is read from the given buffer. The buffer is not copied, such that
+   * it must not be changed while the entry is in use.
+   */
+  static RecordBatchEntry wrapEntry(
+      final long key,
+      final RecordMetadata metadata,
+      final int sourceIndex,
+      final DirectBuffer recordValueBuffer) {
     final UnifiedRecordValue unifiedRecordValue =
         ReflectUtil.newInstance(EVENT_REGISTRY.get(metadata.getValueType()));
     unifiedRecordValue.wrap(recordValueBuffer, 0, recordValueBuffer.capacity());
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl.records;
+
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Copies record values of a single {@link RecordBatch} into a few shared chunks, instead of
+ * allocating a separate array per value.
+ *
+ * <p>Written regions are never moved or overwritten: when the current chunk is full, a new one is
+ * allocated and the previous chunk stays referenced by the values which were written into it. This
+ * way, the returned buffers remain valid for as long as the batch is used.
+ *
+ * <p>Most batches hold a single record, so the first chunk is sized to fit exactly the first value.
+ * Every further chunk doubles the size of the previous one, up to {@link #MAX_CHUNK_SIZE}, which
+ * keeps the number of chunks of large batches low without reserving memory up front.
+ */
+final class RecordValueArena {
+
+  static final int MAX_CHUNK_SIZE = 16 * 1024;
+
+  private final int maxChunkSize;
+  private byte[] chunk;
+  private int chunkOffset;
+  private long allocatedBytes;
+
+  RecordValueArena() {
+    this(MAX_CHUNK_SIZE);
+  }
+
+  RecordValueArena(final int maxChunkSize) {
+    this.maxChunkSize = maxChunkSize;
+  }
+
+  /**
+   * Writes the given value into the arena.
+   *
+   * @param valueWriter the value to copy
+   * @return a view of the copied value, which does not change when further values are written
+   */
+  DirectBuffer write(final BufferWriter valueWriter) {
+    final int length = valueWriter.getLength();
+    if (chunk == null || chunk.length - chunkOffset < length) {
+      allocateChunk(length);
+    }
+
+    final var valueBuffer = new UnsafeBuffer(chunk, chunkOffset, length);
+    valueWriter.write(valueBuffer, 0);
+    chunkOffset += length;
+    return valueBuffer;
+  }
+
+  /**
+   * @return the total size of all chunks allocated by this arena
+   */
+  long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  private void allocateChunk(final int minLength) {
+    // values which are larger than a chunk get a chunk of their own
+    final int grownSize = chunk == null ? 0 : Math.min(chunk.length * 2, maxChunkSize);
+    chunk = new byte[Math.max(grownSize, minLength)];
+    chunkOffset = 0;
+    allocatedBytes += chunk.length;
+  }
+}
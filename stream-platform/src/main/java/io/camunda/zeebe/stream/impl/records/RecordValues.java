@@ -27,6 +27,25 @@ public final class RecordValues {
     eventCache = Collections.unmodifiableMap(cache);
   }
 
+  /**
+   * Reads the value of the event into a new instance, instead of the cached one. The returned value
+   * is owned by the caller, which makes this method safe to use from other threads.
+   *
+   * @return the new value, or null if there is no value registered for the given type
+   */
+  public static UnifiedRecordValue readNewRecordValue(
+      final LoggedEvent event, final ValueType valueType) {
+    final Class<? extends UnifiedRecordValue> valueClass =
+        TypedEventRegistry.EVENT_REGISTRY.get(valueType);
+    if (valueClass == null) {
+      return null;
+    }
+
+    final UnifiedRecordValue value = ReflectUtil.newInstance(valueClass);
+    event.readValue(value);
+    return value;
+  }
+
   public UnifiedRecordValue readRecordValue(final LoggedEvent event, final ValueType valueType) {
     final UnifiedRecordValue value = eventCache.get(valueType);
     if (value != null) {
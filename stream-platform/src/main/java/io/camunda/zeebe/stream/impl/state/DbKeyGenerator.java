@@ -14,15 +14,27 @@ import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.util.VisibleForTesting;
 
+/**
+ * Generates keys which are unique over all partitions. The latest key is kept in memory, such that
+ * generating a key doesn't need to access the state. It is written to the state only on {@link
+ * #persistKey()}, i.e. once per processing transaction instead of once per generated key.
+ *
+ * <p>Keys which were generated but not persisted are not lost on a fail-over: every generated key
+ * which ends up in a written record is recovered on replay via {@link #setKeyIfHigher(long)}.
+ */
 public final class DbKeyGenerator implements KeyGeneratorControls {
 
   private static final long INITIAL_VALUE = 0;
+  private static final long UNKNOWN_KEY = -1;
 
   private static final String LATEST_KEY = "latestKey";
 
   private final long keyStartValue;
   private final NextValueManager nextValueManager;
 
+  private long currentKey = UNKNOWN_KEY;
+  private boolean hasUnpersistedKey;
+
   /**
    * Initializes the key state with the corresponding partition id, so that unique keys are
    * generated over all partitions.
@@ -38,26 +50,47 @@ public final class DbKeyGenerator implements KeyGeneratorControls {
 
   @Override
   public long nextKey() {
-    return nextValueManager.getNextValue(LATEST_KEY);
+    currentKey = readCurrentKey() + 1;
+    hasUnpersistedKey = true;
+    return currentKey;
   }
 
   /**
-   * Retrieve the current key from the state, since it is only used in tests it is not part of the
-   * interface.
+   * Retrieve the current key, since it is only used in tests it is not part of the interface.
    *
-   * @return the current key from the state
+   * @return the current key
    */
   @VisibleForTesting
   public long getCurrentKey() {
-    return nextValueManager.getCurrentValue(LATEST_KEY);
+    return readCurrentKey();
   }
 
   @Override
   public void setKeyIfHigher(final long key) {
-    final var currentKey = nextValueManager.getCurrentValue(LATEST_KEY);
-
-    if (key > currentKey) {
+    if (key > readCurrentKey()) {
+      currentKey = key;
       nextValueManager.setValue(LATEST_KEY, key);
     }
   }
+
+  @Override
+  public void persistKey() {
+    if (hasUnpersistedKey) {
+      nextValueManager.setValue(LATEST_KEY, currentKey);
+      hasUnpersistedKey = false;
+    }
+  }
+
+  @Override
+  public void resetToPersistedKey() {
+    currentKey = UNKNOWN_KEY;
+    hasUnpersistedKey = false;
+  }
+
+  private long readCurrentKey() {
+    if (currentKey == UNKNOWN_KEY) {
+      currentKey = nextValueManager.getCurrentValue(LATEST_KEY);
+    }
+    return currentKey;
+  }
 }
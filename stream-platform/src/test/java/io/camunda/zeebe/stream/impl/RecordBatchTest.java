@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
@@ -215,4 +216,38 @@ class RecordBatchTest {
     // then
     assertThat(canAppend).isFalse();
   }
+
+  @Test
+  void shouldNotChangeAppendedValuesWhenAppendingMoreRecords() {
+    // given
+    final var recordBatch = new RecordBatch((count, size) -> true);
+    final int recordCount = 200;
+
+    // when
+    for (int i = 0; i < recordCount; i++) {
+      recordBatch.appendRecord(i, RECORD_METADATA, -1, Records.processInstance(i));
+    }
+
+    // then
+    assertThat(recordBatch).hasSize(recordCount);
+    assertThat(recordBatch)
+        .allSatisfy(
+            entry ->
+                assertThat(((ProcessInstanceRecord) entry.recordValue()).getProcessInstanceKey())
+                    .isEqualTo(entry.key()));
+  }
+
+  @Test
+  void shouldCountLengthOfAppendedEntries() {
+    // given
+    final var recordBatch = new RecordBatch((count, size) -> true);
+
+    // when
+    recordBatch.appendRecord(1, RECORD_METADATA, -1, Records.processInstance(1));
+    recordBatch.appendRecord(2, RECORD_METADATA, 0, Records.processInstance(2));
+
+    // then
+    assertThat(recordBatch.getBatchSize())
+        .isEqualTo(recordBatch.entries().stream().mapToInt(LogAppendEntry::getLength).sum());
+  }
 }
@@ -72,6 +72,8 @@ public final class StreamPlatform {
   private final StreamProcessorLifecycleAware mockProcessorLifecycleAware;
   private final StreamProcessorListener mockStreamProcessorListener;
   private TestCommandCache scheduledCommandCache;
+  private int replayReadAheadBatches = 0;
+  private boolean enableRecordMetrics = false;
 
   public StreamPlatform(
       final Path dataDirectory,
@@ -210,6 +212,16 @@ public final class StreamPlatform {
     return this;
   }
 
+  public StreamPlatform withReplayReadAheadBatches(final int replayReadAheadBatches) {
+    this.replayReadAheadBatches = replayReadAheadBatches;
+    return this;
+  }
+
+  public StreamPlatform withRecordMetrics(final boolean enableRecordMetrics) {
+    this.enableRecordMetrics = enableRecordMetrics;
+    return this;
+  }
+
   public StreamProcessorListener getMockStreamProcessorListener() {
     return mockStreamProcessorListener;
   }
@@ -267,6 +279,8 @@ public final class StreamPlatform {
             .streamProcessorMode(processorMode)
             .listener(mockStreamProcessorListener)
             .scheduledCommandCache(scheduledCommandCache)
+            .replayReadAheadBatches(replayReadAheadBatches)
+            .setEnableRecordMetrics(enableRecordMetrics)
             .partitionCommandSender(mock(InterPartitionCommandSender.class));
 
     builder.addLifecycleListener(mockProcessorLifecycleAware);
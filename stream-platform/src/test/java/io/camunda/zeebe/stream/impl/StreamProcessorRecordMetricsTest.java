@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.COMPLETE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_COMPLETING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import io.prometheus.client.CollectorRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorRecordMetricsTest {
+
+  private static final String[] LABEL_NAMES = {"partition", "phase", "valueType", "intent"};
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  @BeforeEach
+  void setup() {
+    streamPlatform
+        .withRecordProcessors(List.of(new StateAccessingRecordProcessor()))
+        .withRecordMetrics(true);
+  }
+
+  @Test
+  void shouldMeasureProcessedCommands() {
+    // given
+    final var activateBefore = RecordSamples.of("processing", ACTIVATE_ELEMENT);
+    final var completeBefore = RecordSamples.of("processing", COMPLETE_ELEMENT);
+    streamPlatform.startStreamProcessor();
+
+    // when - the follow-up command is processed in the same batch
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    await("should measure the follow-up command")
+        .untilAsserted(
+            () ->
+                assertThat(
+                        RecordSamples.of("processing", COMPLETE_ELEMENT)
+                            .minus(completeBefore)
+                            .count())
+                    .isOne());
+
+    final var activate = RecordSamples.of("processing", ACTIVATE_ELEMENT).minus(activateBefore);
+    assertThat(activate)
+        .describedAs("one read, one write, one follow-up event and one follow-up command")
+        .isEqualTo(new RecordSamples(1, 1, 1, 2));
+
+    final var complete = RecordSamples.of("processing", COMPLETE_ELEMENT).minus(completeBefore);
+    assertThat(complete)
+        .describedAs("only the follow-up event written for this command, not the whole batch")
+        .isEqualTo(new RecordSamples(1, 1, 1, 1));
+  }
+
+  @Test
+  void shouldMeasureReplayedEvents() {
+    // given
+    final var activatingBefore = RecordSamples.of("replay", ELEMENT_ACTIVATING);
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0));
+
+    // when
+    streamPlatform.startStreamProcessor();
+
+    // then
+    final var activating = RecordSamples.of("replay", ELEMENT_ACTIVATING).minus(activatingBefore);
+    assertThat(activating)
+        .describedAs("one write and no follow-up records, labeled with the replay phase")
+        .isEqualTo(new RecordSamples(1, 0, 1, 0));
+    assertThat(RecordSamples.of("processing", ELEMENT_ACTIVATING).count())
+        .describedAs("replayed events are not measured as processed")
+        .isZero();
+  }
+
+  private record RecordSamples(long count, long dbReads, long dbWrites, long followUpRecords) {
+
+    private static RecordSamples of(final String phase, final Intent intent) {
+      final var labelValues =
+          new String[] {"1", phase, ValueType.PROCESS_INSTANCE.name(), intent.name()};
+      return new RecordSamples(
+          sample("zeebe_stream_processor_record_duration_count", labelValues),
+          sample("zeebe_stream_processor_record_db_reads_total", labelValues),
+          sample("zeebe_stream_processor_record_db_writes_total", labelValues),
+          sample("zeebe_stream_processor_record_follow_up_records_total", labelValues));
+    }
+
+    private static long sample(final String name, final String[] labelValues) {
+      return Optional.ofNullable(
+              CollectorRegistry.defaultRegistry.getSampleValue(name, LABEL_NAMES, labelValues))
+          .map(Double::longValue)
+          .orElse(0L);
+    }
+
+    private RecordSamples minus(final RecordSamples other) {
+      return new RecordSamples(
+          count - other.count,
+          dbReads - other.dbReads,
+          dbWrites - other.dbWrites,
+          followUpRecords - other.followUpRecords);
+    }
+  }
+
+  /**
+   * Reads and writes the state once per processed command, and writes it once per replayed event.
+   * An activated element is completed by a follow-up command.
+   */
+  private static final class StateAccessingRecordProcessor implements RecordProcessor {
+
+    private final DbLong key = new DbLong();
+    private final DbLong value = new DbLong();
+    private ColumnFamily<DbLong, DbLong> columnFamily;
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {
+      // any column family which is not used by the platform itself
+      columnFamily =
+          recordProcessorContext
+              .getZeebeDb()
+              .createColumnFamily(
+                  ZbColumnFamilies.JOBS,
+                  recordProcessorContext.getTransactionContext(),
+                  key,
+                  value);
+    }
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {
+      key.wrapLong(record.getKey());
+      value.wrapLong(record.getPosition());
+      columnFamily.upsert(key, value);
+    }
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      key.wrapLong(record.getKey());
+      columnFamily.get(key);
+      value.wrapLong(record.getPosition());
+      columnFamily.upsert(key, value);
+
+      if (record.getIntent() == ACTIVATE_ELEMENT) {
+        appendRecord(processingResultBuilder, RecordType.EVENT, ELEMENT_ACTIVATING);
+        appendRecord(processingResultBuilder, RecordType.COMMAND, COMPLETE_ELEMENT);
+      } else {
+        appendRecord(processingResultBuilder, RecordType.EVENT, ELEMENT_COMPLETING);
+      }
+      return processingResultBuilder.build();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      return processingResultBuilder.build();
+    }
+
+    private static void appendRecord(
+        final ProcessingResultBuilder processingResultBuilder,
+        final RecordType recordType,
+        final Intent intent) {
+      processingResultBuilder.appendRecordReturnEither(
+          1,
+          Records.processInstance(1),
+          new RecordMetadata()
+              .recordType(recordType)
+              .intent(intent)
+              .rejectionType(RejectionType.NULL_VAL)
+              .rejectionReason(""));
+    }
+  }
+}
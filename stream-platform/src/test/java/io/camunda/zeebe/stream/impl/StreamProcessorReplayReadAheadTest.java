@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorReplayReadAheadTest {
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  private final List<Long> replayedPositions = new CopyOnWriteArrayList<>();
+  private final List<Long> replayedProcessInstanceKeys = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setup() {
+    streamPlatform.withReplayReadAheadBatches(2);
+
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> record = invocation.getArgument(0);
+              replayedPositions.add(record.getPosition());
+              replayedProcessInstanceKeys.add(
+                  ((ProcessInstanceRecord) record.getValue()).getProcessInstanceKey());
+              return null;
+            })
+        .when(streamPlatform.getDefaultMockedRecordProcessor())
+        .replay(any());
+  }
+
+  @Test
+  void shouldReplayEventsInLogOrder() {
+    // given
+    for (int processInstanceKey = 1; processInstanceKey <= 5; processInstanceKey++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command()
+              .processInstance(ACTIVATE_ELEMENT, Records.processInstance(processInstanceKey)),
+          RecordToWrite.event()
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(processInstanceKey))
+              .causedBy(0));
+    }
+
+    // when
+    streamPlatform.startStreamProcessor();
+
+    // then
+    assertThat(replayedPositions).containsExactly(2L, 4L, 6L, 8L, 10L);
+    assertThat(replayedProcessInstanceKeys).containsExactly(1L, 2L, 3L, 4L, 5L);
+  }
+
+  @Test
+  void shouldRestorePositionsAndKeyFromLog() {
+    // given
+    final var eventKey = Protocol.encodePartitionId(1, 19);
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(eventKey)
+            .causedBy(0));
+
+    // when
+    final var streamProcessor = streamPlatform.startStreamProcessor();
+
+    // then
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(1L));
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(2L));
+
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(1);
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
+  }
+}
@@ -64,6 +64,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InOrder;
+import org.mockito.stubbing.Answer;
 import org.mockito.verification.VerificationWithTimeout;
 
 @ExtendWith(StreamPlatformExtension.class)
@@ -183,6 +184,7 @@ public final class StreamProcessorTest {
     inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onRollback();
     inOrder
         .verify(defaultRecordProcessor, TIMEOUT)
         .onProcessingError(eq(processingError), any(), any());
@@ -1340,12 +1342,52 @@ public final class StreamProcessorTest {
     inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onRollback();
     inOrder
         .verify(defaultRecordProcessor, TIMEOUT)
         .onProcessingError(eq(processingError), any(), any());
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  public void shouldRollbackBeforeRetryingBatchWhichExceededBatchSize() {
+    // given
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var resultBuilderCaptor = ArgumentCaptor.forClass(ProcessingResultBuilder.class);
+    final var processingError =
+        new ExceededBatchRecordSizeException(mock(RecordBatchEntry.class), 10, 1, 1);
+    final Answer<ProcessingResult> appendFollowUpCommand =
+        (invocation) -> {
+          final var resultBuilder = resultBuilderCaptor.getValue();
+          resultBuilder.appendRecordReturnEither(
+              1,
+              Records.processInstance(1),
+              new RecordMetadata()
+                  .recordType(RecordType.COMMAND)
+                  .intent(ACTIVATE_ELEMENT)
+                  .rejectionType(RejectionType.NULL_VAL)
+                  .rejectionReason(""));
+          return resultBuilder.build();
+        };
+    when(defaultRecordProcessor.process(any(), resultBuilderCaptor.capture()))
+        .thenAnswer(appendFollowUpCommand)
+        .thenThrow(processingError)
+        .thenAnswer(appendFollowUpCommand)
+        .thenReturn(EmptyProcessingResult.INSTANCE);
+    streamPlatform.startStreamProcessor();
+
+    // when - the follow-up command exceeds the batch size, so the batch is retried without it
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    final var inOrder = inOrder(defaultRecordProcessor);
+    inOrder.verify(defaultRecordProcessor, TIMEOUT.times(2)).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onRollback();
+    inOrder.verify(defaultRecordProcessor, TIMEOUT.times(2)).process(any(), any());
+    verify(defaultRecordProcessor, never()).onProcessingError(any(), any(), any());
+  }
+
   @Test
   void shouldRemoveCachedScheduledCommandOnProcess() {
     // given
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl.records;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class RecordValueArenaTest {
+
+  @Test
+  void shouldOnlyAllocateValueLengthForSingleValue() {
+    // given
+    final var arena = new RecordValueArena();
+
+    // when
+    arena.write(valueOfLength(100));
+
+    // then
+    assertThat(arena.getAllocatedBytes()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldGrowChunksUpToMaxChunkSize() {
+    // given
+    final var arena = new RecordValueArena(1024);
+
+    // when - chunks of 100, 200, 400, 800, 1024 and 1024 bytes hold 1, 2, 4, 8, 10 and 10 values
+    for (int i = 0; i < 35; i++) {
+      arena.write(valueOfLength(100));
+    }
+
+    // then
+    assertThat(arena.getAllocatedBytes()).isEqualTo(100 + 200 + 400 + 800 + 1024 + 1024);
+  }
+
+  @Test
+  void shouldAllocateOwnChunkForLargeValue() {
+    // given
+    final var arena = new RecordValueArena(1024);
+    arena.write(valueOfLength(100));
+
+    // when
+    arena.write(valueOfLength(4096));
+
+    // then
+    assertThat(arena.getAllocatedBytes()).isEqualTo(100 + 4096);
+  }
+
+  @Test
+  void shouldNotOverwritePreviouslyWrittenValues() {
+    // given
+    final var arena = new RecordValueArena(16);
+    final var first = arena.write(new DirectBufferWriter().wrap(BufferUtil.wrapString("first")));
+
+    // when
+    final var second = arena.write(new DirectBufferWriter().wrap(BufferUtil.wrapString("second")));
+
+    // then
+    assertThat(BufferUtil.bufferAsString(first)).isEqualTo("first");
+    assertThat(BufferUtil.bufferAsString(second)).isEqualTo("second");
+  }
+
+  private static DirectBufferWriter valueOfLength(final int length) {
+    return new DirectBufferWriter().wrap(new UnsafeBuffer(new byte[length]));
+  }
+}
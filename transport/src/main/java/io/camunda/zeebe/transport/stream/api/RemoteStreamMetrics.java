@@ -21,6 +21,12 @@ public interface RemoteStreamMetrics {
   /** Invoked if pushing a payload to a stream failed */
   default void pushFailed() {}
 
+  /** Invoked when multiple payloads are coalesced and pushed as a single batch */
+  default void batchPushed(final int batchSize) {}
+
+  /** Invoked when a batched push is acknowledged or failed, with its round trip time */
+  default void batchPushLatency(final long latencyNanos) {}
+
   static RemoteStreamMetrics noop() {
     return new RemoteStreamMetrics() {};
   }
@@ -15,6 +15,8 @@ import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
 import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponse;
@@ -42,6 +44,22 @@ final class ClientStreamApiHandler {
     return responseFuture;
   }
 
+  /**
+   * Unbatches the given request, and pushes each payload exactly as if it had been pushed on its
+   * own. The response contains the result of each push, in the order of the batch.
+   */
+  CompletableFuture<StreamResponse> handlePushBatchRequest(final PushStreamBatchRequest request) {
+    final var responses = request.requests().stream().map(this::handlePushRequest).toList();
+
+    return CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+        .thenApply(
+            ok -> {
+              final var batchResponse = new PushStreamBatchResponse();
+              responses.forEach(response -> batchResponse.addResponse(response.join()));
+              return batchResponse;
+            });
+  }
+
   byte[] handleRestartRequest(final MemberId sender, final byte[] ignored) {
     clientStreamManager.onServerRemoved(MemberId.from(sender.id()));
     clientStreamManager.onServerJoined(MemberId.from(sender.id()));
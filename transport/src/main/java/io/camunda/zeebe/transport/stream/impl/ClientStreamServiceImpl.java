@@ -62,6 +62,13 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
         BufferUtil::bufferAsArray,
         actor::run);
 
+    communicationService.replyToAsync(
+        StreamTopics.PUSH_BATCH.topic(),
+        MessageUtil::parsePushBatchRequest,
+        apiHandler::handlePushBatchRequest,
+        BufferUtil::bufferAsArray,
+        actor::run);
+
     communicationService.replyTo(
         StreamTopics.RESTART_STREAMS.topic(),
         Function.identity(),
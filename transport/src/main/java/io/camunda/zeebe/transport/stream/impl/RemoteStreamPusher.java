@@ -8,21 +8,30 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponseDecoder;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,9 +39,22 @@ import org.slf4j.LoggerFactory;
  * A naive implementation to push jobs out, which performs no retries of any kind, but reports
  * errors on failure.
  *
+ * <p>Payloads pushed to the same stream are coalesced opportunistically: every push is first
+ * enqueued on the executor, and the queue of a stream is flushed via the flush executor, which must
+ * run the flush only after all pushes submitted before it have been enqueued (e.g. {@code
+ * actor::submit}, as opposed to {@code actor::run}, which runs jobs submitted from within the actor
+ * first). When payloads are pushed faster than the executor can send them
+ * out, they are sent as a single {@link PushStreamBatchRequest} of up to {@link #MAX_BATCH_SIZE}
+ * entries; otherwise, each payload is sent on its own, without any added latency. Errors are still
+ * reported per payload. If the receiver does not support batches, the payloads are pushed one by
+ * one, and batching is disabled for that receiver for {@link #BATCHING_RETRY_INTERVAL}, after which
+ * it is tried again, e.g. because the receiver was updated in the meantime.
+ *
  * @param <P> the payload type to be pushed out
  */
 final class RemoteStreamPusher<P extends BufferWriter> {
+  static final int MAX_BATCH_SIZE = 32;
+  static final Duration BATCHING_RETRY_INTERVAL = Duration.ofMinutes(1);
   private static final Logger LOG = LoggerFactory.getLogger(RemoteStreamPusher.class);
 
   private final StreamResponseDecoder responseDecoder = new StreamResponseDecoder();
@@ -42,12 +64,47 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private final RemoteStreamMetrics metrics;
   private final Transport transport;
   private final Executor executor;
+  private final Executor flushExecutor;
+  private final LongSupplier nanoClock;
+
+  private final Map<StreamId, List<PendingPush<P>>> pendingPushes = new HashMap<>();
+  // receivers which do not support batches, mapped to the time (in nanos) at which batching is
+  // tried again; expired entries are dropped, so members which left are not retained
+  private final Map<MemberId, Long> batchingUnsupported = new HashMap<>();
 
   RemoteStreamPusher(
       final Transport transport, final Executor executor, final RemoteStreamMetrics metrics) {
+    this(transport, executor, executor, metrics);
+  }
+
+  RemoteStreamPusher(
+      final Transport transport,
+      final Executor executor,
+      final Executor flushExecutor,
+      final RemoteStreamMetrics metrics) {
+    this(transport, executor, flushExecutor, metrics, System::nanoTime);
+  }
+
+  RemoteStreamPusher(
+      final Transport transport,
+      final Executor executor,
+      final RemoteStreamMetrics metrics,
+      final LongSupplier nanoClock) {
+    this(transport, executor, executor, metrics, nanoClock);
+  }
+
+  RemoteStreamPusher(
+      final Transport transport,
+      final Executor executor,
+      final Executor flushExecutor,
+      final RemoteStreamMetrics metrics,
+      final LongSupplier nanoClock) {
     this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
     this.transport = Objects.requireNonNull(transport, "must provide a network transport");
     this.executor = Objects.requireNonNull(executor, "must provide an asynchronous executor");
+    this.flushExecutor =
+        Objects.requireNonNull(flushExecutor, "must provide an asynchronous flush executor");
+    this.nanoClock = Objects.requireNonNull(nanoClock, "must provide a clock");
   }
 
   public void pushAsync(
@@ -55,8 +112,33 @@ final class RemoteStreamPusher<P extends BufferWriter> {
     Objects.requireNonNull(payload, "must specify a payload");
     Objects.requireNonNull(errorHandler, "must specify a error handler");
 
-    executor.execute(
-        () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+    final var push = new PendingPush<>(payload, instrumentingErrorHandler(errorHandler, streamId));
+    executor.execute(() -> enqueue(push, streamId));
+  }
+
+  private void enqueue(final PendingPush<P> push, final StreamId streamId) {
+    final var pending = pendingPushes.computeIfAbsent(streamId, id -> new ArrayList<>());
+    pending.add(push);
+
+    if (pending.size() == 1) {
+      // runs after all pushes which were already submitted to the executor have been enqueued
+      flushExecutor.execute(() -> flush(streamId));
+    } else if (pending.size() >= MAX_BATCH_SIZE) {
+      flush(streamId);
+    }
+  }
+
+  private void flush(final StreamId streamId) {
+    final var pending = pendingPushes.remove(streamId);
+    if (pending == null || pending.isEmpty()) {
+      return;
+    }
+
+    if (pending.size() == 1 || isBatchingDisabled(streamId.receiver())) {
+      pending.forEach(push -> push(push.payload(), push.errorHandler(), streamId));
+    } else {
+      pushBatch(pending, streamId);
+    }
   }
 
   private RemoteStreamErrorHandler<P> instrumentingErrorHandler(
@@ -97,6 +179,103 @@ final class RemoteStreamPusher<P extends BufferWriter> {
     }
   }
 
+  private void pushBatch(final List<PendingPush<P>> pushes, final StreamId streamId) {
+    final var request = new PushStreamBatchRequest();
+    pushes.forEach(
+        push ->
+            request.addRequest(
+                new PushStreamRequest().streamId(streamId.streamId()).payload(push.payload())));
+
+    metrics.batchPushed(pushes.size());
+    final var startNanos = System.nanoTime();
+    try {
+      transport
+          .sendBatch(request, streamId.receiver())
+          .whenCompleteAsync(
+              (response, error) -> {
+                metrics.batchPushLatency(System.nanoTime() - startNanos);
+                onBatchPush(pushes, streamId, response, error);
+              },
+              executor);
+      LOG.trace("Pushed batch of {} payloads to stream {}", pushes.size(), streamId);
+    } catch (final Exception e) {
+      pushes.forEach(push -> push.errorHandler().handleError(e, push.payload()));
+    }
+  }
+
+  private void onBatchPush(
+      final List<PendingPush<P>> pushes,
+      final StreamId streamId,
+      final byte[] responseBuffer,
+      final Throwable error) {
+    if (error != null) {
+      if (isBatchingUnsupported(error)) {
+        LOG.debug(
+            "Receiver {} does not support batched pushes, pushing payloads one by one",
+            streamId.receiver());
+        disableBatching(streamId.receiver());
+        pushes.forEach(push -> push(push.payload(), push.errorHandler(), streamId));
+      } else {
+        pushes.forEach(push -> push.errorHandler().handleError(error, push.payload()));
+      }
+      return;
+    }
+
+    responseDecoder
+        .decode(responseBuffer, new PushStreamBatchResponse())
+        .mapLeft(ErrorResponse::asException)
+        .ifRightOrLeft(
+            response -> onBatchResponse(pushes, response),
+            failure ->
+                pushes.forEach(push -> push.errorHandler().handleError(failure, push.payload())));
+  }
+
+  private void onBatchResponse(
+      final List<PendingPush<P>> pushes, final PushStreamBatchResponse response) {
+    final var responses = response.encodedResponses();
+    for (int i = 0; i < pushes.size(); i++) {
+      final var push = pushes.get(i);
+      if (i < responses.size()) {
+        onPush(push.payload(), push.errorHandler(), responses.get(i), null);
+      } else {
+        push.errorHandler()
+            .handleError(
+                new ErrorResponse()
+                    .code(ErrorCode.MALFORMED)
+                    .message(
+                        "Expected %d responses to batched push, but got %d"
+                            .formatted(pushes.size(), responses.size()))
+                    .asException(),
+                push.payload());
+      }
+    }
+  }
+
+  private boolean isBatchingDisabled(final MemberId receiver) {
+    final var retryAt = batchingUnsupported.get(receiver);
+    if (retryAt == null) {
+      return false;
+    }
+
+    if (nanoClock.getAsLong() - retryAt < 0) {
+      return true;
+    }
+
+    batchingUnsupported.remove(receiver);
+    return false;
+  }
+
+  private void disableBatching(final MemberId receiver) {
+    final var now = nanoClock.getAsLong();
+    batchingUnsupported.values().removeIf(retryAt -> now - retryAt >= 0);
+    batchingUnsupported.put(receiver, now + BATCHING_RETRY_INTERVAL.toNanos());
+  }
+
+  private boolean isBatchingUnsupported(final Throwable error) {
+    final var cause = error instanceof CompletionException ? error.getCause() : error;
+    return cause instanceof NoRemoteHandler || cause instanceof UnsupportedOperationException;
+  }
+
   private void onPush(
       final P payload,
       final RemoteStreamErrorHandler<P> errorHandler,
@@ -133,5 +312,26 @@ final class RemoteStreamPusher<P extends BufferWriter> {
      */
     CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver)
         throws Exception;
+
+    /**
+     * Sends the given batch of requests out to the given receiver. The returned future is
+     * completed with a {@link PushStreamBatchResponse} containing one response per request. May
+     * throw errors, e.g. serialization errors.
+     *
+     * <p>By default, batching is unsupported, and every payload is sent on its own.
+     *
+     * @param request the batch request to send
+     * @param receiver the expected target
+     * @return a future which is completed when the request has been acknowledged by the receiver,
+     *     or an error occurred
+     * @throws Exception if an error occurs before the request is sent out, i.e. serialization error
+     */
+    default CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception {
+      return CompletableFuture.failedFuture(
+          new UnsupportedOperationException("Batched pushes are not supported"));
+    }
   }
+
+  private record PendingPush<P>(P payload, RemoteStreamErrorHandler<P> errorHandler) {}
 }
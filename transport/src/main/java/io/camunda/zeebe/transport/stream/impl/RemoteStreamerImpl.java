@@ -14,6 +14,7 @@ import io.camunda.zeebe.transport.stream.api.RemoteStream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -56,7 +57,10 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
 
-    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
+    // flushes are submitted to the end of the actor's queue, after the pushes already queued, as
+    // actor::run would run them right after the push which scheduled them
+    remoteStreamPusher =
+        new RemoteStreamPusher<>(new PushTransport(), actor::run, actor::submit, metrics);
   }
 
   @Override
@@ -89,13 +93,30 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     return Optional.empty();
   }
 
-  private CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver) {
-    return transport.send(
-        StreamTopics.PUSH.topic(),
-        request,
-        BufferUtil::bufferAsArray,
-        Function.identity(),
-        receiver,
-        REQUEST_TIMEOUT);
+  private final class PushTransport implements RemoteStreamPusher.Transport {
+
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushStreamRequest request, final MemberId receiver) {
+      return transport.send(
+          StreamTopics.PUSH.topic(),
+          request,
+          BufferUtil::bufferAsArray,
+          Function.identity(),
+          receiver,
+          REQUEST_TIMEOUT);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      return transport.send(
+          StreamTopics.PUSH_BATCH.topic(),
+          request,
+          BufferUtil::bufferAsArray,
+          Function.identity(),
+          receiver,
+          REQUEST_TIMEOUT);
+    }
   }
 }
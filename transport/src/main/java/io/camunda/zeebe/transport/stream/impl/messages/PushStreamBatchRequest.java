@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequestDecoder.RequestsDecoder;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequestEncoder.RequestsEncoder;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Pushes multiple payloads in a single request. Each entry is a complete {@link PushStreamRequest},
+ * such that the receiver can handle each of them exactly as if it was sent on its own.
+ */
+public final class PushStreamBatchRequest implements BufferReader, BufferWriter {
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final PushStreamBatchRequestEncoder messageEncoder = new PushStreamBatchRequestEncoder();
+  private final PushStreamBatchRequestDecoder messageDecoder = new PushStreamBatchRequestDecoder();
+
+  private final ExpandableArrayBuffer requestBuffer = new ExpandableArrayBuffer();
+  private final List<PushStreamRequest> requests = new ArrayList<>();
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    requests.clear();
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+
+    for (final RequestsDecoder requestDecoder : messageDecoder.requests()) {
+      final var requestView = new UnsafeBuffer();
+      requestDecoder.wrapRequest(requestView);
+
+      final var request = new PushStreamRequest();
+      request.wrap(requestView, 0, requestView.capacity());
+      requests.add(request);
+    }
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        headerEncoder.encodedLength()
+            + messageEncoder.sbeBlockLength()
+            + RequestsEncoder.sbeHeaderSize();
+    for (final var request : requests) {
+      length += RequestsEncoder.requestHeaderLength() + request.getLength();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    final var requestsEncoder = messageEncoder.requestsCount(requests.size());
+    for (final var request : requests) {
+      request.write(requestBuffer, 0);
+      requestsEncoder.next().putRequest(requestBuffer, 0, request.getLength());
+    }
+  }
+
+  /** Returns the requests after a call to {@link #wrap(DirectBuffer, int, int)} */
+  public List<PushStreamRequest> requests() {
+    return requests;
+  }
+
+  public PushStreamBatchRequest addRequest(final PushStreamRequest request) {
+    requests.add(Objects.requireNonNull(request, "must specify a request"));
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(requests);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final PushStreamBatchRequest that = (PushStreamBatchRequest) o;
+    return Objects.equals(requests, that.requests);
+  }
+
+  @Override
+  public String toString() {
+    return "PushStreamBatchRequest{" + "requests=" + requests + '}';
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponseDecoder.ResponsesDecoder;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponseEncoder.ResponsesEncoder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Result of a {@link PushStreamBatchRequest}. Contains one encoded {@link PushStreamResponse} or
+ * {@link ErrorResponse} per pushed payload, in the same order as the requests of the batch.
+ */
+public final class PushStreamBatchResponse implements StreamResponse {
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final PushStreamBatchResponseEncoder messageEncoder =
+      new PushStreamBatchResponseEncoder();
+  private final PushStreamBatchResponseDecoder messageDecoder =
+      new PushStreamBatchResponseDecoder();
+
+  private final ExpandableArrayBuffer responseBuffer = new ExpandableArrayBuffer();
+  private final List<StreamResponse> responses = new ArrayList<>();
+  private final List<byte[]> encodedResponses = new ArrayList<>();
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    encodedResponses.clear();
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+
+    for (final ResponsesDecoder responseDecoder : messageDecoder.responses()) {
+      final var response = new byte[responseDecoder.responseLength()];
+      responseDecoder.getResponse(response, 0, response.length);
+      encodedResponses.add(response);
+    }
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        headerEncoder.encodedLength()
+            + messageEncoder.sbeBlockLength()
+            + ResponsesEncoder.sbeHeaderSize();
+    for (final var response : responses) {
+      length += ResponsesEncoder.responseHeaderLength() + response.getLength();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    final var responsesEncoder = messageEncoder.responsesCount(responses.size());
+    for (final var response : responses) {
+      response.write(responseBuffer, 0);
+      responsesEncoder.next().putResponse(responseBuffer, 0, response.getLength());
+    }
+  }
+
+  @Override
+  public int templateId() {
+    return messageDecoder.sbeTemplateId();
+  }
+
+  /**
+   * Returns the encoded responses, one per pushed payload, after a call to {@link #wrap(DirectBuffer,
+   * int, int)}. Each of them can be decoded via {@link StreamResponseDecoder}.
+   */
+  public List<byte[]> encodedResponses() {
+    return encodedResponses;
+  }
+
+  public PushStreamBatchResponse addResponse(final StreamResponse response) {
+    responses.add(Objects.requireNonNull(response, "must specify a response"));
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "PushStreamBatchResponse{" + "responses=" + responses.size() + '}';
+  }
+}
@@ -15,15 +15,22 @@ import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
+import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
+import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.MutableDirectBuffer;
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +59,130 @@ final class RemoteStreamPusherTest {
     assertThat(sentRequest.receiver).isEqualTo(streamId.receiver());
   }
 
+  @Test
+  void shouldBatchPushesToSameStream() {
+    // given
+    final var tasks = new ArrayDeque<Runnable>();
+    final var batchingPusher =
+        new RemoteStreamPusher<Payload>(transport, tasks::add, RemoteStreamMetrics.noop());
+    final var errorHandler = new TestErrorHandler();
+    transport.batchResponse =
+        CompletableFuture.completedFuture(
+            BufferUtil.bufferAsArray(
+                new PushStreamBatchResponse()
+                    .addResponse(new PushStreamResponse())
+                    .addResponse(new PushStreamResponse())
+                    .addResponse(new PushStreamResponse())));
+
+    // when
+    batchingPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(2), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(3), errorHandler, streamId);
+    runAll(tasks);
+
+    // then
+    assertThat(errorHandler.errors).isEmpty();
+    assertThat(transport.message).isNull();
+    assertThat(transport.batch).isNotNull();
+    assertThat(transport.batch.receiver).isEqualTo(streamId.receiver());
+    assertThat(transport.batch.request.requests())
+        .extracting(PushStreamRequest::payloadWriter)
+        .containsExactly(new Payload(1), new Payload(2), new Payload(3));
+  }
+
+  @Test
+  void shouldReportErrorsPerBatchedPayload() {
+    // given
+    final var tasks = new ArrayDeque<Runnable>();
+    final var batchingPusher =
+        new RemoteStreamPusher<Payload>(transport, tasks::add, RemoteStreamMetrics.noop());
+    final var errorHandler = new TestErrorHandler();
+    transport.batchResponse =
+        CompletableFuture.completedFuture(
+            BufferUtil.bufferAsArray(
+                new PushStreamBatchResponse()
+                    .addResponse(new PushStreamResponse())
+                    .addResponse(new ErrorResponse().code(ErrorCode.BLOCKED).message("blocked"))));
+
+    // when
+    batchingPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(2), errorHandler, streamId);
+    runAll(tasks);
+
+    // then
+    assertThat(errorHandler.errors)
+        .hasSize(1)
+        .first()
+        .extracting(TestErrorHandler.Error::payload)
+        .isEqualTo(new Payload(2));
+  }
+
+  @Test
+  void shouldFallBackToSinglePushesIfBatchingUnsupported() {
+    // given
+    final var tasks = new ArrayDeque<Runnable>();
+    final var batchingPusher =
+        new RemoteStreamPusher<Payload>(transport, tasks::add, RemoteStreamMetrics.noop());
+    final var errorHandler = new TestErrorHandler();
+    transport.batchResponse =
+        CompletableFuture.failedFuture(new UnsupportedOperationException("not supported"));
+
+    // when
+    batchingPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(2), errorHandler, streamId);
+    runAll(tasks);
+
+    // then
+    assertThat(errorHandler.errors).isEmpty();
+    assertThat(transport.message).isNotNull();
+    assertThat(transport.message.request.payloadWriter()).isEqualTo(new Payload(2));
+  }
+
+  @Test
+  void shouldRetryBatchingAfterInterval() {
+    // given
+    final var tasks = new ArrayDeque<Runnable>();
+    final var clock = new AtomicLong();
+    final var batchingPusher =
+        new RemoteStreamPusher<Payload>(
+            transport, tasks::add, RemoteStreamMetrics.noop(), clock::get);
+    final var errorHandler = new TestErrorHandler();
+    transport.batchResponse =
+        CompletableFuture.failedFuture(new UnsupportedOperationException("not supported"));
+    batchingPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(2), errorHandler, streamId);
+    runAll(tasks);
+
+    // when - pushing within the retry interval
+    transport.batch = null;
+    batchingPusher.pushAsync(new Payload(3), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(4), errorHandler, streamId);
+    runAll(tasks);
+
+    // then
+    assertThat(transport.batch).isNull();
+    assertThat(transport.message.request.payloadWriter()).isEqualTo(new Payload(4));
+
+    // when - pushing after the retry interval
+    clock.addAndGet(RemoteStreamPusher.BATCHING_RETRY_INTERVAL.toNanos());
+    transport.batchResponse =
+        CompletableFuture.completedFuture(
+            BufferUtil.bufferAsArray(
+                new PushStreamBatchResponse()
+                    .addResponse(new PushStreamResponse())
+                    .addResponse(new PushStreamResponse())));
+    batchingPusher.pushAsync(new Payload(5), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(6), errorHandler, streamId);
+    runAll(tasks);
+
+    // then
+    assertThat(errorHandler.errors).isEmpty();
+    assertThat(transport.batch).isNotNull();
+    assertThat(transport.batch.request.requests())
+        .extracting(PushStreamRequest::payloadWriter)
+        .containsExactly(new Payload(5), new Payload(6));
+  }
+
   @Test
   void shouldReportTransportError() {
     // given
@@ -110,6 +241,12 @@ final class RemoteStreamPusherTest {
         .isInstanceOf(NullPointerException.class);
   }
 
+  private static void runAll(final Queue<Runnable> tasks) {
+    while (!tasks.isEmpty()) {
+      tasks.poll().run();
+    }
+  }
+
   private record Payload(int version) implements BufferWriter {
 
     @Override
@@ -140,7 +277,9 @@ final class RemoteStreamPusherTest {
   private static final class TestTransport implements Transport {
     private CompletableFuture<byte[]> response =
         CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
+    private CompletableFuture<byte[]> batchResponse;
     private Message message;
+    private BatchMessage batch;
     private Exception synchronousException;
 
     @Override
@@ -154,6 +293,19 @@ final class RemoteStreamPusherTest {
       return response;
     }
 
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception {
+      if (synchronousException != null) {
+        throw synchronousException;
+      }
+
+      batch = new BatchMessage(request, receiver);
+      return batchResponse;
+    }
+
     private record Message(PushStreamRequest request, MemberId receiver) {}
+
+    private record BatchMessage(PushStreamBatchRequest request, MemberId receiver) {}
   }
 }
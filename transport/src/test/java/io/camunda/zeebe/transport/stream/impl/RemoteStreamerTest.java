@@ -14,6 +14,7 @@ import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerExtension;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferReader;
@@ -21,6 +22,7 @@ import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -29,6 +31,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 final class RemoteStreamerTest {
@@ -123,6 +126,52 @@ final class RemoteStreamerTest {
             Mockito.any());
   }
 
+  @Test
+  void shouldBatchPushesQueuedOnActor() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamId = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    registry.add(type, streamId.streamId(), streamId.receiver(), new TestMetadata(1));
+    Mockito.when(
+            communicationService.send(
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any(MemberId.class),
+                Mockito.any()))
+        .thenReturn(new CompletableFuture<>());
+    final var stream = streamer.streamFor(type).orElseThrow();
+
+    // when
+    stream.push(new TestPayload(1));
+    stream.push(new TestPayload(2));
+    stream.push(new TestPayload(3));
+    scheduler.workUntilDone();
+
+    // then
+    final var captor = ArgumentCaptor.forClass(PushStreamBatchRequest.class);
+    Mockito.verify(communicationService, Mockito.timeout(5_000).times(1))
+        .send(
+            Mockito.eq(StreamTopics.PUSH_BATCH.topic()),
+            captor.capture(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.eq(streamId.receiver()),
+            Mockito.any());
+    Mockito.verify(communicationService, Mockito.never())
+        .send(
+            Mockito.eq(StreamTopics.PUSH.topic()),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(MemberId.class),
+            Mockito.any());
+    assertThat(captor.getValue().requests())
+        .extracting(PushStreamRequest::payloadWriter)
+        .containsExactly(new TestPayload(1), new TestPayload(2), new TestPayload(3));
+  }
+
   private record TestPayload(long key) implements BufferWriter {
 
     @Override
@@ -10,6 +10,7 @@ package io.camunda.zeebe.transport.stream.impl.messages;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
+import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.util.UUID;
@@ -124,6 +125,56 @@ final class SerializationTest {
     assertThat(deserialized.payload()).isEqualTo(BufferUtil.wrapString("foo"));
   }
 
+  @Test
+  void shouldSerializePushStreamBatchRequest() {
+    // given
+    final var streamId = UUID.randomUUID();
+    final var request =
+        new PushStreamBatchRequest()
+            .addRequest(
+                new PushStreamRequest().streamId(streamId).payload(BufferUtil.wrapString("foo")))
+            .addRequest(
+                new PushStreamRequest().streamId(streamId).payload(BufferUtil.wrapString("bar")));
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new PushStreamBatchRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.requests())
+        .extracting(PushStreamRequest::streamId)
+        .containsExactly(streamId, streamId);
+    assertThat(deserialized.requests())
+        .extracting(PushStreamRequest::payload)
+        .containsExactly(BufferUtil.wrapString("foo"), BufferUtil.wrapString("bar"));
+  }
+
+  @Test
+  void shouldSerializePushStreamBatchResponse() {
+    // given
+    final var response =
+        new PushStreamBatchResponse()
+            .addResponse(new PushStreamResponse())
+            .addResponse(new ErrorResponse().code(ErrorCode.BLOCKED).message("blocked"));
+    final var decoder = new StreamResponseDecoder();
+
+    // when
+    response.write(buffer, 0);
+    final var deserialized = new PushStreamBatchResponse();
+    deserialized.wrap(buffer, 0, response.getLength());
+
+    // then
+    assertThat(deserialized.encodedResponses()).hasSize(2);
+    assertThat(decoder.decode(deserialized.encodedResponses().get(0), new PushStreamResponse()))
+        .matches(Either::isRight);
+    assertThat(decoder.decode(deserialized.encodedResponses().get(1), new PushStreamResponse()))
+        .matches(Either::isLeft)
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::code)
+        .isEqualTo(ErrorCode.BLOCKED);
+  }
+
   @Test
   void shouldSerializePushStreamResponse() {
     // given
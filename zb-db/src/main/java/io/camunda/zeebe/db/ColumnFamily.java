@@ -7,8 +7,10 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Represents an column family, where it is possible to store keys of type {@link KeyType} and
@@ -44,6 +46,24 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of multiple keys at once. This is cheaper than calling {@link #get(DbKey)}
+   * for every key, since the lookups are batched into a single read. Writes of the current
+   * transaction are visible to the lookup, the same as for {@link #get(DbKey)}.
+   *
+   * <p>The given key mapper is called once per item to produce its key, which means it can wrap a
+   * reused key instance. Afterwards the visitor is called once per item, in the order of the given
+   * list, with the corresponding value or null if the key was not found. Be aware that the given
+   * DbValue is reused between the visits, it should not be stored.
+   *
+   * @param items the items to look up the values for
+   * @param keyMapper maps an item to the key to look up
+   * @param visitor the visitor which accepts each item together with its value
+   * @param <T> the type of the items
+   */
+  <T> void multiGet(
+      List<T> items, Function<T, KeyType> keyMapper, BiConsumer<T, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -38,4 +38,21 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Returns the number of reads this transaction sent to the database since it was created, which
+   * are point lookups, keys of batched lookups and opened iterators. Reads which are served from a
+   * cache are not counted. The count is never reset, so callers measure the difference.
+   *
+   * @return the number of reads sent to the database
+   */
+  long getReadCount();
+
+  /**
+   * Returns the number of writes, i.e. puts and deletes, this transaction sent to the database
+   * since it was created. The count is never reset, so callers measure the difference.
+   *
+   * @return the number of writes sent to the database
+   */
+  long getWriteCount();
 }
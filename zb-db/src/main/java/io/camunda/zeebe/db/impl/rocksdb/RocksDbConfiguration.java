@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db.impl.rocksdb;
 
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -43,6 +44,8 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  public static final int DEFAULT_HOT_RECORD_CACHE_SIZE = 0;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -72,6 +75,16 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * Maximum number of entries kept in the on-heap cache of recently read and written values, per
+   * column family. Reads of cached keys don't have to go through RocksDB. Setting to 0 (the
+   * default) or less disables the cache.
+   */
+  private int hotRecordCacheSize = DEFAULT_HOT_RECORD_CACHE_SIZE;
+
+  /** Names of the column families which are cached; if empty, all column families are cached. */
+  private Set<String> hotRecordCacheColumnFamilies = Set.of();
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +168,23 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public int getHotRecordCacheSize() {
+    return hotRecordCacheSize;
+  }
+
+  public RocksDbConfiguration setHotRecordCacheSize(final int hotRecordCacheSize) {
+    this.hotRecordCacheSize = hotRecordCacheSize;
+    return this;
+  }
+
+  public Set<String> getHotRecordCacheColumnFamilies() {
+    return hotRecordCacheColumnFamilies;
+  }
+
+  public RocksDbConfiguration setHotRecordCacheColumnFamilies(
+      final Set<String> hotRecordCacheColumnFamilies) {
+    this.hotRecordCacheColumnFamilies = Set.copyOf(hotRecordCacheColumnFamilies);
+    return this;
+  }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * A size bounded, least recently used cache of the committed values of one column family. It is
+ * shared by all {@link TransactionalColumnFamily} instances of the same column family and
+ * database, regardless of their transaction context.
+ *
+ * <p>The cache only contains committed data: writes of a transaction are kept in the pending layer
+ * of the {@link ZeebeTransaction}, and are only applied to the cache once the transaction is
+ * committed (see {@link #applyCommitted(Map)}). Values which are read from the database are added
+ * only if no transaction was committed to the cache in the meantime, such that a concurrent reader
+ * can't overwrite a newer value with the one it read before.
+ *
+ * <p>Keys which are known to not exist are cached as {@link #ABSENT}.
+ */
+final class HotRecordCache {
+
+  /** Marks a key which does not exist; compared by identity. */
+  static final byte[] ABSENT = new byte[0];
+
+  private final LinkedHashMap<CacheKey, byte[]> entries;
+  private final HotRecordCacheMetrics metrics;
+  private long version;
+
+  HotRecordCache(final int maxEntries, final String columnFamilyName) {
+    entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Entry<CacheKey, byte[]> eldest) {
+            return size() > maxEntries;
+          }
+        };
+    metrics = new HotRecordCacheMetrics(columnFamilyName);
+  }
+
+  /**
+   * @return the cached value, {@link #ABSENT} if the key is known to not exist, or null if the key
+   *     is not cached
+   */
+  synchronized byte[] get(final CacheKey key) {
+    final var value = entries.get(key);
+    if (value != null) {
+      metrics.hit();
+    } else {
+      metrics.miss();
+    }
+    return value;
+  }
+
+  /**
+   * @return the current version, which has to be passed to {@link #putIfUnchanged(long, CacheKey,
+   *     byte[])} when adding a value read from the database
+   */
+  synchronized long getVersion() {
+    return version;
+  }
+
+  /** Adds a value read from the database, unless a transaction was committed since then. */
+  synchronized void putIfUnchanged(final long readVersion, final CacheKey key, final byte[] value) {
+    if (version == readVersion) {
+      entries.put(key, value);
+    }
+  }
+
+  /** Applies the writes of a committed transaction. */
+  synchronized void applyCommitted(final Map<CacheKey, byte[]> writes) {
+    version++;
+    entries.putAll(writes);
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  /** An immutable copy of a key, including the column family prefix. */
+  static final class CacheKey {
+    private final byte[] bytes;
+    private final int hashCode;
+
+    private CacheKey(final byte[] bytes) {
+      this.bytes = bytes;
+      hashCode = Arrays.hashCode(bytes);
+    }
+
+    static CacheKey copyOf(final byte[] buffer, final int length) {
+      return new CacheKey(Arrays.copyOf(buffer, length));
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final CacheKey cacheKey = (CacheKey) o;
+      return hashCode == cacheKey.hashCode && Arrays.equals(bytes, cacheKey.bytes);
+    }
+  }
+}
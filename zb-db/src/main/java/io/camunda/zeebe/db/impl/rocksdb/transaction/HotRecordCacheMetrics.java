@@ -0,0 +1,37 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.prometheus.client.Counter;
+
+final class HotRecordCacheMetrics {
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("db_hot_record_cache_lookups_total")
+          .help("Number of lookups in the hot record cache of a column family, by result")
+          .labelNames("columnFamily", "result")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+
+  HotRecordCacheMetrics(final String columnFamilyName) {
+    hits = LOOKUPS.labels(columnFamilyName, "hit");
+    misses = LOOKUPS.labels(columnFamilyName, "miss");
+  }
+
+  void hit() {
+    hits.inc();
+  }
+
+  void miss() {
+    misses.inc();
+  }
+}
@@ -17,11 +17,16 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.HotRecordCache.CacheKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import org.agrona.DirectBuffer;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
@@ -53,6 +58,8 @@ class TransactionalColumnFamily<
   private final KeyType keyInstance;
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
+  private final HotRecordCache cache;
+  private final List<byte[]> multiGetKeys = new ArrayList<>();
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -61,6 +68,28 @@ class TransactionalColumnFamily<
       final TransactionContext context,
       final KeyType keyInstance,
       final ValueType valueInstance) {
+    this(
+        transactionDb,
+        consistencyChecksSettings,
+        columnFamily,
+        context,
+        keyInstance,
+        valueInstance,
+        null);
+  }
+
+  /**
+   * @param cache the hot record cache of this column family, or null to always read from the
+   *     database
+   */
+  TransactionalColumnFamily(
+      final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final ColumnFamilyNames columnFamily,
+      final TransactionContext context,
+      final KeyType keyInstance,
+      final ValueType valueInstance,
+      final HotRecordCache cache) {
     this.transactionDb = transactionDb;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
@@ -69,6 +98,7 @@ class TransactionalColumnFamily<
     this.valueInstance = valueInstance;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.ordinal());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
+    this.cache = cache;
   }
 
   @Override
@@ -86,6 +116,7 @@ class TransactionalColumnFamily<
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
               value.getLength());
+          addPendingCacheWrite(transaction, value.getLength());
         });
   }
 
@@ -103,6 +134,7 @@ class TransactionalColumnFamily<
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
               value.getLength());
+          addPendingCacheWrite(transaction, value.getLength());
         });
   }
 
@@ -119,6 +151,7 @@ class TransactionalColumnFamily<
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
               value.getLength());
+          addPendingCacheWrite(transaction, value.getLength());
         });
   }
 
@@ -127,12 +160,7 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(
         transaction -> {
           columnFamilyContext.writeKey(key);
-          final byte[] value =
-              transaction.get(
-                  transactionDb.getDefaultNativeHandle(),
-                  transactionDb.getReadOptionsNativeHandle(),
-                  columnFamilyContext.getKeyBufferArray(),
-                  columnFamilyContext.getKeyLength());
+          final byte[] value = getValue(transaction);
           columnFamilyContext.wrapValueView(value);
         });
     final var valueBuffer = columnFamilyContext.getValueView();
@@ -143,6 +171,31 @@ class TransactionalColumnFamily<
     return null;
   }
 
+  @Override
+  public <T> void multiGet(
+      final List<T> items,
+      final Function<T, KeyType> keyMapper,
+      final BiConsumer<T, ValueType> visitor) {
+    if (items.isEmpty()) {
+      return;
+    }
+
+    ensureInOpenTransaction(
+        transaction -> {
+          final byte[][] values = getValues(transaction, items, keyMapper);
+          for (int i = 0; i < values.length; i++) {
+            columnFamilyContext.wrapValueView(values[i]);
+            final var valueBuffer = columnFamilyContext.getValueView();
+            if (valueBuffer != null) {
+              valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+              visitor.accept(items.get(i), valueInstance);
+            } else {
+              visitor.accept(items.get(i), null);
+            }
+          }
+        });
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -215,6 +268,7 @@ class TransactionalColumnFamily<
               transactionDb.getDefaultNativeHandle(),
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength());
+          addPendingCacheDelete(transaction);
         });
   }
 
@@ -227,6 +281,7 @@ class TransactionalColumnFamily<
               transactionDb.getDefaultNativeHandle(),
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength());
+          addPendingCacheDelete(transaction);
         });
   }
 
@@ -235,12 +290,7 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(
         transaction -> {
           columnFamilyContext.writeKey(key);
-          final byte[] value =
-              transaction.get(
-                  transactionDb.getDefaultNativeHandle(),
-                  transactionDb.getReadOptionsNativeHandle(),
-                  columnFamilyContext.getKeyBufferArray(),
-                  columnFamilyContext.getKeyLength());
+          final byte[] value = getValue(transaction);
           columnFamilyContext.wrapValueView(value);
         });
     return !columnFamilyContext.isValueViewEmpty();
@@ -271,6 +321,120 @@ class TransactionalColumnFamily<
     return countEachInPrefix(prefix);
   }
 
+  /**
+   * Reads the value of the key in the column family context. If the column family has a hot record
+   * cache, the writes of the current transaction are looked up first, then the committed values in
+   * the cache, and only then the database.
+   */
+  private byte[] getValue(final ZeebeTransaction transaction) throws Exception {
+    if (cache == null) {
+      return getFromDatabase(transaction);
+    }
+
+    final var cacheKey = currentCacheKey();
+    final var pendingValue = transaction.getPendingCacheWrite(cache, cacheKey);
+    if (pendingValue != null) {
+      return pendingValue == HotRecordCache.ABSENT ? null : pendingValue;
+    }
+
+    final var cachedValue = cache.get(cacheKey);
+    if (cachedValue != null) {
+      return cachedValue == HotRecordCache.ABSENT ? null : cachedValue;
+    }
+
+    final var readVersion = cache.getVersion();
+    final var value = getFromDatabase(transaction);
+    cache.putIfUnchanged(readVersion, cacheKey, value != null ? value : HotRecordCache.ABSENT);
+    return value;
+  }
+
+  /**
+   * Reads the values of the keys of all given items. Like {@link #getValue(ZeebeTransaction)}, the
+   * writes of the current transaction and the hot record cache are looked up first, all remaining
+   * keys are read from the database with a single multi get.
+   */
+  private <T> byte[][] getValues(
+      final ZeebeTransaction transaction,
+      final List<T> items,
+      final Function<T, KeyType> keyMapper)
+      throws Exception {
+    final int count = items.size();
+    final byte[][] values = new byte[count][];
+    final CacheKey[] cacheKeys = cache != null ? new CacheKey[count] : null;
+    final int[] missingIndexes = new int[count];
+    int missingCount = 0;
+
+    try {
+      for (int i = 0; i < count; i++) {
+        columnFamilyContext.writeKey(keyMapper.apply(items.get(i)));
+
+        if (cache != null) {
+          final var cacheKey = currentCacheKey();
+          final var pendingValue = transaction.getPendingCacheWrite(cache, cacheKey);
+          final var knownValue = pendingValue != null ? pendingValue : cache.get(cacheKey);
+          if (knownValue != null) {
+            values[i] = knownValue == HotRecordCache.ABSENT ? null : knownValue;
+            continue;
+          }
+          cacheKeys[i] = cacheKey;
+        }
+
+        // the JNI call reads the whole array, so the key has to be copied to an exact size array
+        multiGetKeys.add(
+            Arrays.copyOf(
+                columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()));
+        missingIndexes[missingCount++] = i;
+      }
+
+      if (missingCount == 0) {
+        return values;
+      }
+
+      final var readVersion = cache != null ? cache.getVersion() : 0L;
+      final var readValues =
+          transaction.multiGet(
+              transactionDb.getDefaultHandle(), transactionDb.getReadOptions(), multiGetKeys);
+      for (int j = 0; j < missingCount; j++) {
+        final int index = missingIndexes[j];
+        final var value = readValues.get(j);
+        values[index] = value;
+        if (cache != null) {
+          cache.putIfUnchanged(
+              readVersion, cacheKeys[index], value != null ? value : HotRecordCache.ABSENT);
+        }
+      }
+      return values;
+    } finally {
+      multiGetKeys.clear();
+    }
+  }
+
+  private byte[] getFromDatabase(final ZeebeTransaction transaction) throws Exception {
+    return transaction.get(
+        transactionDb.getDefaultNativeHandle(),
+        transactionDb.getReadOptionsNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+  }
+
+  private void addPendingCacheWrite(final ZeebeTransaction transaction, final int valueLength) {
+    if (cache != null) {
+      final var value = Arrays.copyOf(columnFamilyContext.getValueBufferArray(), valueLength);
+      transaction.addPendingCacheWrite(cache, currentCacheKey(), value);
+    }
+  }
+
+  private void addPendingCacheDelete(final ZeebeTransaction transaction) {
+    if (cache != null) {
+      transaction.addPendingCacheWrite(cache, currentCacheKey(), HotRecordCache.ABSENT);
+    }
+  }
+
+  private CacheKey currentCacheKey() {
+    return CacheKey.copyOf(
+        columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+  }
+
   private void assertForeignKeysExist(final ZeebeTransaction transaction, final Object... keys)
       throws Exception {
     if (!consistencyChecksSettings.enableForeignKeyChecks()) {
@@ -12,6 +12,12 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.HotRecordCache.CacheKey;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -24,8 +30,14 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
 
+  /** Writes of this transaction to column families with a hot record cache, per cache. */
+  private final Map<HotRecordCache, Map<CacheKey, byte[]>> pendingCacheWrites =
+      new IdentityHashMap<>();
+
   private boolean inCurrentTransaction;
   private Transaction transaction;
+  private long readCount;
+  private long writeCount;
 
   public ZeebeTransaction(
       final Transaction transaction, final TransactionRenovator transactionRenovator) {
@@ -45,6 +57,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] value,
       final int valueLength)
       throws Exception {
+    writeCount++;
     try {
       RocksDbInternal.putWithHandle.invokeExact(
           transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
@@ -59,6 +72,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] key,
       final int keyLength)
       throws Exception {
+    readCount++;
     try {
       return (byte[])
           RocksDbInternal.getWithHandle.invokeExact(
@@ -69,8 +83,25 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Reads the values of all given keys with a single call. The reads see the uncommitted writes of
+   * this transaction.
+   *
+   * @return the values in the order of the given keys, null for keys which do not exist
+   */
+  public List<byte[]> multiGet(
+      final ColumnFamilyHandle columnFamilyHandle,
+      final ReadOptions readOptions,
+      final List<byte[]> keys)
+      throws RocksDBException {
+    readCount += keys.size();
+    return transaction.multiGetAsList(
+        readOptions, Collections.nCopies(keys.size(), columnFamilyHandle), keys);
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
+    writeCount++;
     try {
       RocksDbInternal.removeWithHandle.invokeExact(
           transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
@@ -80,12 +111,33 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   }
 
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    readCount++;
     return transaction.getIterator(options, handle);
   }
 
+  /**
+   * Records a write of this transaction, which is applied to the given cache once the transaction
+   * is committed.
+   *
+   * @param value the written value, or {@link HotRecordCache#ABSENT} if the key was deleted
+   */
+  void addPendingCacheWrite(final HotRecordCache cache, final CacheKey key, final byte[] value) {
+    pendingCacheWrites.computeIfAbsent(cache, c -> new HashMap<>()).put(key, value);
+  }
+
+  /**
+   * @return the value written by this transaction, {@link HotRecordCache#ABSENT} if it deleted the
+   *     key, or null if it did not write the key
+   */
+  byte[] getPendingCacheWrite(final HotRecordCache cache, final CacheKey key) {
+    final var writes = pendingCacheWrites.get(cache);
+    return writes != null ? writes.get(key) : null;
+  }
+
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
+    pendingCacheWrites.clear();
   }
 
   boolean isInCurrentTransaction() {
@@ -105,6 +157,16 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public long getReadCount() {
+    return readCount;
+  }
+
+  @Override
+  public long getWriteCount() {
+    return writeCount;
+  }
+
   @Override
   public void commit() throws RocksDBException {
     try {
@@ -134,10 +196,16 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
+
+    if (!pendingCacheWrites.isEmpty()) {
+      pendingCacheWrites.forEach(HotRecordCache::applyCommitted);
+      pendingCacheWrites.clear();
+    }
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    pendingCacheWrites.clear();
     transaction.rollback();
   }
 
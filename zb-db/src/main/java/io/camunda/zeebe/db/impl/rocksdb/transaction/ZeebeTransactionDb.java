@@ -20,7 +20,10 @@ import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.OptimisticTransactionDB;
@@ -46,6 +49,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
+  private final int hotRecordCacheSize;
+  private final Set<String> hotRecordCacheColumnFamilies;
+  private final Map<ColumnFamilyNames, HotRecordCache> hotRecordCaches = new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
@@ -58,6 +64,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
+    hotRecordCacheSize = rocksDbConfiguration.getHotRecordCacheSize();
+    hotRecordCacheColumnFamilies = rocksDbConfiguration.getHotRecordCacheColumnFamilies();
 
     prefixReadOptions =
         new ReadOptions()
@@ -112,6 +120,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return defaultHandle;
   }
 
+  protected ReadOptions getReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
@@ -128,7 +140,30 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
           final KeyType keyInstance,
           final ValueType valueInstance) {
     return new TransactionalColumnFamily<>(
-        this, consistencyChecksSettings, columnFamily, context, keyInstance, valueInstance);
+        this,
+        consistencyChecksSettings,
+        columnFamily,
+        context,
+        keyInstance,
+        valueInstance,
+        getHotRecordCache(columnFamily));
+  }
+
+  /**
+   * Returns the hot record cache of the given column family, which is shared by all instances of
+   * the column family in this database.
+   *
+   * @return the cache, or null if the column family should not be cached
+   */
+  private HotRecordCache getHotRecordCache(final ColumnFamilyNames columnFamily) {
+    if (hotRecordCacheSize <= 0
+        || !(hotRecordCacheColumnFamilies.isEmpty()
+            || hotRecordCacheColumnFamilies.contains(columnFamily.name()))) {
+      return null;
+    }
+
+    return hotRecordCaches.computeIfAbsent(
+        columnFamily, name -> new HotRecordCache(hotRecordCacheSize, name.name()));
   }
 
   @Override
@@ -124,6 +124,26 @@ public final class ColumnFamilyTest {
     assertThat(longValue.getValue()).isEqualTo(12345);
   }
 
+  @Test
+  public void shouldMultiGetValues() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+    final List<Long> actualValues = new ArrayList<>();
+
+    // when
+    columnFamily.multiGet(
+        List.of(3L, 2L, 1L),
+        k -> {
+          key.wrapLong(k);
+          return key;
+        },
+        (k, v) -> actualValues.add(v == null ? null : v.getValue()));
+
+    // then
+    assertThat(actualValues).containsExactly(30L, null, 10L);
+  }
+
   @Test
   public void shouldCheckForExistence() {
     // given
@@ -17,6 +17,7 @@ import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import java.io.File;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -91,6 +92,28 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isTrue();
   }
 
+  @Test
+  public void shouldCountReadsAndWrites() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    final var readCount = transaction.getReadCount();
+    final var writeCount = transaction.getWriteCount();
+
+    // when
+    transaction.run(
+        () -> {
+          oneColumnFamily.upsert(oneKey, oneValue);
+          oneColumnFamily.get(oneKey);
+          oneColumnFamily.deleteIfExists(oneKey);
+        });
+
+    // then
+    assertThat(transaction.getReadCount() - readCount).isEqualTo(1);
+    assertThat(transaction.getWriteCount() - writeCount).isEqualTo(2);
+  }
+
   @Test
   public void shouldStartNewTransaction() throws Exception {
     // given
@@ -254,6 +277,45 @@ public final class DbTransactionTest {
     assertThat(oneColumnFamily.get(oneKey).getValue()).isEqualTo(-1);
   }
 
+  @Test
+  public void shouldMultiGetValuesInTransaction() {
+    // given
+    final Map<Long, Long> actualValues = new HashMap<>();
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    oneColumnFamily.insert(oneKey, oneValue);
+    oneKey.wrapLong(2);
+    oneColumnFamily.insert(oneKey, oneValue);
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(-2);
+          oneColumnFamily.update(oneKey, oneValue);
+          oneKey.wrapLong(2);
+          oneColumnFamily.deleteExisting(oneKey);
+          oneKey.wrapLong(3);
+          oneValue.wrapLong(-3);
+          oneColumnFamily.insert(oneKey, oneValue);
+
+          oneColumnFamily.multiGet(
+              List.of(1L, 2L, 3L),
+              key -> {
+                oneKey.wrapLong(key);
+                return oneKey;
+              },
+              (key, value) -> actualValues.put(key, value == null ? null : value.getValue()));
+        });
+
+    // then
+    final Map<Long, Long> expectedValues = new HashMap<>();
+    expectedValues.put(1L, -2L);
+    expectedValues.put(2L, null);
+    expectedValues.put(3L, -3L);
+    assertThat(actualValues).isEqualTo(expectedValues);
+  }
+
   @Test
   public void shouldFindValueInTransaction() {
     // given
@@ -0,0 +1,222 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.HotRecordCache.CacheKey;
+import io.prometheus.client.CollectorRegistry;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class HotRecordCacheTest {
+
+  @TempDir Path tempDir;
+
+  private ZeebeDb<CacheColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  @BeforeEach
+  void setup() {
+    final var configuration =
+        new RocksDbConfiguration()
+            .setHotRecordCacheSize(10)
+            .setHotRecordCacheColumnFamilies(Set.of(CacheColumnFamilies.CACHED.name()));
+    zeebeDb =
+        new ZeebeRocksDbFactory<CacheColumnFamilies>(
+                configuration, new ConsistencyChecksSettings(true, true))
+            .createDb(tempDir.toFile());
+    transactionContext = zeebeDb.createContext();
+    columnFamily =
+        zeebeDb.createColumnFamily(CacheColumnFamilies.CACHED, transactionContext, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldReadUncommittedWritesOfOwnTransaction() throws Exception {
+    // given
+    final var transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.run(() -> upsert(1, 10));
+
+    // then
+    transaction.run(() -> assertThat(get(1)).isEqualTo(10));
+    transaction.rollback();
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    upsert(1, 10);
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          upsert(1, 20);
+          upsert(2, 20);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(get(2)).isNull();
+  }
+
+  @Test
+  void shouldSeeCommittedWritesOfOtherContext() throws Exception {
+    // given
+    final var otherContext = zeebeDb.createContext();
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(CacheColumnFamilies.CACHED, otherContext, otherKey, otherValue);
+    upsert(1, 10);
+    otherKey.wrapLong(1);
+    assertThat(otherColumnFamily.get(otherKey).getValue()).isEqualTo(10);
+
+    // when
+    upsert(1, 20);
+    key.wrapLong(1);
+    columnFamily.deleteExisting(key);
+    upsert(2, 30);
+
+    // then
+    assertThat(otherColumnFamily.exists(otherKey)).isFalse();
+    otherKey.wrapLong(2);
+    assertThat(otherColumnFamily.get(otherKey).getValue()).isEqualTo(30);
+  }
+
+  @Test
+  void shouldServeRepeatedReadsFromCache() {
+    // given
+    upsert(1, 10);
+    final var hitsBefore = lookups("hit");
+
+    // when
+    get(1);
+    get(1);
+
+    // then
+    assertThat(lookups("hit") - hitsBefore).isEqualTo(2);
+  }
+
+  @Test
+  void shouldMultiGetPendingCachedAndStoredValues() throws Exception {
+    // given
+    upsert(1, 10);
+    upsert(2, 20);
+    final var transaction = transactionContext.getCurrentTransaction();
+    final List<Long> actualValues = new ArrayList<>();
+
+    // when
+    transaction.run(
+        () -> {
+          upsert(3, 30);
+          columnFamily.multiGet(
+              List.of(1L, 2L, 3L, 4L),
+              k -> {
+                key.wrapLong(k);
+                return key;
+              },
+              (k, v) -> actualValues.add(v == null ? null : v.getValue()));
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(actualValues).containsExactly(10L, 20L, 30L, null);
+    final var hitsBefore = lookups("hit");
+    assertThat(get(4)).isNull();
+    assertThat(lookups("hit") - hitsBefore).isEqualTo(1);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntries() {
+    // given
+    final var cache = new HotRecordCache(2, "test");
+    final var first = cacheKey(1);
+    final var second = cacheKey(2);
+    final var third = cacheKey(3);
+    cache.applyCommitted(Map.of(first, new byte[] {1}, second, new byte[] {2}));
+
+    // when
+    cache.get(first);
+    cache.applyCommitted(Map.of(third, new byte[] {3}));
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(first)).containsExactly(1);
+    assertThat(cache.get(second)).isNull();
+    assertThat(cache.get(third)).containsExactly(3);
+  }
+
+  @Test
+  void shouldNotCacheReadValueIfTransactionWasCommittedInBetween() {
+    // given
+    final var cache = new HotRecordCache(2, "test");
+    final var readVersion = cache.getVersion();
+    cache.applyCommitted(Map.of(cacheKey(1), new byte[] {2}));
+
+    // when
+    cache.putIfUnchanged(readVersion, cacheKey(1), new byte[] {1});
+
+    // then
+    assertThat(cache.get(cacheKey(1))).containsExactly(2);
+  }
+
+  private void upsert(final long keyValue, final long valueValue) {
+    key.wrapLong(keyValue);
+    value.wrapLong(valueValue);
+    columnFamily.upsert(key, value);
+  }
+
+  private Long get(final long keyValue) {
+    key.wrapLong(keyValue);
+    final var result = columnFamily.get(key);
+    return result != null ? result.getValue() : null;
+  }
+
+  private static CacheKey cacheKey(final int key) {
+    return CacheKey.copyOf(new byte[] {(byte) key}, 1);
+  }
+
+  private static double lookups(final String result) {
+    final var value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_db_hot_record_cache_lookups_total",
+            new String[] {"columnFamily", "result"},
+            new String[] {CacheColumnFamilies.CACHED.name(), result});
+    return value != null ? value : 0;
+  }
+
+  private enum CacheColumnFamilies {
+    CACHED
+  }
+}